@@ -19,4 +19,14 @@ public interface FlexPointConstants {
     String CODE_VERSION_SELECTOR_NAME = "codeVersionSelector";
     String CODE_TAGS_SELECTOR_NAME = "codeTagsSelector";
 
+    /**
+     * 版本标签键
+     */
+    String VERSION_TAG_KEY = "version";
+
+    /**
+     * 未声明版本标签时的默认版本
+     */
+    String DEFAULT_VERSION = "1.0.0";
+
 } 
\ No newline at end of file
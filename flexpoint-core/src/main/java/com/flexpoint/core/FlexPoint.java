@@ -1,21 +1,31 @@
 package com.flexpoint.core;
 
-import com.flexpoint.common.annotations.FpSelector;
 import com.flexpoint.common.constants.FlexPointConstants;
 import com.flexpoint.common.exception.SelectorNotFoundException;
 import com.flexpoint.core.config.FlexPointConfig;
 import com.flexpoint.core.event.EventPublisher;
 import com.flexpoint.core.ext.ExtAbility;
 import com.flexpoint.core.ext.ExtAbilityRegistry;
-import com.flexpoint.core.ext.proxy.EventPublisherInvocationHandler;
+import com.flexpoint.core.ext.ExtTypeDescriptor;
+import com.flexpoint.core.ext.index.IndexedExtList;
+import com.flexpoint.core.ext.proxy.ExtInvocationDispatcher;
+import com.flexpoint.core.ext.proxy.ExtInvokerTable;
+import com.flexpoint.core.ext.proxy.ExtProxyCache;
+import com.flexpoint.core.ext.proxy.InvokerFactory;
 import com.flexpoint.core.monitor.ExtMetrics;
 import com.flexpoint.core.monitor.ExtMonitor;
+import com.flexpoint.core.monitor.metrics.MetricsExporter;
+import com.flexpoint.core.monitor.sampling.InvocationSampler;
+import com.flexpoint.core.selector.SelectionCache;
 import com.flexpoint.core.selector.Selector;
 import com.flexpoint.core.selector.SelectorRegistry;
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
-import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -40,15 +50,57 @@ public class FlexPoint {
     @Getter
     private final FlexPointConfig flexPointConfig;
 
+    /**
+     * 扩展点代理缓存
+     */
+    private final ExtProxyCache proxyCache;
+
+    /**
+     * 扩展点调用分派器
+     */
+    @Getter
+    private final ExtInvocationDispatcher invocationDispatcher;
+
+    /**
+     * 选择结果缓存，未启用时为null
+     */
+    private final SelectionCache selectionCache;
+
+    /**
+     * 定时指标导出器，由建造者在启用定时导出时创建并启动，未启用时为null
+     */
+    @Getter
+    @Setter(AccessLevel.PACKAGE)
+    private MetricsExporter metricsExporter;
+
     public FlexPoint(ExtAbilityRegistry extAbilityRegistry,
                      ExtMonitor extMonitor,
                      SelectorRegistry selectorRegistry,
                      FlexPointConfig flexPointConfig
+    ) {
+        this(extAbilityRegistry, extMonitor, selectorRegistry, flexPointConfig,
+                InvokerFactory.of(flexPointConfig.getProxy().getInvokerType()));
+    }
+
+    public FlexPoint(ExtAbilityRegistry extAbilityRegistry,
+                     ExtMonitor extMonitor,
+                     SelectorRegistry selectorRegistry,
+                     FlexPointConfig flexPointConfig,
+                     InvokerFactory invokerFactory
     ) {
         this.extAbilityRegistry = extAbilityRegistry;
         this.extMonitor = extMonitor;
         this.selectorRegistry = selectorRegistry;
         this.flexPointConfig = flexPointConfig;
+        FlexPointConfig.MonitorConfig monitorConfig = flexPointConfig.getMonitor();
+        this.invocationDispatcher = extMonitor != null && monitorConfig != null && monitorConfig.isEnabled()
+                && monitorConfig.getSampling() != null && monitorConfig.getSampling().isEnabled()
+                ? new ExtInvocationDispatcher(extMonitor, new InvocationSampler(monitorConfig.getSampling()))
+                : new ExtInvocationDispatcher();
+        this.proxyCache = new ExtProxyCache(invokerFactory, invocationDispatcher);
+        FlexPointConfig.SelectorConfig selectorConfig = flexPointConfig.getSelector();
+        this.selectionCache = selectorConfig != null && selectorConfig.isCacheEnabled()
+                ? new SelectionCache(selectorConfig.getCacheMaxKeysPerType()) : null;
     }
 
     /**
@@ -60,17 +112,24 @@ public class FlexPoint {
      * 通过选择器查找并返回匹配的扩展点实例
      */
     public <T extends ExtAbility> T findAbility(Class<T> extType) {
+        T ability = selectAbility(extType);
+        return ability != null ? getProxy(extType, ability) : null;
+    }
+
+    /**
+     * 通过选择器选择扩展点
+     * 返回未经代理的原始实例，供自行分派调用（如通过 {@link #getInvocationDispatcher()}）的集成方使用
+     */
+    public <T extends ExtAbility> T selectAbility(Class<T> extType) {
         String typeName = extType.getSimpleName();
 
-        // 从扩展点接口的@FpSelector注解获取选择器名称
-        FpSelector selectorAnno = extType.getAnnotation(FpSelector.class);
-        if (selectorAnno == null) {
+        // 从扩展点接口的@FpSelector注解获取选择器名称（按类型缓存）
+        String selectorName = ExtTypeDescriptor.of(extType).getSelectorName();
+        if (selectorName == null) {
             log.warn("扩展点类型[{}]缺少@FpSelector注解", typeName);
             return null;
         }
 
-        String selectorName = selectorAnno.value();
-
         // 发布选择器查找事件
         EventPublisher.publishSelectorFound(selectorName);
 
@@ -82,6 +141,18 @@ public class FlexPoint {
             throw new SelectorNotFoundException(selectorName, typeName);
         }
 
+        // 命中选择结果缓存时跳过选择
+        String routingKey = selectionCache != null ? selector.routingKey() : null;
+        long generation = 0L;
+        if (routingKey != null) {
+            T cached = selectionCache.get(extType, routingKey);
+            if (cached != null) {
+                EventPublisher.publishExtSelected(cached, selectorName);
+                return cached;
+            }
+            generation = selectionCache.currentGeneration();
+        }
+
         List<T> exts = extAbilityRegistry.getAllExtAbility(extType);
         if (exts.isEmpty()) {
             log.warn("未找到扩展点实现: type={}", typeName);
@@ -99,6 +170,10 @@ public class FlexPoint {
             return null;
         }
 
+        if (routingKey != null) {
+            selectionCache.put(extType, routingKey, ability, generation);
+        }
+
         // 发布扩展点选择事件
         EventPublisher.publishExtSelected(ability, selectorName);
 
@@ -107,7 +182,7 @@ public class FlexPoint {
                     typeName, ability.getCode(), selectorName, ability.getClass().getName());
         }
 
-        return getProxy(extType, ability);
+        return ability;
     }
 
     /**
@@ -172,26 +247,18 @@ public class FlexPoint {
             return Collections.emptyList();
         }
 
-        // 构建标签映射
-        Map<String, Object> tagMap = new HashMap<>();
-        for (int i = 0; i < tagsKeyValue.length; i += 2) {
-            if (i + 1 < tagsKeyValue.length) {
-                tagMap.put(tagsKeyValue[i].toString(), tagsKeyValue[i + 1]);
-            }
+        List<T> candidates;
+        if (exts instanceof IndexedExtList) {
+            // 走标签倒排索引求交集
+            candidates = ((IndexedExtList<T>) exts).getByCodeAndTags(code, tagsKeyValue);
+        } else {
+            candidates = filterByCodeAndTags(exts, code, tagsKeyValue);
         }
 
-        List<T> matched = exts.stream()
-                .filter(ext -> code.equals(ext.getCode()))
-                .filter(ext -> {
-                    // 标签匹配逻辑
-                    return tagMap.entrySet().stream()
-                            .allMatch(entry -> {
-                                Object extValue = ext.getTags().get(entry.getKey());
-                                return entry.getValue().equals(extValue);
-                            });
-                })
-                .map(ext -> getProxy(extType, ext))
-                .collect(Collectors.toList());
+        List<T> matched = new ArrayList<>(candidates.size());
+        for (T ext : candidates) {
+            matched.add(getProxy(extType, ext));
+        }
 
         if (!matched.isEmpty()) {
             // 发布扩展点选择事件
@@ -240,13 +307,43 @@ public class FlexPoint {
      */
     public void register(ExtAbility ext) {
         extAbilityRegistry.register(ext);
+        proxyCache.put(ext);
+        invalidateSelectionCache();
     }
     
+    /**
+     * 批量注册扩展点
+     * 注册中心一次性重建索引并原子生效
+     */
+    public void registerAll(Collection<? extends ExtAbility> exts) {
+        extAbilityRegistry.registerAll(exts);
+        proxyCache.putAll(exts);
+        invalidateSelectionCache();
+    }
+
+    /**
+     * 批量替换扩展点，适用于整体重新部署某个租户的扩展点
+     */
+    public void replaceAll(Collection<? extends ExtAbility> removed, Collection<? extends ExtAbility> added) {
+        extAbilityRegistry.replaceAll(removed, added);
+        proxyCache.replaceAll(removed, added);
+        invalidateSelectionCache();
+    }
+
     /**
      * 注销扩展点
      */
     public void unregister(ExtAbility ext) {
         extAbilityRegistry.unregister(ext);
+        proxyCache.evict(ext);
+        invalidateSelectionCache();
+    }
+
+    /**
+     * 获取扩展点类型的方法调用表
+     */
+    public ExtInvokerTable getInvokerTable(Class<?> extType) {
+        return proxyCache.getInvokerTable(extType);
     }
 
     /**
@@ -258,6 +355,7 @@ public class FlexPoint {
      */
     public void registerSelector(Selector selector) {
         selectorRegistry.register(selector);
+        invalidateSelectionCache();
     }
 
     /**
@@ -265,6 +363,7 @@ public class FlexPoint {
      */
     public void unregisterSelector(String selectorName) {
         selectorRegistry.unregister(selectorName);
+        invalidateSelectionCache();
     }
 
     /**
@@ -274,6 +373,16 @@ public class FlexPoint {
         return selectorRegistry.has(selectorName);
     }
 
+    /**
+     * 使选择结果缓存失效
+     * 绕过FlexPoint直接修改注册中心或选择器时需手动调用
+     */
+    public void invalidateSelectionCache() {
+        if (selectionCache != null) {
+            selectionCache.invalidate();
+        }
+    }
+
     /**
      * ==================monitor==================
      */
@@ -293,17 +402,33 @@ public class FlexPoint {
     }
 
     /**
-     * 创建扩展点代理
-     * 集成监控和事件发布功能
+     * 按code和标签逐个比较过滤，用于不携带索引的候选列表
+     */
+    private <T extends ExtAbility> List<T> filterByCodeAndTags(List<T> exts, String code, Object... tagsKeyValue) {
+        // 构建标签映射
+        Map<String, Object> tagMap = new HashMap<>();
+        for (int i = 0; i < tagsKeyValue.length; i += 2) {
+            if (i + 1 < tagsKeyValue.length) {
+                tagMap.put(tagsKeyValue[i].toString(), tagsKeyValue[i + 1]);
+            }
+        }
+
+        return exts.stream()
+                .filter(ext -> code.equals(ext.getCode()))
+                .filter(ext -> {
+                    // 标签匹配逻辑
+                    return tagMap.entrySet().stream()
+                            .allMatch(entry -> ext.getTags().has(entry.getKey(), entry.getValue()));
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 获取扩展点代理
+     * 优先复用注册时创建的代理，集成监控和事件发布功能
      */
     private <T extends ExtAbility> T getProxy(Class<T> extType, T ability) {
-        @SuppressWarnings("unchecked")
-        T proxyInstance = (T) Proxy.newProxyInstance(
-                ability.getClass().getClassLoader(),
-                new Class[]{extType},
-                new EventPublisherInvocationHandler(ability)
-        );
-        return proxyInstance;
+        return proxyCache.getProxy(extType, ability);
     }
 
 }
\ No newline at end of file
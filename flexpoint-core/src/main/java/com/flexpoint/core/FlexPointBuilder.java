@@ -2,14 +2,23 @@ package com.flexpoint.core;
 
 import com.flexpoint.core.config.FlexPointConfig;
 import com.flexpoint.core.config.FlexPointConfigValidator;
+import com.flexpoint.core.event.EventBus;
+import com.flexpoint.core.event.EventPublisher;
 import com.flexpoint.core.ext.DefaultExtAbilityRegistry;
 import com.flexpoint.core.ext.ExtAbilityRegistry;
+import com.flexpoint.core.ext.proxy.InvokerFactory;
 import com.flexpoint.core.monitor.ExtMonitor;
 import com.flexpoint.core.monitor.MonitorFactory;
+import com.flexpoint.core.monitor.handler.MetricsHandler;
+import com.flexpoint.core.monitor.metrics.MetricsCollector;
+import com.flexpoint.core.monitor.metrics.MetricsExporter;
+import com.flexpoint.core.monitor.subscribers.MonitorEventSubscriber;
 import com.flexpoint.core.selector.DefaultSelectorRegistry;
 import com.flexpoint.core.selector.SelectorRegistry;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.List;
+
 /**
  * 扩展点管理器建造者
  * 提供流式API来构建和配置FlexPoint实例
@@ -24,6 +33,9 @@ public class FlexPointBuilder {
     private ExtMonitor monitor;
     private SelectorRegistry selectorRegistry;
     private FlexPointConfig config;
+    private InvokerFactory invokerFactory;
+    private List<MetricsCollector> collectors;
+    private EventBus eventBus;
     
     /**
      * 使用默认组件构建
@@ -65,6 +77,33 @@ public class FlexPointBuilder {
         return this;
     }
 
+    /**
+     * 使用自定义方法调用器工厂
+     */
+    public FlexPointBuilder withInvokerFactory(InvokerFactory invokerFactory) {
+        this.invokerFactory = invokerFactory;
+        return this;
+    }
+
+    /**
+     * 使用指标采集器
+     * 未启用定时导出时每次调用实时采集，启用时由定时导出器按批次采集；指定了自定义监控器时不生效
+     */
+    public FlexPointBuilder withCollectors(List<MetricsCollector> collectors) {
+        this.collectors = collectors;
+        return this;
+    }
+
+    /**
+     * 使用事件总线
+     * 构建时设置为全局事件总线，并与Spring Boot自动配置相同地注册监控事件订阅者，
+     * 启用调用采样时调用结果已由分派器直接记录，不再注册
+     */
+    public FlexPointBuilder withEventBus(EventBus eventBus) {
+        this.eventBus = eventBus;
+        return this;
+    }
+
     /**
      * 使用配置
      */
@@ -93,15 +132,39 @@ public class FlexPointBuilder {
             registry = FlexPointComponentCreator.createRegistry(config.getRegistry());
         }
 
-        if (monitor == null) {
+        MetricsExporter exporter = null;
+        if (monitor == null && collectors != null && !collectors.isEmpty()) {
+            // 与Spring Boot自动配置相同：本地指标处理器 + 实时采集或定时导出
+            MetricsHandler metricsHandler = new MetricsHandler(config.getMonitor().getDimension());
+            monitor = MonitorFactory.createMonitor(config.getMonitor(),
+                    MonitorFactory.createHandlerChain(config.getMonitor(), metricsHandler, collectors));
+            exporter = MonitorFactory.createExporter(config.getMonitor(), metricsHandler, collectors);
+        } else if (monitor == null) {
             monitor = FlexPointComponentCreator.createMonitor(config.getMonitor());
+        } else if (collectors != null && !collectors.isEmpty()) {
+            log.warn("已指定自定义监控器，指标采集器不生效");
         }
         
         if (selectorRegistry == null) {
             selectorRegistry = FlexPointComponentCreator.createSelectorRegistry();
         }
         
-        return new FlexPoint(registry, monitor, selectorRegistry, config);
+        if (invokerFactory == null) {
+            invokerFactory = InvokerFactory.of(config.getProxy().getInvokerType());
+        }
+        
+        FlexPoint flexPoint = new FlexPoint(registry, monitor, selectorRegistry, config, invokerFactory);
+        if (exporter != null) {
+            exporter.start();
+            flexPoint.setMetricsExporter(exporter);
+        }
+        if (eventBus != null) {
+            EventPublisher.setEventBus(eventBus);
+            if (!flexPoint.getInvocationDispatcher().isRecordingMetrics()) {
+                eventBus.subscribe(new MonitorEventSubscriber(monitor));
+            }
+        }
+        return flexPoint;
     }
 
     /**
@@ -1,6 +1,16 @@
 package com.flexpoint.core.config;
 
+import com.flexpoint.core.event.EventBusType;
+import com.flexpoint.core.event.EventPartitionKey;
+import com.flexpoint.core.event.OverflowPolicy;
+import com.flexpoint.core.event.ring.WaitStrategyType;
+import com.flexpoint.core.ext.proxy.InvokerType;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Flex Point框架配置
@@ -26,6 +36,21 @@ public class FlexPointConfig {
      * 注册配置
      */
     private RegistryConfig registry = new RegistryConfig();
+
+    /**
+     * 代理配置
+     */
+    private ProxyConfig proxy = new ProxyConfig();
+
+    /**
+     * 选择器配置
+     */
+    private SelectorConfig selector = new SelectorConfig();
+
+    /**
+     * 事件配置
+     */
+    private EventConfig event = new EventConfig();
     
     /**
      * 监控配置
@@ -63,27 +88,161 @@ public class FlexPointConfig {
         private boolean asyncEnabled = false;
         
         /**
-         * 异步处理队列大小
+         * 异步监控缓冲区大小，向上取整为2的幂
          */
         private int asyncQueueSize = 1000;
         
         /**
          * 异步监控核心线程数
+         * @deprecated 异步监控由单个消费线程处理，此配置不再生效，将在后续版本移除
          */
+        @Deprecated
         private int asyncCorePoolSize = 2;
         
         /**
          * 异步监控最大线程数
+         * @deprecated 异步监控由单个消费线程处理，此配置不再生效，将在后续版本移除
          */
+        @Deprecated
         private int asyncMaxPoolSize = 4;
         
         /**
          * 异步监控线程保活时间（秒）
+         * @deprecated 异步监控由单个消费线程处理，此配置不再生效，将在后续版本移除
          */
+        @Deprecated
         private long asyncKeepAliveTime = 60L;
+
+        /**
+         * 异步监控缓冲区满时的溢出策略，仅支持DROP_NEWEST（丢弃新记录）和BLOCK（在超时时间内等待）
+         */
+        private OverflowPolicy asyncOverflowPolicy = OverflowPolicy.DROP_NEWEST;
+
+        /**
+         * 异步监控BLOCK策略的最长等待时间（毫秒）
+         */
+        private long asyncBlockTimeoutMillis = 100L;
+
+        /**
+         * 异步监控消费线程的空闲等待策略
+         */
+        private WaitStrategyType asyncWaitStrategy = WaitStrategyType.SLEEPING;
+
+        /**
+         * 调用事件采样配置
+         */
+        private SamplingConfig sampling = new SamplingConfig();
+
+        /**
+         * 指标维度配置
+         */
+        private DimensionConfig dimension = new DimensionConfig();
+
+        /**
+         * 指标导出配置
+         */
+        private ExportConfig export = new ExportConfig();
         
     }
+
+    /**
+     * 指标导出配置
+     * 默认关闭，采集器在每次调用时实时采集；启用后采集器由定时导出器按批次调用，不再实时采集
+     */
+    @Data
+    public static class ExportConfig {
+
+        /**
+         * 是否启用定时导出
+         */
+        private boolean enabled = false;
+
+        /**
+         * 导出间隔（毫秒）
+         */
+        private long intervalMillis = 10000L;
+
+    }
+
+    /**
+     * 指标维度配置
+     * 在扩展点总指标之外按方法名和业务标识分别统计，超过上限的取值合并到 other 维度
+     */
+    @Data
+    public static class DimensionConfig {
+
+        /**
+         * 是否按方法名统计
+         */
+        private boolean methodEnabled = true;
+
+        /**
+         * 是否按业务标识统计
+         */
+        private boolean codeEnabled = true;
+
+        /**
+         * 每个扩展点最多统计的方法数
+         */
+        private int maxMethodsPerExt = 32;
+
+        /**
+         * 每个扩展点最多统计的业务标识数
+         */
+        private int maxCodesPerExt = 32;
+
+    }
     
+    /**
+     * 调用事件采样规则
+     */
+    @Data
+    public static class SamplingRule {
+
+        /**
+         * 采样比例，取值0到1
+         */
+        private double rate = 1.0;
+
+        /**
+         * 每秒最多采样的调用数，0表示不限制
+         */
+        private int maxEventsPerSecond = 0;
+
+        /**
+         * 异常调用是否总是发布事件
+         */
+        private boolean keepErrors = true;
+
+        /**
+         * 慢调用阈值（毫秒），耗时不低于该值的调用总是发布事件，0表示不启用
+         */
+        private long slowThresholdMillis = 0L;
+
+    }
+
+    /**
+     * 调用事件采样配置
+     * 启用后调用计数由调用分派器直接写入监控器，保证精确；调用前后的明细事件按规则采样发布。
+     * 自身字段为默认规则，types按扩展点类型全限定名或简单类名覆盖
+     */
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    @ToString(callSuper = true)
+    public static class SamplingConfig extends SamplingRule {
+
+        /**
+         * 是否启用调用事件采样
+         */
+        private boolean enabled = false;
+
+        /**
+         * 扩展点类型 -> 采样规则
+         */
+        private Map<String, SamplingRule> types = new HashMap<>();
+
+    }
+
     /**
      * 注册配置
      */
@@ -97,6 +256,87 @@ public class FlexPointConfig {
 
     }
 
+    /**
+     * 代理配置
+     */
+    @Data
+    public static class ProxyConfig {
+
+        /**
+         * 扩展点方法调用器类型：REFLECTIVE、METHOD_HANDLE 或 GENERATED
+         */
+        private InvokerType invokerType = InvokerType.METHOD_HANDLE;
+
+    }
+
+    /**
+     * 选择器配置
+     */
+    @Data
+    public static class SelectorConfig {
+
+        /**
+         * 是否启用选择结果缓存
+         * 仅对提供路由键的选择器生效，注册、注销扩展点或选择器时自动失效
+         */
+        private boolean cacheEnabled = false;
+
+        /**
+         * 每个扩展点类型最多缓存的路由键数量，超出后清空该类型缓存
+         */
+        private int cacheMaxKeysPerType = 1024;
+
+    }
+
+    /**
+     * 事件配置
+     */
+    @Data
+    public static class EventConfig {
+
+        /**
+         * 事件总线类型
+         */
+        private EventBusType busType = EventBusType.DEFAULT;
+
+        /**
+         * 异步事件队列容量，环形缓冲区会向上取整为2的幂
+         */
+        private int asyncQueueCapacity = 8192;
+
+        /**
+         * 异步事件通道数，仅对默认事件总线生效
+         * 每条通道由单个线程按顺序消费，队列容量在各通道间平分
+         */
+        private int asyncWorkers = 4;
+
+        /**
+         * 异步事件分区键，相同分区键的事件进入同一条通道并保持发布顺序
+         */
+        private EventPartitionKey partitionKey = EventPartitionKey.EXT_ID;
+
+        /**
+         * 异步队列满时的溢出策略
+         */
+        private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_NEWEST;
+
+        /**
+         * BLOCK策略的最长等待时间（毫秒）
+         */
+        private long blockTimeoutMillis = 100L;
+
+        /**
+         * SAMPLE策略的采样间隔，每N个溢出事件处理1个
+         */
+        private int sampleInterval = 10;
+
+        /**
+         * 环形缓冲区事件总线的消费者等待策略
+         */
+        private WaitStrategyType waitStrategy = WaitStrategyType.SLEEPING;
+
+    }
+
     /**
      * 创建默认配置
      */
@@ -1,6 +1,7 @@
 package com.flexpoint.core.config;
 
 import com.flexpoint.common.exception.FlexPointConfigException;
+import com.flexpoint.core.event.OverflowPolicy;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -38,6 +39,15 @@ public class FlexPointConfigValidator {
             
             // 验证注册配置
             validateRegistryConfiguration(config.getRegistry());
+
+            // 验证代理配置
+            validateProxyConfiguration(config);
+
+            // 验证选择器配置
+            validateSelectorConfiguration(config);
+
+            // 验证事件配置
+            validateEventConfiguration(config);
             
             // 验证配置一致性
             validateConfigurationConsistency(config);
@@ -90,6 +100,26 @@ public class FlexPointConfigValidator {
                 }
             }
             
+            // 异步监控只支持丢弃新记录和阻塞等待两种溢出策略
+            OverflowPolicy asyncPolicy = monitor.getAsyncOverflowPolicy();
+            if (asyncPolicy != null && asyncPolicy != OverflowPolicy.DROP_NEWEST && asyncPolicy != OverflowPolicy.BLOCK) {
+                throw FlexPointConfigException.invalidValue("monitor", "asyncOverflowPolicy",
+                    asyncPolicy.name(), "DROP_NEWEST或BLOCK");
+            }
+
+            // 验证采样配置
+            validateSamplingConfiguration(monitor.getSampling());
+
+            // 验证指标维度配置
+            validateDimensionConfiguration(monitor.getDimension());
+
+            // 验证指标导出配置
+            FlexPointConfig.ExportConfig export = monitor.getExport();
+            if (export != null && export.isEnabled() && export.getIntervalMillis() <= 0) {
+                throw FlexPointConfigException.invalidValue("monitor.export", "intervalMillis",
+                    String.valueOf(export.getIntervalMillis()), "正整数");
+            }
+
             // 如果启用了性能统计，但禁用了调用日志，给出警告
             if (monitor.isPerformanceStatsEnabled() && !monitor.isLogInvocation()) {
                 log.warn("性能统计已启用但调用日志已禁用，可能影响监控效果");
@@ -116,6 +146,57 @@ public class FlexPointConfigValidator {
                 monitor.isAsyncEnabled(), monitor.getAsyncQueueSize());
     }
     
+    /**
+     * 验证采样配置
+     */
+    private static void validateSamplingConfiguration(FlexPointConfig.SamplingConfig sampling) {
+        if (sampling == null || !sampling.isEnabled()) {
+            return;
+        }
+        validateSamplingRule("default", sampling);
+        if (sampling.getTypes() != null) {
+            sampling.getTypes().forEach(FlexPointConfigValidator::validateSamplingRule);
+        }
+        log.debug("采样配置验证通过: rate={}, maxEventsPerSecond={}, types={}",
+            sampling.getRate(), sampling.getMaxEventsPerSecond(),
+            sampling.getTypes() != null ? sampling.getTypes().keySet() : null);
+    }
+
+    /**
+     * 验证指标维度配置
+     */
+    private static void validateDimensionConfiguration(FlexPointConfig.DimensionConfig dimension) {
+        if (dimension == null) {
+            return;
+        }
+        if (dimension.isMethodEnabled() && dimension.getMaxMethodsPerExt() <= 0) {
+            throw FlexPointConfigException.invalidValue("monitor.dimension", "maxMethodsPerExt",
+                String.valueOf(dimension.getMaxMethodsPerExt()), "正整数");
+        }
+        if (dimension.isCodeEnabled() && dimension.getMaxCodesPerExt() <= 0) {
+            throw FlexPointConfigException.invalidValue("monitor.dimension", "maxCodesPerExt",
+                String.valueOf(dimension.getMaxCodesPerExt()), "正整数");
+        }
+    }
+
+    private static void validateSamplingRule(String name, FlexPointConfig.SamplingRule rule) {
+        if (rule == null) {
+            throw FlexPointConfigException.missingConfig("monitor.sampling", name);
+        }
+        if (rule.getRate() < 0 || rule.getRate() > 1) {
+            throw FlexPointConfigException.invalidValue("monitor.sampling", name + ".rate",
+                String.valueOf(rule.getRate()), "0到1之间的小数");
+        }
+        if (rule.getMaxEventsPerSecond() < 0) {
+            throw FlexPointConfigException.invalidValue("monitor.sampling", name + ".maxEventsPerSecond",
+                String.valueOf(rule.getMaxEventsPerSecond()), "非负整数");
+        }
+        if (rule.getSlowThresholdMillis() < 0) {
+            throw FlexPointConfigException.invalidValue("monitor.sampling", name + ".slowThresholdMillis",
+                String.valueOf(rule.getSlowThresholdMillis()), "非负整数");
+        }
+    }
+
     /**
      * 验证注册配置
      */
@@ -133,6 +214,76 @@ public class FlexPointConfigValidator {
         }
     }
     
+    /**
+     * 验证代理配置
+     */
+    private static void validateProxyConfiguration(FlexPointConfig config) {
+        if (config.getProxy() == null) {
+            log.warn("代理配置为空，使用默认配置");
+            config.setProxy(new FlexPointConfig.ProxyConfig());
+        }
+        if (config.getProxy().getInvokerType() == null) {
+            throw FlexPointConfigException.missingConfig("proxy", "invokerType");
+        }
+
+        log.debug("代理配置验证通过: invokerType={}", config.getProxy().getInvokerType());
+    }
+    
+    /**
+     * 验证选择器配置
+     */
+    private static void validateSelectorConfiguration(FlexPointConfig config) {
+        if (config.getSelector() == null) {
+            log.warn("选择器配置为空，使用默认配置");
+            config.setSelector(new FlexPointConfig.SelectorConfig());
+        }
+        if (config.getSelector().getCacheMaxKeysPerType() <= 0) {
+            throw FlexPointConfigException.invalidValue("selector", "cacheMaxKeysPerType",
+                String.valueOf(config.getSelector().getCacheMaxKeysPerType()), "正整数");
+        }
+
+        log.debug("选择器配置验证通过: cacheEnabled={}", config.getSelector().isCacheEnabled());
+    }
+
+    /**
+     * 验证事件配置
+     */
+    private static void validateEventConfiguration(FlexPointConfig config) {
+        if (config.getEvent() == null) {
+            log.warn("事件配置为空，使用默认配置");
+            config.setEvent(new FlexPointConfig.EventConfig());
+        }
+        FlexPointConfig.EventConfig event = config.getEvent();
+        if (event.getBusType() == null) {
+            throw FlexPointConfigException.missingConfig("event", "busType");
+        }
+        if (event.getPartitionKey() == null) {
+            throw FlexPointConfigException.missingConfig("event", "partitionKey");
+        }
+        if (event.getOverflowPolicy() == null) {
+            throw FlexPointConfigException.missingConfig("event", "overflowPolicy");
+        }
+        if (event.getAsyncQueueCapacity() <= 0) {
+            throw FlexPointConfigException.invalidValue("event", "asyncQueueCapacity",
+                String.valueOf(event.getAsyncQueueCapacity()), "正整数");
+        }
+        if (event.getAsyncWorkers() <= 0) {
+            throw FlexPointConfigException.invalidValue("event", "asyncWorkers",
+                String.valueOf(event.getAsyncWorkers()), "正整数");
+        }
+        if (event.getSampleInterval() <= 0) {
+            throw FlexPointConfigException.invalidValue("event", "sampleInterval",
+                String.valueOf(event.getSampleInterval()), "正整数");
+        }
+        if (event.getBlockTimeoutMillis() < 0) {
+            throw FlexPointConfigException.invalidValue("event", "blockTimeoutMillis",
+                String.valueOf(event.getBlockTimeoutMillis()), "非负整数");
+        }
+
+        log.debug("事件配置验证通过: busType={}, asyncQueueCapacity={}, overflowPolicy={}",
+            event.getBusType(), event.getAsyncQueueCapacity(), event.getOverflowPolicy());
+    }
+
     /**
      * 验证配置一致性
      */
@@ -190,6 +341,23 @@ public class FlexPointConfigValidator {
             log.info("注册配置:");
             log.info("  启用状态: {}", registry.isEnabled() ? "已启用" : "已禁用");
         }
+
+        if (config.getProxy() != null) {
+            log.info("代理配置:");
+            log.info("  调用器类型: {}", config.getProxy().getInvokerType());
+        }
+
+        if (config.getSelector() != null) {
+            log.info("选择器配置:");
+            log.info("  结果缓存: {}", config.getSelector().isCacheEnabled() ? "已启用" : "已禁用");
+        }
+
+        if (config.getEvent() != null) {
+            log.info("事件配置:");
+            log.info("  总线类型: {}", config.getEvent().getBusType());
+            log.info("  异步队列容量: {}", config.getEvent().getAsyncQueueCapacity());
+            log.info("  溢出策略: {}", config.getEvent().getOverflowPolicy());
+        }
         log.info("========================");
     }
     
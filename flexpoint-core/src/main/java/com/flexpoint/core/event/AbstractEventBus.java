@@ -0,0 +1,342 @@
+package com.flexpoint.core.event;
+
+import com.flexpoint.core.config.FlexPointConfig;
+import com.flexpoint.core.event.filter.EventFilter;
+import com.flexpoint.core.event.router.EventRouter;
+import com.flexpoint.core.event.router.FilterEventRouter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 事件总线抽象基类
+ * 负责订阅者管理、路由、优先级排序和同步分派，异步分派方式由子类决定
+ * 使用默认路由器时按预先编排的事件类型分派表分派，发布时不排序、不创建临时集合
+ * 批量订阅者的事件先进入各自的攒批器，由批量调度线程按批大小或刷新间隔投递，
+ * 攒批器的积压上限与溢出策略沿用异步事件配置
+ *
+ * @author xiangganluo
+ */
+@Slf4j
+public abstract class AbstractEventBus implements EventBus {
+
+    /**
+     * 订阅者列表
+     */
+    protected final List<EventSubscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    /**
+     * 是否已关闭
+     */
+    protected final AtomicBoolean shutdown = new AtomicBoolean(false);
+
+    /**
+     * 事件路由器
+     */
+    private volatile EventRouter eventRouter = new FilterEventRouter();
+
+    /**
+     * 按事件类型预先编排的分派表，订阅者变化时重建
+     */
+    private volatile EventDispatchTable dispatchTable = EventDispatchTable.EMPTY;
+
+    /**
+     * 批量订阅者 -> 攒批器
+     */
+    private final Map<EventSubscriber, EventBatcher> batchers = new ConcurrentHashMap<>();
+
+    /**
+     * 订阅者 -> 投递统计
+     */
+    private final Map<EventSubscriber, SubscriberStats> subscriberStats = new ConcurrentHashMap<>();
+
+    /**
+     * 整体异步发布（{@link #publishAsync(EventContext)}）的统计
+     */
+    protected final SubscriberStats publishStats = new SubscriberStats("publishAsync");
+
+    /**
+     * 批量刷新调度线程，首个批量订阅者订阅时创建
+     */
+    private ScheduledExecutorService batchScheduler;
+
+    /**
+     * 异步事件配置，攒批器的容量与溢出策略取自此配置
+     */
+    private final FlexPointConfig.EventConfig eventConfig;
+
+    protected AbstractEventBus(FlexPointConfig.EventConfig eventConfig) {
+        this.eventConfig = eventConfig;
+    }
+
+    @Override
+    public void publish(EventContext eventContext) {
+        if (shutdown.get()) {
+            log.warn("事件总线已关闭，忽略事件: {}", eventContext.getEventType());
+            return;
+        }
+
+        if (eventContext == null || eventContext.getEventType() == null) {
+            log.warn("事件上下文或事件类型为空，忽略事件");
+            return;
+        }
+
+        if (subscribers.isEmpty()) {
+            return;
+        }
+
+        EventRouter router = eventRouter;
+        if (router.getClass() == FilterEventRouter.class) {
+            // 默认路由器的过滤逻辑已编入分派表，直接遍历
+            dispatch(eventContext);
+            return;
+        }
+
+        // 使用路由器决定哪些订阅者接收此事件
+        List<EventSubscriber> targetSubscribers = router.route(eventContext, subscribers);
+
+        if (targetSubscribers.isEmpty()) {
+            log.debug("事件类型[{}]经过路由后没有匹配的订阅者", eventContext.getEventType());
+            return;
+        }
+
+        // 按优先级排序
+        List<EventSubscriber> sortedSubscribers = targetSubscribers.stream()
+            .filter(EventSubscriber::isEnabled)
+            .sorted(Comparator.comparingInt(EventSubscriber::getPriority))
+            .collect(Collectors.toList());
+
+        for (EventSubscriber subscriber : sortedSubscribers) {
+            deliver(subscriber, eventContext);
+        }
+    }
+
+    @Override
+    public boolean publishIfSynchronous(EventContext eventContext) {
+        if (shutdown.get() || eventContext == null || eventContext.getEventType() == null
+            || eventRouter.getClass() != FilterEventRouter.class) {
+            return false;
+        }
+        // 判断和分派读取同一份分派表，期间新增的异步订阅者不会收到该事件
+        EventDispatchTable table = dispatchTable;
+        if (!table.isSynchronous(eventContext.getEventType())) {
+            return false;
+        }
+        dispatch(table, eventContext);
+        return true;
+    }
+
+    /**
+     * 按分派表分派事件
+     */
+    private void dispatch(EventContext eventContext) {
+        dispatch(dispatchTable, eventContext);
+    }
+
+    private void dispatch(EventDispatchTable table, EventContext eventContext) {
+        EventType eventType = eventContext.getEventType();
+        EventSubscriber[] targets = table.subscribers(eventType);
+        EventFilter[] filters = table.filters(eventType);
+        for (int i = 0; i < targets.length; i++) {
+            EventSubscriber subscriber = targets[i];
+            EventFilter filter = filters[i];
+            if (subscriber.isEnabled() && (filter == null || filter.matches(eventContext))) {
+                deliver(subscriber, eventContext);
+            }
+        }
+    }
+
+    private void deliver(EventSubscriber subscriber, EventContext eventContext) {
+        try {
+            if (subscriber instanceof BatchEventSubscriber) {
+                EventBatcher batcher = batchers.get(subscriber);
+                if (batcher != null) {
+                    batcher.offer(eventContext);
+                    return;
+                }
+            }
+            if (subscriber.isAsync()) {
+                // 异步处理
+                dispatchAsync(subscriber, eventContext);
+            } else {
+                // 同步处理
+                handleEvent(subscriber, eventContext);
+            }
+        } catch (Exception e) {
+            log.error("发布事件失败: eventType={}, subscriber={}",
+                eventContext.getEventType(), subscriber.getName(), e);
+        }
+    }
+
+    /**
+     * 重建分派表
+     * 订阅者的优先级和过滤器在订阅时读取，之后发生变化需重新订阅
+     */
+    protected synchronized void rebuildDispatchTable() {
+        dispatchTable = EventDispatchTable.compile(subscribers);
+    }
+
+    @Override
+    public boolean hasSubscribers(EventType eventType) {
+        if (eventRouter.getClass() == FilterEventRouter.class) {
+            return dispatchTable.hasSubscribers(eventType);
+        }
+        return !subscribers.isEmpty();
+    }
+
+    @Override
+    public boolean isSynchronous(EventType eventType) {
+        return eventRouter.getClass() == FilterEventRouter.class && dispatchTable.isSynchronous(eventType);
+    }
+
+    /**
+     * 将事件异步分派给单个订阅者
+     */
+    protected abstract void dispatchAsync(EventSubscriber subscriber, EventContext eventContext);
+
+    @Override
+    public void subscribe(EventSubscriber subscriber) {
+        if (subscriber == null) {
+            return;
+        }
+        SubscriberStats stats = subscriberStats.computeIfAbsent(subscriber, s -> new SubscriberStats(s.getName()));
+        if (subscriber instanceof BatchEventSubscriber) {
+            batchers.computeIfAbsent(subscriber,
+                s -> new EventBatcher((BatchEventSubscriber) s, batchScheduler(), stats, eventConfig));
+        }
+        subscribers.add(subscriber);
+        rebuildDispatchTable();
+        log.info("订阅成功: subscriber={}", subscriber.getName());
+    }
+
+    @Override
+    public void unsubscribe(EventSubscriber subscriber) {
+        if (subscriber == null) {
+            return;
+        }
+        subscribers.remove(subscriber);
+        rebuildDispatchTable();
+        EventBatcher batcher = batchers.remove(subscriber);
+        if (batcher != null) {
+            batcher.close();
+        }
+        subscriberStats.remove(subscriber);
+        log.info("取消订阅成功: subscriber={}", subscriber.getName());
+    }
+
+    @Override
+    public int getTotalSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @Override
+    public void setEventRouter(EventRouter router) {
+        this.eventRouter = router;
+    }
+
+    @Override
+    public EventRouter getEventRouter() {
+        return eventRouter;
+    }
+
+    @Override
+    public void clear() {
+        subscribers.clear();
+        rebuildDispatchTable();
+        closeBatchers();
+        subscriberStats.clear();
+    }
+
+    /**
+     * 获取全部订阅者的投递统计
+     */
+    public List<SubscriberStats> getSubscriberStats() {
+        return new ArrayList<>(subscriberStats.values());
+    }
+
+    /**
+     * 获取指定订阅者的投递统计，未订阅时返回null
+     */
+    public SubscriberStats getSubscriberStats(EventSubscriber subscriber) {
+        return subscriberStats.get(subscriber);
+    }
+
+    /**
+     * 整体异步发布的统计
+     */
+    public SubscriberStats getPublishStats() {
+        return publishStats;
+    }
+
+    /**
+     * 获取订阅者的统计，subscriber为null时返回整体异步发布的统计
+     */
+    protected SubscriberStats statsOf(EventSubscriber subscriber) {
+        if (subscriber == null) {
+            return publishStats;
+        }
+        SubscriberStats stats = subscriberStats.get(subscriber);
+        // 与取消订阅并发时统计已移除，记入临时对象
+        return stats != null ? stats : new SubscriberStats(subscriber.getName());
+    }
+
+    /**
+     * 获取批量订阅者未投递的事件数量
+     */
+    public int getPendingBatchCount(EventSubscriber subscriber) {
+        EventBatcher batcher = batchers.get(subscriber);
+        return batcher != null ? batcher.getPendingCount() : 0;
+    }
+
+    /**
+     * 投递所有批量订阅者的剩余事件并停止批量调度线程，子类关闭时调用
+     */
+    protected synchronized void closeBatchers() {
+        for (EventSubscriber subscriber : batchers.keySet()) {
+            EventBatcher batcher = batchers.remove(subscriber);
+            if (batcher != null) {
+                batcher.close();
+            }
+        }
+        if (shutdown.get() && batchScheduler != null) {
+            batchScheduler.shutdown();
+            batchScheduler = null;
+        }
+    }
+
+    private synchronized ScheduledExecutorService batchScheduler() {
+        if (batchScheduler == null) {
+            batchScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "flexpoint-batch-event");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        return batchScheduler;
+    }
+
+    /**
+     * 处理单个事件
+     */
+    protected void handleEvent(EventSubscriber subscriber, EventContext eventContext) {
+        long start = System.nanoTime();
+        boolean success = true;
+        try {
+            subscriber.onEvent(eventContext);
+            log.debug("事件处理成功: eventType={}, subscriber={}", eventContext.getEventType(), subscriber.getName());
+        } catch (Exception e) {
+            success = false;
+            log.error("事件处理失败: eventType={}, subscriber={}", eventContext.getEventType(), subscriber.getName(), e);
+        }
+        statsOf(subscriber).onProcessed(System.nanoTime() - start, success);
+    }
+}
@@ -0,0 +1,72 @@
+package com.flexpoint.core.event;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 批量事件订阅者接口
+ * 事件总线为每个批量订阅者单独攒批，达到批大小或超过刷新间隔时在后台线程一次性投递，
+ * 适合需要分摊加锁、IO或指标更新开销的订阅者
+ *
+ * @author xiangganluo
+ */
+public interface BatchEventSubscriber extends EventSubscriber {
+
+    /**
+     * 默认批大小
+     */
+    int DEFAULT_BATCH_SIZE = 128;
+
+    /**
+     * 默认刷新间隔（毫秒）
+     */
+    long DEFAULT_FLUSH_INTERVAL_MILLIS = 200L;
+
+    /**
+     * 批量处理事件
+     * 同一订阅者的批次串行投递，批内事件保持到达顺序
+     *
+     * @param eventContexts 事件上下文列表，处理完成后不得继续持有
+     */
+    void onEvents(List<EventContext> eventContexts);
+
+    /**
+     * 处理单个事件，按只含一个事件的批次处理
+     *
+     * @param eventContext 事件上下文
+     */
+    @Override
+    default void onEvent(EventContext eventContext) {
+        onEvents(Collections.singletonList(eventContext));
+    }
+
+    /**
+     * 获取批大小
+     * 攒够该数量的事件时立即刷新
+     *
+     * @return 批大小
+     */
+    default int getBatchSize() {
+        return DEFAULT_BATCH_SIZE;
+    }
+
+    /**
+     * 获取刷新间隔
+     * 未攒够一批的事件最多等待该时长后刷新
+     *
+     * @return 刷新间隔（毫秒）
+     */
+    default long getFlushIntervalMillis() {
+        return DEFAULT_FLUSH_INTERVAL_MILLIS;
+    }
+
+    /**
+     * 批量订阅者总是在后台线程处理
+     *
+     * @return true
+     */
+    @Override
+    default boolean isAsync() {
+        return true;
+    }
+}
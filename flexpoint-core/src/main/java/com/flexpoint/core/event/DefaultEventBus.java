@@ -1,167 +1,325 @@
 package com.flexpoint.core.event;
 
-import com.flexpoint.core.event.router.EventRouter;
-import com.flexpoint.core.event.router.FilterEventRouter;
+import com.flexpoint.core.config.FlexPointConfig;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.Comparator;
-import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.stream.Collectors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 默认事件总线实现
- * 提供完整的事件发布订阅功能，支持过滤和路由
+ * 提供完整的事件发布订阅功能，支持过滤和路由。异步事件按 {@link EventPartitionKey} 分到多条单线程通道，
+ * 相同分区键的事件按发布顺序处理，各通道独立排队互不竞争；
+ * 通道队列满时按 {@link OverflowPolicy} 处理，丢弃与排队情况记入各订阅者的 {@link SubscriberStats}，
+ * CALLER_RUNS和SAMPLE由调用线程处理的事件不保证顺序；
+ * 在通道线程上分派到同一通道的异步事件（如publishAsync在通道内执行发布）直接在当前线程处理，不再重新排队
  *
  * @author xiangganluo
  */
 @Slf4j
-public class DefaultEventBus implements EventBus {
-    
+public class DefaultEventBus extends AbstractEventBus {
+
     /**
-     * 事件类型 -> 订阅者列表
+     * 异步通道，每条通道为单线程有界线程池；使用外部线程池时只有一条通道
      */
-    private final List<EventSubscriber> subscribers = new CopyOnWriteArrayList<>();
-    
+    private final ExecutorService[] lanes;
+
     /**
-     * 异步处理线程池
+     * 各通道的工作线程，由线程工厂在线程启动前写入；使用外部线程池时为null
      */
-    private final ExecutorService asyncExecutor;
-    
+    private final Thread[] laneThreads;
+
     /**
-     * 是否已关闭
+     * 分区键
      */
-    private final AtomicBoolean shutdown = new AtomicBoolean(false);
-    
+    private final EventPartitionKey partitionKey;
+
     /**
-     * 事件路由器
+     * 溢出策略
      */
-    private EventRouter eventRouter = new FilterEventRouter();
-    
+    private final OverflowPolicy overflowPolicy;
+
+    private final long blockTimeoutNanos;
+
+    private final int sampleInterval;
+
+    private final AtomicLong overflowCounter = new AtomicLong();
+
     public DefaultEventBus() {
-        // TODO 后续需要支持FlexPointConfig进行配置
-        this(Executors.newFixedThreadPool(4, r -> {
-            Thread t = new Thread(r, "flexpoint-async-event-" + Thread.currentThread().getId());
-            t.setDaemon(true);
-            return t;
-        }));
-    }
-    
+        this(new FlexPointConfig.EventConfig());
+    }
+
+    public DefaultEventBus(FlexPointConfig.EventConfig config) {
+        this(new Thread[Math.max(1, config.getAsyncWorkers())], config);
+    }
+
+    /**
+     * 使用外部线程池创建事件总线
+     * 外部线程池作为唯一通道，不保证事件顺序；线程池拒绝任务时按溢出策略处理，
+     * DROP_OLDEST和BLOCK需要 {@link ThreadPoolExecutor}，否则按DROP_NEWEST处理
+     */
     public DefaultEventBus(ExecutorService asyncExecutor) {
-        this.asyncExecutor = asyncExecutor;
+        this(asyncExecutor, new FlexPointConfig.EventConfig());
     }
-    
-    @Override
-    public void publish(EventContext eventContext) {
-        if (shutdown.get()) {
-            log.warn("事件总线已关闭，忽略事件: {}", eventContext.getEventType());
-            return;
-        }
 
-        if (eventContext == null || eventContext.getEventType() == null) {
-            log.warn("事件上下文或事件类型为空，忽略事件");
-            return;
-        }
+    public DefaultEventBus(ExecutorService asyncExecutor, FlexPointConfig.EventConfig config) {
+        this(new ExecutorService[]{asyncExecutor}, new Thread[1], config);
+    }
 
-        if (subscribers.isEmpty()) {
-            return;
-        }
-        
-        // 使用路由器决定哪些订阅者接收此事件
-        List<EventSubscriber> targetSubscribers = eventRouter.route(eventContext, subscribers);
-        
-        if (targetSubscribers.isEmpty()) {
-            log.debug("事件类型[{}]经过路由后没有匹配的订阅者", eventContext.getEventType());
-            return;
-        }
-        
-        // 按优先级排序
-        List<EventSubscriber> sortedSubscribers = targetSubscribers.stream()
-            .filter(EventSubscriber::isEnabled)
-            .sorted(Comparator.comparingInt(EventSubscriber::getPriority))
-            .collect(Collectors.toList());
-        
-        for (EventSubscriber subscriber : sortedSubscribers) {
-            try {
-                if (subscriber.isAsync()) {
-                    // 异步处理
-                    asyncExecutor.submit(() -> handleEvent(subscriber, eventContext));
-                } else {
-                    // 同步处理
-                    handleEvent(subscriber, eventContext);
-                }
-            } catch (Exception e) {
-                log.error("发布事件失败: eventType={}, subscriber={}", 
-                    eventContext.getEventType(), subscriber.getName(), e);
-            }
-        }
+    private DefaultEventBus(Thread[] laneThreads, FlexPointConfig.EventConfig config) {
+        this(newLanes(config, laneThreads), laneThreads, config);
     }
-    
-    @Override
-    public CompletableFuture<Void> publishAsync(EventContext eventContext) {
-        return CompletableFuture.runAsync(() -> publish(eventContext), asyncExecutor);
+
+    private DefaultEventBus(ExecutorService[] lanes, Thread[] laneThreads, FlexPointConfig.EventConfig config) {
+        super(config);
+        this.lanes = lanes;
+        this.laneThreads = laneThreads;
+        this.partitionKey = config.getPartitionKey() != null ? config.getPartitionKey() : EventPartitionKey.EXT_ID;
+        this.overflowPolicy = config.getOverflowPolicy();
+        this.blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(config.getBlockTimeoutMillis());
+        this.sampleInterval = Math.max(1, config.getSampleInterval());
     }
 
-    @Override
-    public void subscribe(EventSubscriber subscriber) {
-        if (subscriber == null) {
-            return;
+    private static ExecutorService[] newLanes(FlexPointConfig.EventConfig config, Thread[] laneThreads) {
+        int laneCount = laneThreads.length;
+        int laneCapacity = Math.max(1, config.getAsyncQueueCapacity() / laneCount);
+        ExecutorService[] lanes = new ExecutorService[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            int laneIndex = i;
+            String threadName = "flexpoint-async-event-" + i;
+            ThreadPoolExecutor lane = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(laneCapacity),
+                r -> {
+                    Thread t = new Thread(r, threadName);
+                    t.setDaemon(true);
+                    // 工作线程异常退出后会重建，始终记录最新的线程
+                    laneThreads[laneIndex] = t;
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+            // 预启动工作线程，BLOCK策略直接向队列写入时才有线程消费
+            lane.prestartAllCoreThreads();
+            lanes[i] = lane;
         }
-        subscribers.add(subscriber);
-        log.info("订阅成功: subscriber={}", subscriber.getName());
+        return lanes;
     }
 
     @Override
-    public void unsubscribe(EventSubscriber subscriber) {
-        if (subscriber == null) {
+    protected void dispatchAsync(EventSubscriber subscriber, EventContext eventContext) {
+        int lane = laneOf(eventContext);
+        if (Thread.currentThread() == laneThreads[lane]) {
+            // 已在目标通道线程上，重新排队只会排到自己身后，直接处理
+            handleEvent(subscriber, eventContext);
             return;
         }
-        subscribers.remove(subscriber);
-        log.info("取消订阅成功: subscriber={}", subscriber.getName());
+        submit(new AsyncEvent(subscriber, eventContext, statsOf(subscriber), null, lane));
     }
-    
-    @Override
-    public int getTotalSubscriberCount() {
-        return subscribers.size();
-    }
-    
-    @Override
-    public void setEventRouter(EventRouter router) {
-        this.eventRouter = router;
-    }
-    
-    @Override
-    public EventRouter getEventRouter() {
-        return eventRouter;
-    }
-    
+
+    /**
+     * 异步发布事件
+     * 事件因溢出被丢弃时返回的结果同样正常完成，丢弃计入 {@link #getPublishStats()}
+     */
     @Override
-    public void clear() {
-        subscribers.clear();
+    public CompletableFuture<Void> publishAsync(EventContext eventContext) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        submit(new AsyncEvent(null, eventContext, publishStats, future, laneOf(eventContext)));
+        return future;
     }
-    
+
     @Override
     public void shutdown() {
         if (shutdown.compareAndSet(false, true)) {
-            asyncExecutor.shutdown();
+            closeBatchers();
+            for (ExecutorService lane : lanes) {
+                lane.shutdown();
+            }
             log.info("事件总线已关闭");
         }
     }
-    
+
     /**
-     * 处理单个事件
+     * 通道数量
      */
-    private void handleEvent(EventSubscriber subscriber, EventContext eventContext) {
+    public int getLaneCount() {
+        return lanes.length;
+    }
+
+    /**
+     * 各通道当前排队的事件数量，外部线程池不是 {@link ThreadPoolExecutor} 时为-1
+     */
+    public int[] getLaneBacklogs() {
+        int[] backlogs = new int[lanes.length];
+        for (int i = 0; i < lanes.length; i++) {
+            backlogs[i] = lanes[i] instanceof ThreadPoolExecutor ? ((ThreadPoolExecutor) lanes[i]).getQueue().size() : -1;
+        }
+        return backlogs;
+    }
+
+    private int laneOf(EventContext eventContext) {
+        if (lanes.length == 1) {
+            return 0;
+        }
+        int h = partitionKey.hash(eventContext);
+        h ^= h >>> 16;
+        return (h & Integer.MAX_VALUE) % lanes.length;
+    }
+
+    private void submit(AsyncEvent event) {
+        event.markQueued();
         try {
-            subscriber.onEvent(eventContext);
-            log.debug("事件处理成功: eventType={}, subscriber={}", eventContext.getEventType(), subscriber.getName());
-        } catch (Exception e) {
-            log.error("事件处理失败: eventType={}, subscriber={}", eventContext.getEventType(), subscriber.getName(), e);
+            event.lane.execute(event);
+        } catch (RejectedExecutionException e) {
+            event.unmarkQueued();
+            overflow(event);
+        }
+    }
+
+    /**
+     * 按溢出策略处理被拒绝的事件
+     */
+    private void overflow(AsyncEvent event) {
+        if (event.lane.isShutdown()) {
+            event.drop();
+            return;
+        }
+        switch (overflowPolicy) {
+            case CALLER_RUNS:
+                event.stats.onCallerRuns();
+                event.run();
+                return;
+            case SAMPLE:
+                if (overflowCounter.incrementAndGet() % sampleInterval == 0) {
+                    event.stats.onCallerRuns();
+                    event.run();
+                } else {
+                    event.drop();
+                }
+                return;
+            case DROP_OLDEST:
+                if (event.lane instanceof ThreadPoolExecutor && evictOldestAndOffer(event)) {
+                    return;
+                }
+                event.drop();
+                return;
+            case BLOCK:
+                if (event.lane instanceof ThreadPoolExecutor && blockingOffer(event)) {
+                    return;
+                }
+                event.drop();
+                return;
+            case DROP_NEWEST:
+            default:
+                event.drop();
         }
     }
 
-}
\ No newline at end of file
+    private boolean evictOldestAndOffer(AsyncEvent event) {
+        BlockingQueue<Runnable> queue = ((ThreadPoolExecutor) event.lane).getQueue();
+        event.markQueued();
+        while (!queue.offer(event)) {
+            Runnable oldest = queue.poll();
+            if (oldest instanceof AsyncEvent) {
+                ((AsyncEvent) oldest).evict();
+            }
+        }
+        return true;
+    }
+
+    private boolean blockingOffer(AsyncEvent event) {
+        BlockingQueue<Runnable> queue = ((ThreadPoolExecutor) event.lane).getQueue();
+        event.markQueued();
+        try {
+            if (queue.offer(event, blockTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        event.unmarkQueued();
+        return false;
+    }
+
+    /**
+     * 异步事件任务
+     */
+    private final class AsyncEvent implements Runnable {
+
+        private final EventSubscriber subscriber;
+
+        private final EventContext eventContext;
+
+        private final SubscriberStats stats;
+
+        private final CompletableFuture<Void> future;
+
+        private final ExecutorService lane;
+
+        private long enqueueNanos;
+
+        /**
+         * 是否在队列中，调用线程执行的事件不计排队
+         */
+        private boolean queued;
+
+        AsyncEvent(EventSubscriber subscriber, EventContext eventContext, SubscriberStats stats,
+                   CompletableFuture<Void> future, int lane) {
+            this.subscriber = subscriber;
+            this.eventContext = eventContext;
+            this.stats = stats;
+            this.future = future;
+            this.lane = lanes[lane];
+        }
+
+        @Override
+        public void run() {
+            if (queued) {
+                queued = false;
+                stats.onDequeued(System.nanoTime() - enqueueNanos);
+            }
+            try {
+                if (subscriber == null) {
+                    publish(eventContext);
+                } else {
+                    handleEvent(subscriber, eventContext);
+                }
+            } finally {
+                complete();
+            }
+        }
+
+        void markQueued() {
+            queued = true;
+            enqueueNanos = System.nanoTime();
+            stats.onEnqueued();
+        }
+
+        void unmarkQueued() {
+            queued = false;
+            stats.onRejected();
+        }
+
+        void evict() {
+            queued = false;
+            stats.onEvicted();
+            complete();
+        }
+
+        void drop() {
+            stats.onDropped();
+            log.debug("异步事件队列已满，丢弃事件: eventType={}, target={}", eventContext.getEventType(), stats.getName());
+            complete();
+        }
+
+        void complete() {
+            if (future != null) {
+                future.complete(null);
+            }
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package com.flexpoint.core.event;
+
+import com.flexpoint.core.config.FlexPointConfig;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 单个批量订阅者的攒批器
+ * 发布线程只做入队，刷新在调度线程上执行；刷新持有刷新锁，保证批次串行投递。
+ * 每次刷新只投递开始时已入队的事件，持续发布不会让刷新无法结束；
+ * 积压上限为异步队列容量，超出时按 {@link OverflowPolicy} 处理，CALLER_RUNS由调用线程持锁刷新后入队
+ *
+ * @author xiangganluo
+ */
+@Slf4j
+final class EventBatcher {
+
+    /**
+     * BLOCK策略等待空间时的单次休眠时长
+     */
+    private static final long BLOCK_PARK_NANOS = 10_000L;
+
+    private final BatchEventSubscriber subscriber;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final SubscriberStats stats;
+
+    private final int batchSize;
+
+    private final int capacity;
+
+    /**
+     * 触发刷新的积压数量，容量小于批大小时按容量触发
+     */
+    private final int flushThreshold;
+
+    private final OverflowPolicy overflowPolicy;
+
+    private final long blockTimeoutNanos;
+
+    private final int sampleInterval;
+
+    private final AtomicLong overflowCounter = new AtomicLong();
+
+    private final Queue<EventContext> pending = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 已占用的积压名额，入队前先占位
+     */
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final ScheduledFuture<?> timer;
+
+    private final Runnable flushTask = this::flush;
+
+    EventBatcher(BatchEventSubscriber subscriber, ScheduledExecutorService scheduler, SubscriberStats stats,
+                 FlexPointConfig.EventConfig config) {
+        this.subscriber = subscriber;
+        this.scheduler = scheduler;
+        this.stats = stats;
+        this.batchSize = Math.max(1, subscriber.getBatchSize());
+        this.capacity = Math.max(1, config.getAsyncQueueCapacity());
+        this.flushThreshold = Math.min(batchSize, capacity);
+        this.overflowPolicy = config.getOverflowPolicy();
+        this.blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(config.getBlockTimeoutMillis());
+        this.sampleInterval = Math.max(1, config.getSampleInterval());
+        long interval = Math.max(1L, subscriber.getFlushIntervalMillis());
+        this.timer = scheduler.scheduleWithFixedDelay(this::flushIfPending, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 事件入队，攒够一批时触发刷新；积压已满时按溢出策略处理
+     */
+    void offer(EventContext eventContext) {
+        if (tryEnqueue(eventContext)) {
+            return;
+        }
+        if (flushLock.isHeldByCurrentThread()) {
+            // 订阅者在刷新过程中再次发布且积压已满，直接处理避免自锁
+            runInline(eventContext);
+            return;
+        }
+        switch (overflowPolicy) {
+            case CALLER_RUNS:
+                callerFlushAndEnqueue(eventContext);
+                return;
+            case SAMPLE:
+                if (overflowCounter.incrementAndGet() % sampleInterval == 0) {
+                    callerFlushAndEnqueue(eventContext);
+                } else {
+                    stats.onDropped();
+                }
+                return;
+            case DROP_OLDEST:
+                evictOldestAndEnqueue(eventContext);
+                return;
+            case BLOCK:
+                blockingEnqueue(eventContext);
+                return;
+            case DROP_NEWEST:
+            default:
+                stats.onDropped();
+        }
+    }
+
+    /**
+     * 当前未投递的事件数量
+     */
+    int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    /**
+     * 停止定时刷新并在当前线程投递关闭时已入队的事件
+     */
+    void close() {
+        timer.cancel(false);
+        flushLock.lock();
+        try {
+            drain(pendingCount.get());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private boolean tryEnqueue(EventContext eventContext) {
+        int count;
+        do {
+            count = pendingCount.get();
+            if (count >= capacity) {
+                return false;
+            }
+        } while (!pendingCount.compareAndSet(count, count + 1));
+        pending.offer(eventContext);
+        stats.onEnqueued();
+        if (count + 1 >= flushThreshold && !flushLock.isLocked()) {
+            triggerFlush();
+        }
+        return true;
+    }
+
+    /**
+     * 调用线程持刷新锁投递当前积压，再将事件入队
+     */
+    private void callerFlushAndEnqueue(EventContext eventContext) {
+        stats.onCallerRuns();
+        flushLock.lock();
+        try {
+            drain(pendingCount.get());
+        } finally {
+            flushLock.unlock();
+        }
+        if (!tryEnqueue(eventContext)) {
+            stats.onDropped();
+        }
+    }
+
+    /**
+     * 丢弃最早的事件为新事件腾出位置，积压总量不变
+     */
+    private void evictOldestAndEnqueue(EventContext eventContext) {
+        EventContext oldest = pending.poll();
+        if (oldest == null) {
+            // 积压已被并发刷新取走
+            if (!tryEnqueue(eventContext)) {
+                stats.onDropped();
+            }
+            return;
+        }
+        stats.onEvicted();
+        pending.offer(eventContext);
+        stats.onEnqueued();
+    }
+
+    private void blockingEnqueue(EventContext eventContext) {
+        // 超时时间按纳秒换算后饱和为Long.MAX_VALUE时视为一直等待
+        boolean timed = blockTimeoutNanos != Long.MAX_VALUE;
+        long deadline = timed ? System.nanoTime() + blockTimeoutNanos : 0L;
+        triggerFlush();
+        while (!tryEnqueue(eventContext)) {
+            if (scheduler.isShutdown() || (timed && System.nanoTime() - deadline >= 0)) {
+                stats.onDropped();
+                return;
+            }
+            LockSupport.parkNanos(BLOCK_PARK_NANOS);
+        }
+    }
+
+    private void runInline(EventContext eventContext) {
+        stats.onCallerRuns();
+        deliver(Collections.singletonList(eventContext));
+    }
+
+    private void flushIfPending() {
+        if (pendingCount.get() > 0) {
+            flush();
+        }
+    }
+
+    private void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            drain(pendingCount.get());
+        } finally {
+            flushLock.unlock();
+        }
+        // 刷新期间新到达的事件已攒够一批时继续刷新
+        if (pendingCount.get() >= flushThreshold) {
+            triggerFlush();
+        }
+    }
+
+    private void triggerFlush() {
+        try {
+            scheduler.execute(flushTask);
+        } catch (RejectedExecutionException e) {
+            // 调度器已关闭，剩余事件由close投递
+        }
+    }
+
+    /**
+     * 投递至多limit个事件，调用方需持有刷新锁
+     */
+    private void drain(int limit) {
+        if (limit <= 0) {
+            return;
+        }
+        List<EventContext> batch = new ArrayList<>(Math.min(batchSize, limit));
+        long now = System.nanoTime();
+        for (int i = 0; i < limit; i++) {
+            EventContext eventContext = pending.poll();
+            if (eventContext == null) {
+                break;
+            }
+            pendingCount.decrementAndGet();
+            stats.onDequeued(now - eventContext.getNanoTime());
+            batch.add(eventContext);
+            if (batch.size() >= batchSize) {
+                deliver(batch);
+                batch = new ArrayList<>(Math.min(batchSize, limit - i - 1));
+            }
+        }
+        if (!batch.isEmpty()) {
+            deliver(batch);
+        }
+    }
+
+    private void deliver(List<EventContext> batch) {
+        if (!subscriber.isEnabled()) {
+            return;
+        }
+        long start = System.nanoTime();
+        boolean success = true;
+        try {
+            subscriber.onEvents(batch);
+        } catch (Exception e) {
+            success = false;
+            log.error("批量事件处理失败: subscriber={}, size={}", subscriber.getName(), batch.size(), e);
+        }
+        stats.onProcessed(System.nanoTime() - start, success);
+    }
+}
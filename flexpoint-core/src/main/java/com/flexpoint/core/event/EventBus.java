@@ -27,6 +27,40 @@ public interface EventBus {
      */
     CompletableFuture<Void> publishAsync(EventContext eventContext);
     
+    /**
+     * 是否存在可能接收指定类型事件的订阅者
+     * 发布方据此跳过无人关注事件的构建，结果允许偏保守（返回true但最终无人处理）
+     *
+     * @param eventType 事件类型
+     * @return 是否存在订阅者
+     */
+    default boolean hasSubscribers(EventType eventType) {
+        return getTotalSubscriberCount() > 0;
+    }
+    
+    /**
+     * 指定类型的事件是否只会被同步处理
+     * 返回true时发布方可以在发布返回后复用事件上下文
+     *
+     * @param eventType 事件类型
+     * @return 是否只有同步订阅者
+     */
+    default boolean isSynchronous(EventType eventType) {
+        return false;
+    }
+
+    /**
+     * 仅当事件只会被同步处理时发布
+     * 同步判断与分派使用同一份订阅者快照，返回true时事件已处理完毕，发布方可以复用事件上下文；
+     * 返回false时事件未发布
+     *
+     * @param eventContext 事件上下文
+     * @return 是否已同步发布
+     */
+    default boolean publishIfSynchronous(EventContext eventContext) {
+        return false;
+    }
+    
     /**
      * 订阅事件
      *
@@ -0,0 +1,18 @@
+package com.flexpoint.core.event;
+
+/**
+ * 内置事件总线类型
+ *
+ * @author xiangganluo
+ */
+public enum EventBusType {
+    /**
+     * 有界队列加工作线程，见 {@link DefaultEventBus}
+     */
+    DEFAULT,
+
+    /**
+     * 预分配环形缓冲区加单消费者线程，见 {@link RingBufferEventBus}
+     */
+    RING_BUFFER
+}
@@ -1,157 +1,278 @@
 package com.flexpoint.core.event;
 
 import com.flexpoint.core.ext.ExtAbility;
-import lombok.Builder;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collections;
 import java.util.Map;
-import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 扩展点事件上下文
  * 携带扩展点事件相关的所有信息
+ * 事件ID为进程内唯一的long序号，时间戳记录毫秒与纳秒两种形式，自定义属性按需创建；
+ * 仅同步分派时可通过 {@link #acquire(EventType)} 复用线程本地实例
  *
  * @author xiangganluo
  */
 @Data
-@Builder
+@NoArgsConstructor
 public class EventContext {
-    
+
+    /**
+     * 批量变更事件属性：本次注册的扩展点列表
+     */
+    public static final String ATTR_REGISTERED = "registered";
+
     /**
-     * 事件ID，全局唯一
+     * 批量变更事件属性：本次注销的扩展点列表
      */
-    private String eventId;
-    
+    public static final String ATTR_UNREGISTERED = "unregistered";
+
+    private static final ThreadLocal<EventContext> POOL = ThreadLocal.withInitial(EventContext::new);
+
+    /**
+     * 事件ID，进程内唯一
+     */
+    private long eventId;
+
     /**
      * 事件类型
      */
     private EventType eventType;
-    
+
+    /**
+     * 事件发生时间（毫秒时间戳）
+     */
+    private long timestampMillis;
+
     /**
-     * 事件发生时间
+     * 事件发生时的 {@link System#nanoTime()}，用于计算间隔
      */
-    private LocalDateTime timestamp;
-    
+    private long nanoTime;
+
     /**
      * 扩展点类型
      */
     private Class<? extends ExtAbility> extType;
-    
+
     /**
      * 扩展点实例
      */
     private ExtAbility extAbility;
-    
+
     /**
      * 扩展点代码
      */
     private String extCode;
-    
+
     /**
      * 选择器名称
      */
     private String selectorName;
-    
+
     /**
      * 调用方法名
      */
     private String methodName;
-    
+
     /**
      * 调用参数
      */
     private Object[] methodArgs;
-    
+
     /**
      * 调用结果
      */
     private Object result;
-    
+
     /**
      * 异常信息
      */
     private Throwable exception;
-    
+
     /**
      * 调用耗时（毫秒）
      */
     private Long duration;
-    
+
+    /**
+     * 调用耗时（纳秒），未知时为-1
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private long durationNanos = -1L;
+
     /**
-     * 自定义属性
+     * 自定义属性，首次写入时创建
      */
+    @Getter(AccessLevel.NONE)
     private Map<String, Object> attributes;
-    
+
+    /**
+     * 发布线程，线程名在读取时获取
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private Thread thread;
+
+    /**
+     * 是否为线程本地复用实例
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private transient boolean pooled;
+
     /**
-     * 线程信息
+     * 复用实例是否正在使用
      */
-    private String threadName;
-    
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private transient boolean inUse;
+
     /**
      * 创建事件上下文
      */
     public static EventContext create(EventType eventType) {
-        return EventContext.builder()
-            .eventId(UUID.randomUUID().toString())
-            .eventType(eventType)
-            .timestamp(LocalDateTime.now())
-            .threadName(Thread.currentThread().getName())
-            .attributes(new ConcurrentHashMap<>())
-            .build();
+        return new EventContext().init(eventType);
     }
-    
+
     /**
      * 创建扩展点相关事件上下文
      */
     public static EventContext createExtEvent(EventType eventType, ExtAbility extAbility) {
-        return EventContext.builder()
-            .eventId(UUID.randomUUID().toString())
-            .eventType(eventType)
-            .timestamp(LocalDateTime.now())
-            .extType(extAbility != null ? extAbility.getClass() : null)
-            .extAbility(extAbility)
-            .extCode(extAbility != null ? extAbility.getCode() : null)
-            .threadName(Thread.currentThread().getName())
-            .attributes(new ConcurrentHashMap<>())
-            .build();
-    }
-    
+        return create(eventType).ext(extAbility);
+    }
+
     /**
      * 创建调用相关事件上下文
      */
-    public static EventContext createInvokeEvent(EventType eventType, ExtAbility extAbility, 
-                                               String methodName, Object[] args, Object result, 
+    public static EventContext createInvokeEvent(EventType eventType, ExtAbility extAbility,
+                                               String methodName, Object[] args, Object result,
                                                Throwable exception, Long duration) {
-        return EventContext.builder()
-            .eventId(UUID.randomUUID().toString())
-            .eventType(eventType)
-            .timestamp(LocalDateTime.now())
-            .extType(extAbility != null ? extAbility.getClass() : null)
-            .extAbility(extAbility)
-            .extCode(extAbility != null ? extAbility.getCode() : null)
-            .methodName(methodName)
-            .methodArgs(args)
-            .result(result)
-            .exception(exception)
-            .duration(duration)
-            .threadName(Thread.currentThread().getName())
-            .attributes(new ConcurrentHashMap<>())
-            .build();
-    }
-    
+        return create(eventType).ext(extAbility).invoke(methodName, args, result, exception, duration);
+    }
+
+    /**
+     * 获取当前线程的复用实例
+     * 仅适用于同步分派且订阅者不在处理完成后持有事件的场景，使用完毕必须调用 {@link #release()}；
+     * 复用实例正在使用（如订阅者内再次发布）时返回新实例
+     */
+    public static EventContext acquire(EventType eventType) {
+        EventContext eventContext = POOL.get();
+        if (eventContext.inUse) {
+            return create(eventType);
+        }
+        eventContext.pooled = true;
+        eventContext.inUse = true;
+        return eventContext.init(eventType);
+    }
+
+    /**
+     * 归还复用实例并清空引用，非复用实例调用无效果
+     */
+    public void release() {
+        if (!pooled) {
+            return;
+        }
+        extType = null;
+        extAbility = null;
+        extCode = null;
+        selectorName = null;
+        methodName = null;
+        methodArgs = null;
+        result = null;
+        exception = null;
+        duration = null;
+        durationNanos = -1L;
+        attributes = null;
+        thread = null;
+        inUse = false;
+    }
+
+    /**
+     * 填充调用信息，供复用实例使用
+     */
+    public EventContext invoke(String methodName, Object[] args, Object result, Throwable exception, Long duration) {
+        this.methodName = methodName;
+        this.methodArgs = args;
+        this.result = result;
+        this.exception = exception;
+        this.duration = duration;
+        this.durationNanos = duration != null ? TimeUnit.MILLISECONDS.toNanos(duration) : -1L;
+        return this;
+    }
+
+    /**
+     * 以纳秒精度设置调用耗时，同时更新毫秒耗时
+     */
+    public EventContext durationNanos(long durationNanos) {
+        this.durationNanos = durationNanos;
+        this.duration = durationNanos >= 0 ? TimeUnit.NANOSECONDS.toMillis(durationNanos) : null;
+        return this;
+    }
+
+    /**
+     * 设置毫秒耗时，同时更新纳秒耗时
+     */
+    public void setDuration(Long duration) {
+        this.duration = duration;
+        this.durationNanos = duration != null ? TimeUnit.MILLISECONDS.toNanos(duration) : -1L;
+    }
+
+    /**
+     * 获取调用耗时（纳秒），未设置耗时时返回0
+     */
+    public long getDurationNanos() {
+        return Math.max(0L, durationNanos);
+    }
+
+    /**
+     * 填充扩展点信息，供复用实例使用
+     */
+    public EventContext ext(ExtAbility extAbility) {
+        this.extType = extAbility != null ? extAbility.getClass() : null;
+        this.extAbility = extAbility;
+        this.extCode = extAbility != null ? extAbility.getCode() : null;
+        return this;
+    }
+
+    private EventContext init(EventType eventType) {
+        this.eventId = EventIdGenerator.nextId();
+        this.eventType = eventType;
+        this.timestampMillis = System.currentTimeMillis();
+        this.nanoTime = System.nanoTime();
+        this.thread = Thread.currentThread();
+        return this;
+    }
+
     /**
      * 添加自定义属性
      */
     public EventContext withAttribute(String key, Object value) {
         if (this.attributes == null) {
-            this.attributes = new ConcurrentHashMap<>();
+            this.attributes = new ConcurrentHashMap<>(4);
         }
         this.attributes.put(key, value);
         return this;
     }
-    
+
     /**
      * 获取自定义属性
      */
@@ -159,10 +280,31 @@ public class EventContext {
         return attributes != null ? attributes.get(key) : null;
     }
 
+    /**
+     * 获取全部自定义属性，未设置时返回空Map
+     */
+    public Map<String, Object> getAttributes() {
+        return attributes != null ? attributes : Collections.emptyMap();
+    }
+
+    /**
+     * 获取事件发生时间
+     */
+    public LocalDateTime getTimestamp() {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(timestampMillis), ZoneId.systemDefault());
+    }
+
+    /**
+     * 获取发布线程名
+     */
+    public String getThreadName() {
+        return thread != null ? thread.getName() : null;
+    }
+
     /**
      * 获取扩展点ID
      */
     public String getExtId() {
         return extAbility.getExtId();
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,100 @@
+package com.flexpoint.core.event;
+
+import com.flexpoint.core.event.filter.EventFilter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 事件分派表
+ * 按事件类型预先编排订阅者：已按优先级排序，并已用过滤器的事件类型判断剔除不可能匹配的订阅者，
+ * 发布时只需顺序遍历数组。订阅者变化时整体重建，构建后不可变
+ *
+ * @author xiangganluo
+ */
+final class EventDispatchTable {
+
+    private static final EventType[] EVENT_TYPES = EventType.values();
+
+    static final EventDispatchTable EMPTY = compile(new ArrayList<>());
+
+    /**
+     * 事件类型序号 -> 订阅者
+     */
+    private final EventSubscriber[][] subscribers;
+
+    /**
+     * 事件类型序号 -> 与订阅者一一对应的过滤器，可能为null
+     */
+    private final EventFilter[][] filters;
+
+    /**
+     * 事件类型序号 -> 是否全部为同步订阅者
+     */
+    private final boolean[] synchronous;
+
+    private EventDispatchTable(EventSubscriber[][] subscribers, EventFilter[][] filters, boolean[] synchronous) {
+        this.subscribers = subscribers;
+        this.filters = filters;
+        this.synchronous = synchronous;
+    }
+
+    /**
+     * 编排分派表
+     */
+    static EventDispatchTable compile(List<EventSubscriber> allSubscribers) {
+        List<EventSubscriber> sorted = new ArrayList<>(allSubscribers);
+        sorted.sort(Comparator.comparingInt(EventSubscriber::getPriority));
+
+        EventSubscriber[][] subscribers = new EventSubscriber[EVENT_TYPES.length][];
+        EventFilter[][] filters = new EventFilter[EVENT_TYPES.length][];
+        boolean[] synchronous = new boolean[EVENT_TYPES.length];
+        for (EventType eventType : EVENT_TYPES) {
+            List<EventSubscriber> accepted = new ArrayList<>();
+            List<EventFilter> acceptedFilters = new ArrayList<>();
+            boolean allSync = true;
+            for (EventSubscriber subscriber : sorted) {
+                EventFilter filter = subscriber.getEventFilter();
+                if (filter == null || filter.acceptsEventType(eventType)) {
+                    accepted.add(subscriber);
+                    acceptedFilters.add(filter);
+                    // 批量订阅者总是经攒批器在后台投递，与isAsync的返回值无关
+                    allSync &= !subscriber.isAsync() && !(subscriber instanceof BatchEventSubscriber);
+                }
+            }
+            synchronous[eventType.ordinal()] = allSync;
+            subscribers[eventType.ordinal()] = accepted.toArray(new EventSubscriber[0]);
+            filters[eventType.ordinal()] = acceptedFilters.toArray(new EventFilter[0]);
+        }
+        return new EventDispatchTable(subscribers, filters, synchronous);
+    }
+
+    /**
+     * 是否存在可能接收该类型事件的订阅者
+     */
+    boolean hasSubscribers(EventType eventType) {
+        return subscribers[eventType.ordinal()].length > 0;
+    }
+
+    /**
+     * 该类型事件是否只有同步订阅者
+     */
+    boolean isSynchronous(EventType eventType) {
+        return synchronous[eventType.ordinal()];
+    }
+
+    /**
+     * 获取事件类型对应的订阅者，已按优先级排序
+     */
+    EventSubscriber[] subscribers(EventType eventType) {
+        return subscribers[eventType.ordinal()];
+    }
+
+    /**
+     * 获取事件类型对应的过滤器，与 {@link #subscribers(EventType)} 下标一致
+     */
+    EventFilter[] filters(EventType eventType) {
+        return filters[eventType.ordinal()];
+    }
+}
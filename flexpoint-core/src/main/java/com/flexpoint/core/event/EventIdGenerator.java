@@ -0,0 +1,38 @@
+package com.flexpoint.core.event;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 事件ID生成器
+ * 每个线程从全局计数器批量领取一段ID后在本线程内递增分配，全局计数器只在换段时竞争一次；
+ * ID在进程内唯一，同一线程内单调递增
+ *
+ * @author xiangganluo
+ */
+final class EventIdGenerator {
+
+    /**
+     * 每次领取的ID段长度
+     */
+    private static final int BLOCK_SIZE = 1024;
+
+    private static final AtomicLong NEXT_BLOCK = new AtomicLong();
+
+    private static final ThreadLocal<long[]> LOCAL_RANGE = ThreadLocal.withInitial(() -> new long[]{0L, 0L});
+
+    private EventIdGenerator() {
+    }
+
+    /**
+     * 生成下一个事件ID
+     */
+    static long nextId() {
+        long[] range = LOCAL_RANGE.get();
+        if (range[0] == range[1]) {
+            long start = NEXT_BLOCK.getAndAdd(BLOCK_SIZE);
+            range[0] = start;
+            range[1] = start + BLOCK_SIZE;
+        }
+        return ++range[0];
+    }
+}
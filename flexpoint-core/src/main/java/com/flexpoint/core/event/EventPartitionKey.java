@@ -0,0 +1,42 @@
+package com.flexpoint.core.event;
+
+import com.flexpoint.core.ext.ExtAbility;
+
+/**
+ * 异步事件分区键
+ * 相同分区键的事件进入同一条异步通道，按发布顺序处理
+ *
+ * @author xiangganluo
+ */
+public enum EventPartitionKey {
+    /**
+     * 按扩展点ID分区，同一扩展点实现的事件有序
+     */
+    EXT_ID {
+        @Override
+        int hash(EventContext eventContext) {
+            ExtAbility extAbility = eventContext.getExtAbility();
+            return extAbility != null ? extAbility.getExtId().hashCode() : EXT_CODE.hash(eventContext);
+        }
+    },
+
+    /**
+     * 按扩展点代码分区，同一业务代码的事件有序
+     */
+    EXT_CODE {
+        @Override
+        int hash(EventContext eventContext) {
+            String extCode = eventContext.getExtCode();
+            if (extCode != null) {
+                return extCode.hashCode();
+            }
+            Class<?> extType = eventContext.getExtType();
+            return extType != null ? extType.getName().hashCode() : eventContext.getEventType().ordinal();
+        }
+    };
+
+    /**
+     * 计算事件的分区哈希，缺少分区键时依次退化为扩展点代码、扩展点类型和事件类型
+     */
+    abstract int hash(EventContext eventContext);
+}
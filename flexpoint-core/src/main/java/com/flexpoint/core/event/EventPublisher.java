@@ -4,17 +4,27 @@ import com.flexpoint.core.ext.ExtAbility;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * 扩展点事件发布器工具类
  * 提供便捷的扩展点事件发布方法
+ * 发布前先检查事件总线上是否有订阅者关注该事件类型，无人关注时不构建事件上下文
  *
  * @author xiangganluo
  */
 @Slf4j
 public class EventPublisher {
 
-    private static EventBus eventBus;
+    private static final CompletableFuture<Void> COMPLETED = CompletableFuture.completedFuture(null);
+
+    private static volatile EventBus eventBus;
+
+    /**
+     * 是否复用调用事件上下文，仅在对应事件类型只有同步订阅者时生效
+     */
+    private static volatile boolean contextPooling;
     
     /**
      * 设置事件总线
@@ -30,6 +40,22 @@ public class EventPublisher {
         return eventBus;
     }
 
+    /**
+     * 设置是否复用调用事件上下文
+     * 开启后，只有同步订阅者的调用事件使用线程本地实例发布，订阅者不得在处理完成后持有事件上下文
+     */
+    public static void setContextPooling(boolean contextPooling) {
+        EventPublisher.contextPooling = contextPooling;
+    }
+
+    /**
+     * 是否有订阅者关注指定类型的事件
+     */
+    public static boolean hasSubscribers(EventType eventType) {
+        EventBus bus = eventBus;
+        return bus != null && bus.hasSubscribers(eventType);
+    }
+
     // ==================== 扩展点生命周期事件 ====================
     
     /**
@@ -50,6 +76,9 @@ public class EventPublisher {
      * 发布扩展点查找事件
      */
     public static void publishExtFound(Class<? extends ExtAbility> extType) {
+        if (!hasSubscribers(EventType.EXT_FOUND)) {
+            return;
+        }
         EventContext eventContext = EventContext.create(EventType.EXT_FOUND);
         eventContext.setExtType(extType);
         publishEvent(eventContext);
@@ -59,6 +88,9 @@ public class EventPublisher {
      * 发布扩展点未找到事件
      */
     public static void publishExtNotFound(Class<? extends ExtAbility> extType) {
+        if (!hasSubscribers(EventType.EXT_NOT_FOUND)) {
+            return;
+        }
         EventContext eventContext = EventContext.create(EventType.EXT_NOT_FOUND);
         eventContext.setExtType(extType);
         publishEvent(eventContext);
@@ -68,6 +100,9 @@ public class EventPublisher {
      * 发布扩展点选择事件
      */
     public static void publishExtSelected(ExtAbility extAbility, String selectorName) {
+        if (!hasSubscribers(EventType.EXT_SELECTED)) {
+            return;
+        }
         EventContext eventContext = EventContext.createExtEvent(EventType.EXT_SELECTED, extAbility);
         eventContext.setSelectorName(selectorName);
         publishEvent(eventContext);
@@ -77,6 +112,9 @@ public class EventPublisher {
      * 发布扩展点选择失败事件
      */
     public static void publishExtSelectionFailed(Class<? extends ExtAbility> extType, String selectorName, String reason) {
+        if (!hasSubscribers(EventType.EXT_SELECTION_FAILED)) {
+            return;
+        }
         EventContext eventContext = EventContext.create(EventType.EXT_SELECTION_FAILED);
         eventContext.setExtType(extType);
         eventContext.setSelectorName(selectorName);
@@ -90,44 +128,93 @@ public class EventPublisher {
      * 发布调用前事件
      */
     public static void publishInvokeBefore(ExtAbility extAbility, String methodName, Object[] args) {
-        EventContext eventContext = EventContext.createInvokeEvent(
-            EventType.INVOKE_BEFORE, extAbility, methodName, args, null, null, null);
-        publishEvent(eventContext);
+        publishInvokeEvent(EventType.INVOKE_BEFORE, extAbility, methodName, args, null, null, -1L);
     }
     
     /**
      * 发布调用成功事件
      */
     public static void publishInvokeSuccess(ExtAbility extAbility, String methodName, Object[] args, Object result, Long duration) {
-        EventContext eventContext = EventContext.createInvokeEvent(
-            EventType.INVOKE_SUCCESS, extAbility, methodName, args, result, null, duration);
-        publishEvent(eventContext);
+        publishInvokeEvent(EventType.INVOKE_SUCCESS, extAbility, methodName, args, result, null, toNanos(duration));
+    }
+
+    /**
+     * 发布调用成功事件，耗时使用指定时间单位
+     */
+    public static void publishInvokeSuccess(ExtAbility extAbility, String methodName, Object[] args, Object result, long duration, TimeUnit unit) {
+        publishInvokeEvent(EventType.INVOKE_SUCCESS, extAbility, methodName, args, result, null, unit.toNanos(duration));
     }
     
     /**
      * 发布调用失败事件
      */
     public static void publishInvokeFail(ExtAbility extAbility, String methodName, Object[] args, Object result, Long duration) {
-        EventContext eventContext = EventContext.createInvokeEvent(
-            EventType.INVOKE_FAIL, extAbility, methodName, args, result, null, duration);
-        publishEvent(eventContext);
+        publishInvokeEvent(EventType.INVOKE_FAIL, extAbility, methodName, args, result, null, toNanos(duration));
+    }
+
+    /**
+     * 发布调用失败事件，耗时使用指定时间单位
+     */
+    public static void publishInvokeFail(ExtAbility extAbility, String methodName, Object[] args, Object result, long duration, TimeUnit unit) {
+        publishInvokeEvent(EventType.INVOKE_FAIL, extAbility, methodName, args, result, null, unit.toNanos(duration));
     }
     
     /**
      * 发布调用异常事件
      */
     public static void publishInvokeException(ExtAbility extAbility, String methodName, Object[] args, Throwable exception, Long duration) {
-        EventContext eventContext = EventContext.createInvokeEvent(
-            EventType.INVOKE_EXCEPTION, extAbility, methodName, args, null, exception, duration);
-        publishEvent(eventContext);
+        publishInvokeEvent(EventType.INVOKE_EXCEPTION, extAbility, methodName, args, null, exception, toNanos(duration));
+    }
+
+    /**
+     * 发布调用异常事件，耗时使用指定时间单位
+     */
+    public static void publishInvokeException(ExtAbility extAbility, String methodName, Object[] args, Throwable exception, long duration, TimeUnit unit) {
+        publishInvokeEvent(EventType.INVOKE_EXCEPTION, extAbility, methodName, args, null, exception, unit.toNanos(duration));
     }
     
+    /**
+     * 发布调用事件，开启复用且只有同步订阅者时使用线程本地实例
+     * 订阅关系在此期间变化时，由总线的同一份分派表决定是否同步分派，否则退回为新建实例发布
+     */
+    private static void publishInvokeEvent(EventType eventType, ExtAbility extAbility, String methodName,
+                                           Object[] args, Object result, Throwable exception, long durationNanos) {
+        EventBus bus = eventBus;
+        if (bus == null || !bus.hasSubscribers(eventType)) {
+            return;
+        }
+        if (contextPooling && bus.isSynchronous(eventType)) {
+            // 由总线按同一份订阅者快照判断并分派，判断后新增的异步订阅者不会拿到线程本地实例
+            EventContext pooled = EventContext.acquire(eventType).ext(extAbility)
+                .invoke(methodName, args, result, exception, null).durationNanos(durationNanos);
+            try {
+                if (bus.publishIfSynchronous(pooled)) {
+                    return;
+                }
+            } catch (Exception e) {
+                log.error("发布事件失败: eventType={}", eventType, e);
+                return;
+            } finally {
+                pooled.release();
+            }
+        }
+        publishEvent(EventContext.create(eventType).ext(extAbility)
+            .invoke(methodName, args, result, exception, null).durationNanos(durationNanos));
+    }
+
+    private static long toNanos(Long durationMillis) {
+        return durationMillis != null ? TimeUnit.MILLISECONDS.toNanos(durationMillis) : -1L;
+    }
+
     // ==================== 选择器事件 ====================
     
     /**
      * 发布选择器注册事件
      */
     public static void publishSelectorRegistered(String selectorName) {
+        if (!hasSubscribers(EventType.SELECTOR_REGISTERED)) {
+            return;
+        }
         EventContext eventContext = EventContext.create(EventType.SELECTOR_REGISTERED);
         eventContext.setSelectorName(selectorName);
         publishEvent(eventContext);
@@ -137,6 +224,9 @@ public class EventPublisher {
      * 发布选择器注销事件
      */
     public static void publishSelectorUnregistered(String selectorName) {
+        if (!hasSubscribers(EventType.SELECTOR_UNREGISTERED)) {
+            return;
+        }
         EventContext eventContext = EventContext.create(EventType.SELECTOR_UNREGISTERED);
         eventContext.setSelectorName(selectorName);
         publishEvent(eventContext);
@@ -146,6 +236,9 @@ public class EventPublisher {
      * 发布选择器查找事件
      */
     public static void publishSelectorFound(String selectorName) {
+        if (!hasSubscribers(EventType.SELECTOR_FOUND)) {
+            return;
+        }
         EventContext eventContext = EventContext.create(EventType.SELECTOR_FOUND);
         eventContext.setSelectorName(selectorName);
         publishEvent(eventContext);
@@ -155,6 +248,9 @@ public class EventPublisher {
      * 发布选择器未找到事件
      */
     public static void publishSelectorNotFound(String selectorName) {
+        if (!hasSubscribers(EventType.SELECTOR_NOT_FOUND)) {
+            return;
+        }
         EventContext eventContext = EventContext.create(EventType.SELECTOR_NOT_FOUND);
         eventContext.setSelectorName(selectorName);
         publishEvent(eventContext);
@@ -166,23 +262,37 @@ public class EventPublisher {
      * 发布事件（同步）
      */
     public static void publishEvent(EventType eventType) {
-        publishEvent(EventContext.create(eventType));
+        if (hasSubscribers(eventType)) {
+            publishEvent(EventContext.create(eventType));
+        }
     }
     
     /**
      * 发布事件（同步）
      */
     public static void publishEvent(EventType eventType, ExtAbility extAbility) {
-        publishEvent(EventContext.createExtEvent(eventType, extAbility));
+        if (hasSubscribers(eventType)) {
+            publishEvent(EventContext.createExtEvent(eventType, extAbility));
+        }
+    }
+
+    /**
+     * 发布事件（同步），仅在有订阅者关注时才构建事件上下文
+     */
+    public static void publishEvent(EventType eventType, Supplier<EventContext> eventSupplier) {
+        if (hasSubscribers(eventType)) {
+            publishEvent(eventSupplier.get());
+        }
     }
     
     /**
      * 发布事件（同步）
      */
     public static void publishEvent(EventContext eventContext) {
-        if (eventBus != null) {
+        EventBus bus = eventBus;
+        if (bus != null) {
             try {
-                eventBus.publish(eventContext);
+                bus.publish(eventContext);
             } catch (Exception e) {
                 log.error("发布事件失败: eventType={}", eventContext.getEventType(), e);
             }
@@ -193,9 +303,10 @@ public class EventPublisher {
      * 发布事件（异步）
      */
     public static CompletableFuture<Void> publishEventAsync(EventContext eventContext) {
-        if (eventBus != null) {
+        EventBus bus = eventBus;
+        if (bus != null) {
             try {
-                return eventBus.publishAsync(eventContext);
+                return bus.publishAsync(eventContext);
             } catch (Exception e) {
                 log.error("异步发布事件失败: eventType={}", eventContext.getEventType(), e);
                 CompletableFuture<Void> future = new CompletableFuture<>();
@@ -203,7 +314,17 @@ public class EventPublisher {
                 return future;
             }
         }
-        return CompletableFuture.completedFuture(null);
+        return COMPLETED;
+    }
+
+    /**
+     * 发布事件（异步），仅在有订阅者关注时才构建事件上下文
+     */
+    public static CompletableFuture<Void> publishEventAsync(EventType eventType, Supplier<EventContext> eventSupplier) {
+        if (!hasSubscribers(eventType)) {
+            return COMPLETED;
+        }
+        return publishEventAsync(eventSupplier.get());
     }
 
 } 
\ No newline at end of file
@@ -12,6 +12,8 @@ public enum EventType {
     EXT_REGISTERED,
     /** 扩展点注销 */
     EXT_UNREGISTERED,
+    /** 扩展点批量注册/替换，变更明细见 {@link EventContext#ATTR_REGISTERED} 和 {@link EventContext#ATTR_UNREGISTERED}，每个实例另发布注册/注销事件 */
+    EXT_BATCH_CHANGED,
     /** 扩展点查找 */
     EXT_FOUND,
     /** 扩展点未找到 */
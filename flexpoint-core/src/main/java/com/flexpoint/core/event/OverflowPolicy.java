@@ -0,0 +1,34 @@
+package com.flexpoint.core.event;
+
+/**
+ * 异步队列溢出策略
+ * 决定异步队列已满时如何处理新到达的事件或任务
+ *
+ * @author xiangganluo
+ */
+public enum OverflowPolicy {
+    /**
+     * 丢弃新到达的事件
+     */
+    DROP_NEWEST,
+
+    /**
+     * 丢弃队列中最早的事件，为新事件腾出位置
+     */
+    DROP_OLDEST,
+
+    /**
+     * 按采样比例由调用线程处理溢出的事件，其余丢弃
+     */
+    SAMPLE,
+
+    /**
+     * 阻塞等待队列空间，超时后丢弃
+     */
+    BLOCK,
+
+    /**
+     * 由调用线程直接处理
+     */
+    CALLER_RUNS
+}
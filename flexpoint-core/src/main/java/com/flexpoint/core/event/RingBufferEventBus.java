@@ -0,0 +1,248 @@
+package com.flexpoint.core.event;
+
+import com.flexpoint.core.event.ring.EventRingBuffer;
+import com.flexpoint.core.event.ring.WaitStrategy;
+import com.flexpoint.core.config.FlexPointConfig;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 基于环形缓冲区的事件总线实现
+ * 异步事件写入预分配的环形缓冲区，由单个消费者线程批量处理，异步路径不创建任务对象，
+ * 积压上限固定为缓冲区大小，缓冲区满时按 {@link OverflowPolicy} 处理；
+ * 消费者独占缓冲区头部，DROP_OLDEST按DROP_NEWEST处理
+ *
+ * @author xiangganluo
+ */
+@Slf4j
+public class RingBufferEventBus extends AbstractEventBus {
+
+    /**
+     * 默认缓冲区大小
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    /**
+     * 单批最大处理数量
+     */
+    private static final int MAX_BATCH = 256;
+
+    /**
+     * 异步发布立即返回的已完成结果，避免每次发布创建Future
+     */
+    private static final CompletableFuture<Void> COMPLETED = CompletableFuture.completedFuture(null);
+
+    private final EventRingBuffer ringBuffer;
+
+    private final WaitStrategy waitStrategy;
+
+    private final Thread consumerThread;
+
+    private final EventRingBuffer.SlotHandler slotHandler = this::onSlot;
+
+    private final BooleanSupplier hasPending;
+
+    private final OverflowPolicy overflowPolicy;
+
+    private final long blockTimeoutNanos;
+
+    private final int sampleInterval;
+
+    private final AtomicLong overflowCounter = new AtomicLong();
+
+    public RingBufferEventBus() {
+        this(DEFAULT_BUFFER_SIZE, WaitStrategy.sleeping());
+    }
+
+    /**
+     * 缓冲区满时生产者一直等待到有空间为止
+     */
+    public RingBufferEventBus(int bufferSize, WaitStrategy waitStrategy) {
+        this(bufferSize, waitStrategy, waitUntilSpaceConfig());
+    }
+
+    public RingBufferEventBus(FlexPointConfig.EventConfig config) {
+        this(ceilingPowerOfTwo(config.getAsyncQueueCapacity()), WaitStrategy.of(config.getWaitStrategy()), config);
+    }
+
+    public RingBufferEventBus(int bufferSize, WaitStrategy waitStrategy, FlexPointConfig.EventConfig config) {
+        super(config);
+        this.overflowPolicy = config.getOverflowPolicy();
+        this.blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(config.getBlockTimeoutMillis());
+        this.sampleInterval = Math.max(1, config.getSampleInterval());
+        this.ringBuffer = new EventRingBuffer(bufferSize);
+        this.waitStrategy = waitStrategy;
+        this.hasPending = ringBuffer::hasPending;
+        this.consumerThread = new Thread(this::consumeLoop, "flexpoint-ring-event");
+        this.consumerThread.setDaemon(true);
+        this.consumerThread.start();
+    }
+
+    private static FlexPointConfig.EventConfig waitUntilSpaceConfig() {
+        FlexPointConfig.EventConfig config = new FlexPointConfig.EventConfig();
+        config.setOverflowPolicy(OverflowPolicy.BLOCK);
+        config.setBlockTimeoutMillis(Long.MAX_VALUE);
+        return config;
+    }
+
+    private static int ceilingPowerOfTwo(int value) {
+        return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+
+    @Override
+    protected void dispatchAsync(EventSubscriber subscriber, EventContext eventContext) {
+        enqueue(subscriber, eventContext);
+    }
+
+    /**
+     * 异步发布事件
+     * 事件写入缓冲区后立即返回已完成的结果，不等待订阅者处理完成
+     */
+    @Override
+    public CompletableFuture<Void> publishAsync(EventContext eventContext) {
+        enqueue(null, eventContext);
+        return COMPLETED;
+    }
+
+    @Override
+    public void shutdown() {
+        if (shutdown.compareAndSet(false, true)) {
+            closeBatchers();
+            waitStrategy.signal();
+            try {
+                consumerThread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            log.info("事件总线已关闭");
+        }
+    }
+
+    /**
+     * 当前积压事件数量（近似值）
+     */
+    public long getBacklog() {
+        return ringBuffer.backlog();
+    }
+
+    public int getBufferSize() {
+        return ringBuffer.getCapacity();
+    }
+
+    private void enqueue(EventSubscriber subscriber, EventContext eventContext) {
+        SubscriberStats stats = statsOf(subscriber);
+        stats.onEnqueued();
+        if (ringBuffer.tryPublish(subscriber, eventContext)) {
+            waitStrategy.signal();
+            return;
+        }
+        stats.onRejected();
+        if (shutdown.get()) {
+            log.warn("事件总线已关闭，忽略事件: {}", eventContext.getEventType());
+            stats.onDropped();
+            return;
+        }
+        if (Thread.currentThread() == consumerThread) {
+            // 订阅者在消费线程内再次发布且缓冲区已满，直接处理避免自锁
+            runInline(subscriber, eventContext, stats);
+            return;
+        }
+        switch (overflowPolicy) {
+            case CALLER_RUNS:
+                runInline(subscriber, eventContext, stats);
+                return;
+            case SAMPLE:
+                if (overflowCounter.incrementAndGet() % sampleInterval == 0) {
+                    runInline(subscriber, eventContext, stats);
+                } else {
+                    stats.onDropped();
+                }
+                return;
+            case BLOCK:
+                stats.onEnqueued();
+                if (blockingPublish(subscriber, eventContext)) {
+                    waitStrategy.signal();
+                    return;
+                }
+                stats.onRejected();
+                stats.onDropped();
+                return;
+            case DROP_OLDEST:
+            case DROP_NEWEST:
+            default:
+                stats.onDropped();
+        }
+    }
+
+    private boolean blockingPublish(EventSubscriber subscriber, EventContext eventContext) {
+        // 超时时间按纳秒换算后饱和为Long.MAX_VALUE时视为一直等待
+        boolean timed = blockTimeoutNanos != Long.MAX_VALUE;
+        long deadline = timed ? System.nanoTime() + blockTimeoutNanos : 0L;
+        int attempts = 0;
+        while (!ringBuffer.tryPublish(subscriber, eventContext)) {
+            if (shutdown.get() || (timed && System.nanoTime() - deadline >= 0)) {
+                return false;
+            }
+            if (++attempts < 100) {
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(10_000L);
+            }
+        }
+        return true;
+    }
+
+    private void runInline(EventSubscriber subscriber, EventContext eventContext, SubscriberStats stats) {
+        stats.onCallerRuns();
+        process(subscriber, eventContext);
+    }
+
+    private void onSlot(EventSubscriber subscriber, EventContext eventContext) {
+        statsOf(subscriber).onDequeued(System.nanoTime() - eventContext.getNanoTime());
+        process(subscriber, eventContext);
+    }
+
+    private void process(EventSubscriber subscriber, EventContext eventContext) {
+        try {
+            if (subscriber == null) {
+                publish(eventContext);
+            } else {
+                handleEvent(subscriber, eventContext);
+            }
+        } catch (Throwable e) {
+            log.error("异步事件处理失败: eventType={}", eventContext.getEventType(), e);
+        }
+    }
+
+    private void consumeLoop() {
+        int idleCount = 0;
+        while (true) {
+            int processed = ringBuffer.drain(slotHandler, MAX_BATCH);
+            if (processed > 0) {
+                idleCount = 0;
+                continue;
+            }
+            if (shutdown.get()) {
+                // 关闭前处理完剩余事件
+                if (!ringBuffer.hasPending()) {
+                    return;
+                }
+                continue;
+            }
+            try {
+                waitStrategy.idle(idleCount, hasPending);
+                if (idleCount < Integer.MAX_VALUE) {
+                    idleCount++;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.flexpoint.core.event;
+
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 订阅者投递统计
+ * 记录异步排队、丢弃、调用线程执行以及处理耗时，计数器无锁累加，读取为近似快照；
+ * 批量订阅者的处理次数与耗时按批次统计
+ *
+ * @author xiangganluo
+ */
+public class SubscriberStats {
+
+    @Getter
+    private final String name;
+
+    private final LongAdder enqueued = new LongAdder();
+
+    private final LongAdder dropped = new LongAdder();
+
+    private final LongAdder callerRuns = new LongAdder();
+
+    private final LongAdder processed = new LongAdder();
+
+    private final LongAdder failed = new LongAdder();
+
+    private final LongAdder dequeued = new LongAdder();
+
+    private final AtomicLong queued = new AtomicLong();
+
+    private final LongAdder totalQueueNanos = new LongAdder();
+
+    private final LongAccumulator maxQueueNanos = new LongAccumulator(Math::max, 0L);
+
+    private final LongAdder totalProcessNanos = new LongAdder();
+
+    private final LongAccumulator maxProcessNanos = new LongAccumulator(Math::max, 0L);
+
+    public SubscriberStats(String name) {
+        this.name = name;
+    }
+
+    /**
+     * 记录事件进入异步队列
+     */
+    public void onEnqueued() {
+        enqueued.increment();
+        queued.incrementAndGet();
+    }
+
+    /**
+     * 记录事件离开异步队列
+     *
+     * @param queueNanos 排队耗时（纳秒）
+     */
+    public void onDequeued(long queueNanos) {
+        queued.decrementAndGet();
+        dequeued.increment();
+        totalQueueNanos.add(queueNanos);
+        maxQueueNanos.accumulate(queueNanos);
+    }
+
+    /**
+     * 撤销一次入队记录，用于入队被拒绝的事件
+     */
+    public void onRejected() {
+        enqueued.decrement();
+        queued.decrementAndGet();
+    }
+
+    /**
+     * 记录已入队事件被溢出策略丢弃
+     */
+    public void onEvicted() {
+        queued.decrementAndGet();
+        dropped.increment();
+    }
+
+    /**
+     * 记录事件被丢弃
+     */
+    public void onDropped() {
+        dropped.increment();
+    }
+
+    /**
+     * 记录事件由调用线程处理
+     */
+    public void onCallerRuns() {
+        callerRuns.increment();
+    }
+
+    /**
+     * 记录一次处理完成
+     *
+     * @param processNanos 处理耗时（纳秒）
+     * @param success 是否处理成功
+     */
+    public void onProcessed(long processNanos, boolean success) {
+        processed.increment();
+        if (!success) {
+            failed.increment();
+        }
+        totalProcessNanos.add(processNanos);
+        maxProcessNanos.accumulate(processNanos);
+    }
+
+    public long getEnqueuedCount() {
+        return enqueued.sum();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public long getCallerRunsCount() {
+        return callerRuns.sum();
+    }
+
+    public long getProcessedCount() {
+        return processed.sum();
+    }
+
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    /**
+     * 当前排队中的事件数量
+     */
+    public long getQueuedCount() {
+        return Math.max(0L, queued.get());
+    }
+
+    /**
+     * 平均排队耗时（毫秒）
+     */
+    public double getAverageQueueMillis() {
+        long count = dequeued.sum();
+        return count > 0 ? toMillis(totalQueueNanos.sum()) / count : 0.0;
+    }
+
+    /**
+     * 最大排队耗时（毫秒）
+     */
+    public double getMaxQueueMillis() {
+        return toMillis(maxQueueNanos.get());
+    }
+
+    /**
+     * 平均处理耗时（毫秒）
+     */
+    public double getAverageProcessMillis() {
+        long count = processed.sum();
+        return count > 0 ? toMillis(totalProcessNanos.sum()) / count : 0.0;
+    }
+
+    /**
+     * 最大处理耗时（毫秒）
+     */
+    public double getMaxProcessMillis() {
+        return toMillis(maxProcessNanos.get());
+    }
+
+    private static double toMillis(long nanos) {
+        return (double) nanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    @Override
+    public String toString() {
+        return "SubscriberStats{name=" + name + ", enqueued=" + getEnqueuedCount() + ", queued=" + getQueuedCount()
+            + ", dropped=" + getDroppedCount() + ", callerRuns=" + getCallerRunsCount()
+            + ", processed=" + getProcessedCount() + ", failed=" + getFailedCount()
+            + ", avgQueueMillis=" + getAverageQueueMillis() + ", avgProcessMillis=" + getAverageProcessMillis() + "}";
+    }
+}
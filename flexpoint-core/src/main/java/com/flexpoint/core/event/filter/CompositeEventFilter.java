@@ -1,6 +1,7 @@
 package com.flexpoint.core.event.filter;
 
 import com.flexpoint.core.event.EventContext;
+import com.flexpoint.core.event.EventType;
 
 import java.util.Arrays;
 import java.util.List;
@@ -44,6 +45,19 @@ public class CompositeEventFilter implements EventFilter {
         }
     }
     
+    @Override
+    public boolean acceptsEventType(EventType eventType) {
+        if (filters.isEmpty()) {
+            return true;
+        }
+
+        if (and) {
+            return filters.stream().allMatch(filter -> filter.acceptsEventType(eventType));
+        } else {
+            return filters.stream().anyMatch(filter -> filter.acceptsEventType(eventType));
+        }
+    }
+    
     /**
      * 创建AND组合过滤器
      */
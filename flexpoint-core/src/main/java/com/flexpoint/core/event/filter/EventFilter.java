@@ -1,6 +1,11 @@
 package com.flexpoint.core.event.filter;
 
 import com.flexpoint.core.event.EventContext;
+import com.flexpoint.core.event.EventType;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
 
 /**
  * 事件过滤器接口
@@ -18,6 +23,18 @@ public interface EventFilter {
      * @return true=匹配，false=过滤
      */
     boolean matches(EventContext eventContext);
+
+    /**
+     * 判断是否可能接收指定类型的事件
+     * 事件总线在订阅者变化时据此预先编排各事件类型的分派表，返回false的类型不会再调用 {@link #matches}；
+     * 无法仅凭事件类型判断时必须返回true
+     *
+     * @param eventType 事件类型
+     * @return false=该类型事件一定不匹配
+     */
+    default boolean acceptsEventType(EventType eventType) {
+        return true;
+    }
     
     /**
      * 创建始终匹配的过滤器
@@ -30,14 +47,43 @@ public interface EventFilter {
      * 创建始终不匹配的过滤器
      */
     static EventFilter never() {
-        return eventContext -> false;
+        return new EventFilter() {
+            @Override
+            public boolean matches(EventContext eventContext) {
+                return false;
+            }
+
+            @Override
+            public boolean acceptsEventType(EventType eventType) {
+                return false;
+            }
+        };
     }
     
     /**
      * 创建事件类型过滤器
      */
-    static EventFilter byEventType(com.flexpoint.core.event.EventType eventType) {
-        return eventContext -> eventContext.getEventType() == eventType;
+    static EventFilter byEventType(EventType eventType) {
+        return byEventTypes(eventType);
+    }
+
+    /**
+     * 创建多事件类型过滤器
+     */
+    static EventFilter byEventTypes(EventType... eventTypes) {
+        Set<EventType> accepted = eventTypes.length == 0
+                ? EnumSet.noneOf(EventType.class) : EnumSet.copyOf(Arrays.asList(eventTypes));
+        return new EventFilter() {
+            @Override
+            public boolean matches(EventContext eventContext) {
+                return accepted.contains(eventContext.getEventType());
+            }
+
+            @Override
+            public boolean acceptsEventType(EventType eventType) {
+                return accepted.contains(eventType);
+            }
+        };
     }
     
     /**
@@ -0,0 +1,53 @@
+package com.flexpoint.core.event.ring;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 阻塞等待策略
+ * 消费者在条件变量上等待，生产者仅在消费者确实处于等待状态时才加锁唤醒
+ *
+ * @author xiangganluo
+ */
+public class BlockingWaitStrategy implements WaitStrategy {
+
+    /**
+     * 兜底等待时长，避免关闭时消费者无法及时退出
+     */
+    private static final long MAX_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition notEmpty = lock.newCondition();
+
+    private volatile boolean waiting;
+
+    @Override
+    public void idle(int idleCount, BooleanSupplier hasWork) throws InterruptedException {
+        lock.lock();
+        try {
+            waiting = true;
+            // 标记等待后再检查一次，与生产者的发布-检查顺序配合避免丢失唤醒
+            if (!hasWork.getAsBoolean()) {
+                notEmpty.awaitNanos(MAX_WAIT_NANOS);
+            }
+        } finally {
+            waiting = false;
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void signal() {
+        if (waiting) {
+            lock.lock();
+            try {
+                notEmpty.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
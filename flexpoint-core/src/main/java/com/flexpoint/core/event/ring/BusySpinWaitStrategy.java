@@ -0,0 +1,17 @@
+package com.flexpoint.core.event.ring;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * 自旋等待策略
+ * 空闲时立即返回重新检查，适用于消费者线程绑定独占核心的场景
+ *
+ * @author xiangganluo
+ */
+public class BusySpinWaitStrategy implements WaitStrategy {
+
+    @Override
+    public void idle(int idleCount, BooleanSupplier hasWork) {
+        // 自旋
+    }
+}
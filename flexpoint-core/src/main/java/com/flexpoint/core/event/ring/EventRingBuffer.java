@@ -0,0 +1,99 @@
+package com.flexpoint.core.event.ring;
+
+import com.flexpoint.core.event.EventContext;
+import com.flexpoint.core.event.EventSubscriber;
+
+/**
+ * 事件环形缓冲区
+ * 多生产者、单消费者，槽位预先分配并循环复用，序号由 {@link RingSequencer} 协调
+ *
+ * @author xiangganluo
+ */
+public final class EventRingBuffer {
+
+    /**
+     * 消费者处理回调
+     */
+    @FunctionalInterface
+    public interface SlotHandler {
+        /**
+         * 处理一个槽位
+         *
+         * @param subscriber 目标订阅者，为null表示需要完整发布该事件
+         * @param eventContext 事件上下文
+         */
+        void onSlot(EventSubscriber subscriber, EventContext eventContext);
+    }
+
+    private final RingSequencer sequencer;
+
+    private final EventSubscriber[] subscribers;
+
+    private final EventContext[] contexts;
+
+    public EventRingBuffer(int bufferSize) {
+        this.sequencer = new RingSequencer(bufferSize);
+        this.subscribers = new EventSubscriber[bufferSize];
+        this.contexts = new EventContext[bufferSize];
+    }
+
+    /**
+     * 尝试写入一个槽位
+     *
+     * @return 缓冲区已满时返回false
+     */
+    public boolean tryPublish(EventSubscriber subscriber, EventContext eventContext) {
+        long sequence = sequencer.tryClaim();
+        if (sequence == RingSequencer.FULL) {
+            return false;
+        }
+        int index = sequencer.indexOf(sequence);
+        subscribers[index] = subscriber;
+        contexts[index] = eventContext;
+        sequencer.publish(sequence);
+        return true;
+    }
+
+    /**
+     * 批量消费连续已发布的槽位，仅允许单个消费者线程调用
+     *
+     * @param handler 处理回调
+     * @param maxBatch 单批最大处理数量
+     * @return 本批处理数量
+     */
+    public int drain(SlotHandler handler, int maxBatch) {
+        long sequence = sequencer.nextToConsume();
+        int count = 0;
+        while (count < maxBatch && sequencer.isPublished(sequence)) {
+            int index = sequencer.indexOf(sequence);
+            EventSubscriber subscriber = subscribers[index];
+            EventContext eventContext = contexts[index];
+            // 清空引用，避免槽位长期持有已处理的事件
+            subscribers[index] = null;
+            contexts[index] = null;
+            handler.onSlot(subscriber, eventContext);
+            sequence++;
+            count++;
+        }
+        sequencer.commit(sequence);
+        return count;
+    }
+
+    /**
+     * 是否有待消费的槽位
+     */
+    public boolean hasPending() {
+        return sequencer.hasPending();
+    }
+
+    /**
+     * 当前积压数量（近似值）
+     */
+    public long backlog() {
+        return sequencer.backlog();
+    }
+
+    public int getCapacity() {
+        return sequencer.getCapacity();
+    }
+}
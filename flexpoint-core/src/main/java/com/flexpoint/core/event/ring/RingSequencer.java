@@ -0,0 +1,130 @@
+package com.flexpoint.core.event.ring;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 多生产者、单消费者环形缓冲区的序号协调器
+ * 只管理序号，槽位内容由使用方以并列数组保存：生产者通过CAS申领序号，写入槽位后按序号发布；
+ * 消费者按序读取已发布的序号，整批处理完后才推进消费进度，减少与生产者之间的缓存行争用
+ *
+ * @author xiangganluo
+ */
+public final class RingSequencer {
+
+    /**
+     * 缓冲区已满时 {@link #tryClaim()} 的返回值
+     */
+    public static final long FULL = -1L;
+
+    private final int capacity;
+
+    private final int mask;
+
+    /**
+     * 每个槽位最近一次发布的序号
+     */
+    private final AtomicLongArray published;
+
+    /**
+     * 已申领的最大序号
+     */
+    private final AtomicLong claimed = new AtomicLong(-1);
+
+    /**
+     * 已消费的最大序号
+     */
+    private final AtomicLong consumed = new AtomicLong(-1);
+
+    /**
+     * 消费者本地进度，仅消费者线程访问
+     */
+    private long nextToConsume = 0;
+
+    public RingSequencer(int bufferSize) {
+        if (bufferSize <= 0 || Integer.bitCount(bufferSize) != 1) {
+            throw new IllegalArgumentException("环形缓冲区大小必须是2的幂: " + bufferSize);
+        }
+        this.capacity = bufferSize;
+        this.mask = bufferSize - 1;
+        this.published = new AtomicLongArray(bufferSize);
+        for (int i = 0; i < bufferSize; i++) {
+            published.set(i, -1);
+        }
+    }
+
+    /**
+     * 申领下一个序号
+     *
+     * @return 申领到的序号，缓冲区已满时返回 {@link #FULL}
+     */
+    public long tryClaim() {
+        long sequence;
+        do {
+            sequence = claimed.get() + 1;
+            if (sequence - capacity > consumed.get()) {
+                return FULL;
+            }
+        } while (!claimed.compareAndSet(sequence - 1, sequence));
+        return sequence;
+    }
+
+    /**
+     * 发布已写入槽位的序号
+     * volatile写，保证消费者读到序号时槽位内容已可见
+     */
+    public void publish(long sequence) {
+        published.set(indexOf(sequence), sequence);
+    }
+
+    /**
+     * 序号对应的槽位下标
+     */
+    public int indexOf(long sequence) {
+        return (int) sequence & mask;
+    }
+
+    /**
+     * 消费者下一个待处理的序号，仅消费者线程调用
+     */
+    public long nextToConsume() {
+        return nextToConsume;
+    }
+
+    /**
+     * 序号是否已发布
+     */
+    public boolean isPublished(long sequence) {
+        return published.get(indexOf(sequence)) == sequence;
+    }
+
+    /**
+     * 提交消费进度，之前的槽位可被生产者复用，仅消费者线程调用
+     *
+     * @param next 下一个待处理的序号
+     */
+    public void commit(long next) {
+        if (next > nextToConsume) {
+            nextToConsume = next;
+            consumed.lazySet(next - 1);
+        }
+    }
+
+    /**
+     * 是否有待消费的槽位
+     */
+    public boolean hasPending() {
+        return isPublished(nextToConsume);
+    }
+
+    /**
+     * 当前积压数量（近似值）
+     */
+    public long backlog() {
+        return Math.max(0, claimed.get() - consumed.get());
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+}
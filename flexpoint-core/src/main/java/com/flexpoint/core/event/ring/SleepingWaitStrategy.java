@@ -0,0 +1,39 @@
+package com.flexpoint.core.event.ring;
+
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 休眠等待策略
+ * 先自旋，再让出CPU，最后每次休眠固定时长
+ *
+ * @author xiangganluo
+ */
+public class SleepingWaitStrategy implements WaitStrategy {
+
+    private static final int SPIN_TRIES = 100;
+
+    private static final int YIELD_TRIES = 200;
+
+    private final long sleepNanos;
+
+    public SleepingWaitStrategy() {
+        this(100_000L);
+    }
+
+    public SleepingWaitStrategy(long sleepNanos) {
+        this.sleepNanos = sleepNanos;
+    }
+
+    @Override
+    public void idle(int idleCount, BooleanSupplier hasWork) {
+        if (idleCount < SPIN_TRIES) {
+            return;
+        }
+        if (idleCount < YIELD_TRIES) {
+            Thread.yield();
+            return;
+        }
+        LockSupport.parkNanos(sleepNanos);
+    }
+}
@@ -0,0 +1,71 @@
+package com.flexpoint.core.event.ring;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * 环形缓冲区消费者等待策略
+ * 决定消费者在没有可处理事件时如何让出CPU，以及生产者发布后如何唤醒消费者
+ *
+ * @author xiangganluo
+ */
+public interface WaitStrategy {
+
+    /**
+     * 消费者空闲时调用，返回后消费者重新检查是否有可处理事件
+     *
+     * @param idleCount 连续空闲次数，处理到事件后从0重新计数
+     * @param hasWork 检查是否已有可处理事件
+     */
+    void idle(int idleCount, BooleanSupplier hasWork) throws InterruptedException;
+
+    /**
+     * 生产者发布事件后调用，唤醒等待中的消费者
+     */
+    default void signal() {
+    }
+
+    /**
+     * 阻塞等待，CPU占用最低，延迟最高
+     */
+    static WaitStrategy blocking() {
+        return new BlockingWaitStrategy();
+    }
+
+    /**
+     * 自旋后让出再短暂休眠，兼顾延迟与CPU占用
+     */
+    static WaitStrategy sleeping() {
+        return new SleepingWaitStrategy();
+    }
+
+    /**
+     * 自旋后让出CPU，延迟低，空闲时仍占用CPU
+     */
+    static WaitStrategy yielding() {
+        return new YieldingWaitStrategy();
+    }
+
+    /**
+     * 持续自旋，延迟最低，独占一个CPU核心
+     */
+    static WaitStrategy busySpin() {
+        return new BusySpinWaitStrategy();
+    }
+
+    /**
+     * 按类型创建等待策略
+     */
+    static WaitStrategy of(WaitStrategyType type) {
+        switch (type) {
+            case BLOCKING:
+                return blocking();
+            case YIELDING:
+                return yielding();
+            case BUSY_SPIN:
+                return busySpin();
+            case SLEEPING:
+            default:
+                return sleeping();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.flexpoint.core.event.ring;
+
+/**
+ * 等待策略类型
+ *
+ * @author xiangganluo
+ */
+public enum WaitStrategyType {
+    /** 阻塞等待 */
+    BLOCKING,
+    /** 自旋、让出后休眠 */
+    SLEEPING,
+    /** 自旋后让出 */
+    YIELDING,
+    /** 持续自旋 */
+    BUSY_SPIN
+}
@@ -0,0 +1,21 @@
+package com.flexpoint.core.event.ring;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * 让出等待策略
+ * 先自旋，之后每次空闲都让出CPU
+ *
+ * @author xiangganluo
+ */
+public class YieldingWaitStrategy implements WaitStrategy {
+
+    private static final int SPIN_TRIES = 100;
+
+    @Override
+    public void idle(int idleCount, BooleanSupplier hasWork) {
+        if (idleCount >= SPIN_TRIES) {
+            Thread.yield();
+        }
+    }
+}
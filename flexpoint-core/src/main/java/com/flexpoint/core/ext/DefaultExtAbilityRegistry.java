@@ -4,14 +4,19 @@ import com.flexpoint.core.config.FlexPointConfig;
 import com.flexpoint.core.event.EventContext;
 import com.flexpoint.core.event.EventPublisher;
 import com.flexpoint.core.event.EventType;
+import com.flexpoint.core.ext.index.ExtTypeSnapshot;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static com.flexpoint.core.utils.ExtUtil.getExtType;
 
@@ -19,6 +24,8 @@ import static com.flexpoint.core.utils.ExtUtil.getExtType;
  * 默认扩展点注册中心实现
  * 支持扩展点注册、查找、事件发布
  * 一个code可以对应多个扩展点实现，通过标签区分
+ * 全部扩展点类型的快照组成一份不可变状态，注册/注销时基于当前状态生成新状态并通过CAS原子替换，
+ * 批量操作只重建一次受影响类型的索引，查找时直接返回快照视图
  * @author xiangganluo
  * @version 1.0.0
  * @email xiangganluo@gmail.com
@@ -28,85 +35,195 @@ public class DefaultExtAbilityRegistry implements ExtAbilityRegistry {
 
     private final FlexPointConfig.RegistryConfig registryConfig;
 
-    // 类型 -> 扩展点实例列表
-    private final Map<Class<? extends ExtAbility>, List<ExtAbility>> extAbilityMap = new ConcurrentHashMap<>();
+    // 类型 -> 扩展点快照（实例数组 + 路由索引），整体不可变
+    private final AtomicReference<Map<Class<? extends ExtAbility>, ExtTypeSnapshot>> state =
+            new AtomicReference<>(Collections.emptyMap());
 
     public DefaultExtAbilityRegistry(FlexPointConfig.RegistryConfig registryConfig) {
         this.registryConfig = registryConfig;
     }
 
     @Override
-    public synchronized void register(ExtAbility instance) {
-        if (instance == null) {
-            throw new IllegalArgumentException("扩展点实例不能为空");
-        }
-        
-        Class<? extends ExtAbility> extType = getExtType(instance);
-        if (extType == null) {
-            throw new IllegalArgumentException("扩展点实例必须实现ExtAbility接口: " + instance.getClass().getName());
-        }
+    public void register(ExtAbility instance) {
+        checkInstance(instance);
+        apply(Collections.emptyList(), Collections.singletonList(instance));
 
-        // 注册到类型映射 - 允许同一个code的多个实现
-        extAbilityMap.computeIfAbsent(extType, k -> new ArrayList<>()).add(instance);
-        
         // 发布注册事件
         publishEvent(EventType.EXT_REGISTERED, instance);
-        
-        log.info("扩展点注册成功: type={}, code={}, class={}", 
-            extType.getSimpleName(), instance.getCode(), instance.getClass().getName());
+
+        if (log.isDebugEnabled()) {
+            log.debug("扩展点注册成功: type={}, code={}, class={}",
+                getExtType(instance).getSimpleName(), instance.getCode(), instance.getClass().getName());
+        }
     }
-    
+
     @Override
-    public synchronized void unregister(ExtAbility instance) {
+    public void unregister(ExtAbility instance) {
         if (instance == null) {
             return;
         }
-        
-        Class<? extends ExtAbility> extType = getExtType(instance);
-        if (extType == null) {
+
+        if (apply(Collections.singletonList(instance), Collections.emptyList()).isEmpty()) {
             return;
         }
-        
-        List<ExtAbility> list = extAbilityMap.get(extType);
-        if (list != null && list.remove(instance)) {
-            // 发布注销事件
+
+        // 发布注销事件
+        publishEvent(EventType.EXT_UNREGISTERED, instance);
+
+        if (log.isDebugEnabled()) {
+            log.debug("扩展点注销成功: type={}, code={}, class={}",
+                getExtType(instance).getSimpleName(), instance.getCode(), instance.getClass().getName());
+        }
+    }
+
+    @Override
+    public void registerAll(Collection<? extends ExtAbility> instances) {
+        replaceAll(Collections.emptyList(), instances);
+    }
+
+    @Override
+    public void replaceAll(Collection<? extends ExtAbility> removed, Collection<? extends ExtAbility> added) {
+        for (ExtAbility instance : added) {
+            checkInstance(instance);
+        }
+        if (removed.isEmpty() && added.isEmpty()) {
+            return;
+        }
+
+        List<ExtAbility> unregistered = apply(removed, added);
+
+        // 发布一次批量变更事件
+        EventPublisher.publishEventAsync(EventType.EXT_BATCH_CHANGED, () -> EventContext.create(EventType.EXT_BATCH_CHANGED)
+            .withAttribute(EventContext.ATTR_REGISTERED, Collections.unmodifiableList(new ArrayList<>(added)))
+            .withAttribute(EventContext.ATTR_UNREGISTERED, Collections.unmodifiableList(unregistered)));
+        // 逐个发布注册/注销事件，保持与逐个注册时相同的事件语义；无人订阅时不构建事件
+        for (ExtAbility instance : unregistered) {
             publishEvent(EventType.EXT_UNREGISTERED, instance);
-            
-            log.info("扩展点注销成功: type={}, code={}, class={}", 
-                extType.getSimpleName(), instance.getCode(), instance.getClass().getName());
+        }
+        for (ExtAbility instance : added) {
+            publishEvent(EventType.EXT_REGISTERED, instance);
+        }
+
+        log.info("扩展点批量变更完成: 注册{}个, 注销{}个", added.size(), unregistered.size());
+        if (log.isDebugEnabled()) {
+            for (ExtAbility instance : unregistered) {
+                log.debug("扩展点注销成功: type={}, code={}, class={}",
+                    getExtType(instance).getSimpleName(), instance.getCode(), instance.getClass().getName());
+            }
+            for (ExtAbility instance : added) {
+                log.debug("扩展点注册成功: type={}, code={}, class={}",
+                    getExtType(instance).getSimpleName(), instance.getCode(), instance.getClass().getName());
+            }
         }
     }
 
     @Override
     public <T extends ExtAbility> List<T> getAllExtAbility(Class<T> extType) {
-        List<ExtAbility> list = extAbilityMap.get(extType);
-        if (list == null) {
+        ExtTypeSnapshot snapshot = state.get().get(extType);
+        if (snapshot == null) {
             // 发布未找到事件
             publishEvent(EventType.EXT_NOT_FOUND, null, extType);
             return Collections.emptyList();
         }
-        
+
         // 发布找到事件
         publishEvent(EventType.EXT_FOUND, null, extType);
-        
-        return list.stream().map(extType::cast).collect(Collectors.toList());
+
+        return snapshot.asList();
     }
-    
+
+    /**
+     * 基于当前状态生成新状态并CAS替换，失败时重试
+     *
+     * @return 实际注销的扩展点
+     */
+    private List<ExtAbility> apply(Collection<? extends ExtAbility> removed, Collection<? extends ExtAbility> added) {
+        Map<Class<? extends ExtAbility>, List<ExtAbility>> removedByType = groupByType(removed);
+        Map<Class<? extends ExtAbility>, List<ExtAbility>> addedByType = groupByType(added);
+        while (true) {
+            Map<Class<? extends ExtAbility>, ExtTypeSnapshot> current = state.get();
+            Map<Class<? extends ExtAbility>, ExtTypeSnapshot> next = new HashMap<>(current);
+            List<ExtAbility> unregistered = new ArrayList<>(removed.size());
+            boolean changed = false;
+
+            Set<Class<? extends ExtAbility>> types = new LinkedHashSet<>(removedByType.keySet());
+            types.addAll(addedByType.keySet());
+            for (Class<? extends ExtAbility> extType : types) {
+                ExtTypeSnapshot snapshot = current.getOrDefault(extType, ExtTypeSnapshot.empty());
+                List<ExtAbility> toRemove = removedByType.getOrDefault(extType, Collections.emptyList());
+                List<ExtAbility> toAdd = addedByType.getOrDefault(extType, Collections.emptyList());
+                ExtTypeSnapshot updated = snapshot.update(toRemove, toAdd);
+                if (updated == snapshot) {
+                    continue;
+                }
+                collectRemoved(snapshot, toRemove, unregistered);
+                // 注册过的类型即使被清空也保留空快照，与逐个注销时的行为一致
+                next.put(extType, updated);
+                changed = true;
+            }
+
+            if (!changed) {
+                return unregistered;
+            }
+            if (state.compareAndSet(current, Collections.unmodifiableMap(next))) {
+                return unregistered;
+            }
+        }
+    }
+
+    private static Map<Class<? extends ExtAbility>, List<ExtAbility>> groupByType(Collection<? extends ExtAbility> instances) {
+        if (instances.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Class<? extends ExtAbility>, List<ExtAbility>> grouped = new LinkedHashMap<>();
+        for (ExtAbility instance : instances) {
+            if (instance != null) {
+                grouped.computeIfAbsent(getExtType(instance), k -> new ArrayList<>()).add(instance);
+            }
+        }
+        return grouped;
+    }
+
+    /**
+     * 记录快照中实际存在并被移除的扩展点
+     */
+    private static void collectRemoved(ExtTypeSnapshot snapshot, List<ExtAbility> toRemove, List<ExtAbility> unregistered) {
+        if (toRemove.isEmpty()) {
+            return;
+        }
+        List<ExtAbility> present = new ArrayList<>(snapshot.<ExtAbility>asList());
+        for (ExtAbility ext : toRemove) {
+            if (present.remove(ext)) {
+                unregistered.add(ext);
+            }
+        }
+    }
+
+    private static void checkInstance(ExtAbility instance) {
+        if (instance == null) {
+            throw new IllegalArgumentException("扩展点实例不能为空");
+        }
+    }
+
     /**
      * 发布事件
      */
     private void publishEvent(EventType eventType, ExtAbility extAbility) {
         publishEvent(eventType, extAbility, null);
     }
-    
+
     /**
      * 发布事件
      */
     private void publishEvent(EventType eventType, ExtAbility extAbility, Class<? extends ExtAbility> extType) {
-            EventContext eventContext = EventContext.createExtEvent(eventType, extAbility);
-            if (extType != null) {
-                eventContext.setExtType(extType);
-            }
+        // 无人关注时不构建事件上下文
+        if (!EventPublisher.hasSubscribers(eventType)) {
+            return;
+        }
+        EventContext eventContext = EventContext.createExtEvent(eventType, extAbility);
+        if (extType != null) {
+            eventContext.setExtType(extType);
+        }
         EventPublisher.publishEventAsync(eventContext);
     }
 
@@ -114,8 +231,8 @@ public class DefaultExtAbilityRegistry implements ExtAbilityRegistry {
      * 获取注册的扩展点总数
      */
     public int getRegisteredCount() {
-        return extAbilityMap.values().stream()
-            .mapToInt(List::size)
+        return state.get().values().stream()
+            .mapToInt(ExtTypeSnapshot::size)
             .sum();
     }
 
@@ -123,20 +240,21 @@ public class DefaultExtAbilityRegistry implements ExtAbilityRegistry {
      * 获取指定类型的扩展点数量
      */
     public <T extends ExtAbility> int getCountByType(Class<T> extType) {
-        List<ExtAbility> list = extAbilityMap.get(extType);
-        return list != null ? list.size() : 0;
+        ExtTypeSnapshot snapshot = state.get().get(extType);
+        return snapshot != null ? snapshot.size() : 0;
     }
 
     /**
      * 清空所有注册的扩展点
      */
-    public synchronized void clear() {
+    public void clear() {
+        Map<Class<? extends ExtAbility>, ExtTypeSnapshot> previous = state.getAndSet(Collections.emptyMap());
+
         // 发布注销事件
-        extAbilityMap.values().stream()
-            .flatMap(List::stream)
+        previous.values().stream()
+            .flatMap(snapshot -> snapshot.<ExtAbility>asList().stream())
             .forEach(ext -> publishEvent(EventType.EXT_UNREGISTERED, ext));
 
-        extAbilityMap.clear();
         log.info("清空所有扩展点");
     }
 
@@ -1,7 +1,5 @@
 package com.flexpoint.core.ext;
 
-import com.flexpoint.core.utils.ExtUtil;
-
 /**
  * 扩展点能力接口
  * 所有扩展点实现类都应该实现此接口
@@ -31,13 +29,12 @@ public interface ExtAbility {
 
     /**
      * 获取扩展点唯一标识
-     * 默认实现：扩展点定义类名#子类实现全限定类名
+     * 默认实现：扩展点定义类名#子类实现全限定类名，按类缓存无需重复拼接
      * 
      * @return 扩展点唯一标识
      */
     default String getExtId() {
-        Class<? extends ExtAbility> extType = ExtUtil.getExtType(this);
-        return extType.getSimpleName() + "#" + this.getClass().getName();
+        return ExtTypeDescriptor.of(this).getExtId();
     }
 
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.flexpoint.core.ext;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -24,12 +25,38 @@ public interface ExtAbilityRegistry {
      */
     void unregister(ExtAbility instance);
     
+    /**
+     * 批量注册扩展点
+     * 默认逐个注册，实现类可覆盖为一次性重建索引并原子生效
+     *
+     * @param instances 扩展点实例集合
+     */
+    default void registerAll(Collection<? extends ExtAbility> instances) {
+        for (ExtAbility instance : instances) {
+            register(instance);
+        }
+    }
+
+    /**
+     * 批量替换扩展点，先注销removed再注册added
+     * 默认逐个执行，实现类可覆盖为原子替换，适用于整体重新部署某个租户的扩展点
+     *
+     * @param removed 待注销的扩展点实例集合
+     * @param added 待注册的扩展点实例集合
+     */
+    default void replaceAll(Collection<? extends ExtAbility> removed, Collection<? extends ExtAbility> added) {
+        for (ExtAbility instance : removed) {
+            unregister(instance);
+        }
+        registerAll(added);
+    }
+    
     /**
      * 获取指定类型的所有扩展点
      *
      * @param <T> 扩展点类型
      * @param extType 扩展点类型
-     * @return 扩展点列表
+     * @return 扩展点列表（只读快照，调用方不可修改）
      */
     <T extends ExtAbility> List<T> getAllExtAbility(Class<T> extType);
 
@@ -0,0 +1,81 @@
+package com.flexpoint.core.ext;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 标签键全局符号表
+ * 标签键在构建时驻留为递增的整数符号，所有扩展点共享同一份键字符串，查找时按符号比较
+ *
+ * @author xiangganluo
+ */
+public final class ExtTagSymbols {
+
+    /**
+     * 未驻留的标签键
+     */
+    public static final int NO_SYMBOL = -1;
+
+    private static final Map<String, Integer> SYMBOLS = new ConcurrentHashMap<>();
+
+    private static volatile String[] names = new String[16];
+
+    private static int nextSymbol = 0;
+
+    private ExtTagSymbols() {
+    }
+
+    /**
+     * 获取标签键的符号，不存在时分配新符号
+     */
+    public static int intern(String key) {
+        Integer symbol = SYMBOLS.get(key);
+        if (symbol != null) {
+            return symbol;
+        }
+        synchronized (ExtTagSymbols.class) {
+            symbol = SYMBOLS.get(key);
+            if (symbol != null) {
+                return symbol;
+            }
+            int id = nextSymbol++;
+            String[] current = names;
+            if (id >= current.length) {
+                current = Arrays.copyOf(current, current.length << 1);
+            }
+            current[id] = key;
+            // 先发布名称表再发布符号，保证读到符号时一定能取到名称
+            names = current;
+            SYMBOLS.put(key, id);
+            return id;
+        }
+    }
+
+    /**
+     * 查找标签键的符号，不分配新符号
+     *
+     * @return 符号，未驻留时返回 {@link #NO_SYMBOL}
+     */
+    public static int lookup(String key) {
+        if (key == null) {
+            return NO_SYMBOL;
+        }
+        Integer symbol = SYMBOLS.get(key);
+        return symbol != null ? symbol : NO_SYMBOL;
+    }
+
+    /**
+     * 获取符号对应的标签键
+     */
+    public static String nameOf(int symbol) {
+        return names[symbol];
+    }
+
+    /**
+     * 已驻留的标签键数量
+     */
+    public static int size() {
+        return SYMBOLS.size();
+    }
+}
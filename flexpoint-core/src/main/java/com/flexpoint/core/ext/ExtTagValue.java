@@ -0,0 +1,177 @@
+package com.flexpoint.core.ext;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * 预解析的标签值
+ * 构建时解析字符串、整数和布尔形式，集合/列表形式首次访问时解析一次并缓存；
+ * 常见的短值在全局驻留池中共享，相同值的扩展点复用同一实例
+ *
+ * @author xiangganluo
+ */
+public final class ExtTagValue {
+
+    private static final Pattern SEPARATOR = Pattern.compile("[,;\\s]+");
+
+    /**
+     * 驻留池上限，超出后不再驻留新值
+     */
+    private static final int INTERN_LIMIT = 4096;
+
+    /**
+     * 可驻留的字符串值最大长度
+     */
+    private static final int INTERN_MAX_LENGTH = 64;
+
+    private static final Map<Object, ExtTagValue> INTERNED = new ConcurrentHashMap<>();
+
+    private final Object raw;
+
+    private final String stringValue;
+
+    private final Integer intValue;
+
+    private final Boolean booleanValue;
+
+    private volatile Set<String> setValue;
+
+    private volatile List<String> listValue;
+
+    private ExtTagValue(Object raw) {
+        this.raw = raw;
+        this.stringValue = raw.toString();
+        this.intValue = parseInt(raw);
+        this.booleanValue = parseBoolean(raw);
+    }
+
+    /**
+     * 创建标签值，短字符串、整数和布尔值走驻留池
+     */
+    public static ExtTagValue of(Object raw) {
+        if (!isInternable(raw)) {
+            return new ExtTagValue(raw);
+        }
+        ExtTagValue value = INTERNED.get(raw);
+        if (value != null) {
+            return value;
+        }
+        if (INTERNED.size() >= INTERN_LIMIT) {
+            return new ExtTagValue(raw);
+        }
+        return INTERNED.computeIfAbsent(raw, ExtTagValue::new);
+    }
+
+    public Object getRaw() {
+        return raw;
+    }
+
+    public String getString() {
+        return stringValue;
+    }
+
+    public Integer getInt() {
+        return intValue;
+    }
+
+    public Boolean getBoolean() {
+        return booleanValue;
+    }
+
+    @SuppressWarnings("unchecked")
+    public Set<String> getSet() {
+        if (raw instanceof Set) {
+            return (Set<String>) raw;
+        }
+        if (!(raw instanceof String)) {
+            return Collections.emptySet();
+        }
+        Set<String> set = setValue;
+        if (set == null) {
+            set = Collections.unmodifiableSet(new LinkedHashSet<>(getList()));
+            setValue = set;
+        }
+        return set;
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<String> getList() {
+        if (raw instanceof List) {
+            return (List<String>) raw;
+        }
+        if (!(raw instanceof String)) {
+            return Collections.emptyList();
+        }
+        List<String> list = listValue;
+        if (list == null) {
+            String str = (String) raw;
+            list = str.isEmpty() ? Collections.emptyList()
+                    : Collections.unmodifiableList(Arrays.asList(SEPARATOR.split(str)));
+            listValue = list;
+        }
+        return list;
+    }
+
+    /**
+     * 与原始值比较
+     */
+    public boolean matches(Object value) {
+        return Objects.equals(raw, value);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof ExtTagValue && raw.equals(((ExtTagValue) o).raw);
+    }
+
+    @Override
+    public int hashCode() {
+        return raw.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return stringValue;
+    }
+
+    private static boolean isInternable(Object raw) {
+        if (raw instanceof String) {
+            return ((String) raw).length() <= INTERN_MAX_LENGTH;
+        }
+        return raw instanceof Integer || raw instanceof Boolean;
+    }
+
+    private static Integer parseInt(Object raw) {
+        if (raw instanceof Integer) {
+            return (Integer) raw;
+        }
+        if (raw instanceof String) {
+            try {
+                return Integer.parseInt((String) raw);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private static Boolean parseBoolean(Object raw) {
+        if (raw instanceof Boolean) {
+            return (Boolean) raw;
+        }
+        if (raw instanceof String) {
+            return Boolean.parseBoolean((String) raw);
+        }
+        return null;
+    }
+}
@@ -6,141 +6,195 @@ import java.util.*;
  * 扩展点标签系统
  * 完全抽象化的键值对存储，类似HTTP请求头和RPC元数据
  * 不包含任何业务概念，支持任意场景的标签存储
+ * 标签键驻留为全局符号并按符号有序存放，标签值构建时预解析，读取时无需分配
  * @author xiangganluo
  */
 public class ExtTags {
-    
-    private final Map<String, Object> tags;
-    
-    private ExtTags(Map<String, Object> tags) {
-        this.tags = new HashMap<>(tags);
+
+    private static final ExtTags EMPTY = new ExtTags(new int[0], new ExtTagValue[0]);
+
+    /**
+     * 标签键符号，升序排列
+     */
+    private final int[] symbols;
+
+    /**
+     * 与符号一一对应的标签值
+     */
+    private final ExtTagValue[] values;
+
+    /**
+     * 按需构建的只读键值视图，标签不可变，并发构建时任取其一即可
+     */
+    private volatile Map<String, Object> view;
+
+    private ExtTags(int[] symbols, ExtTagValue[] values) {
+        this.symbols = symbols;
+        this.values = values;
     }
-    
+
     public static ExtTags empty() {
-        return new ExtTags(Collections.emptyMap());
+        return EMPTY;
     }
-    
+
     public static Builder builder() {
         return new Builder();
     }
-    
+
     // 基础标签操作方法
     public Object get(String key) {
-        return tags.get(key);
+        ExtTagValue value = find(key);
+        return value != null ? value.getRaw() : null;
     }
-    
+
     public String getString(String key) {
-        Object value = tags.get(key);
-        return value != null ? value.toString() : null;
+        ExtTagValue value = find(key);
+        return value != null ? value.getString() : null;
     }
-    
+
     public String getString(String key, String defaultValue) {
         String value = getString(key);
         return value != null ? value : defaultValue;
     }
-    
+
     public Integer getInt(String key) {
-        Object value = tags.get(key);
-        if (value instanceof Integer) {
-            return (Integer) value;
-        }
-        if (value instanceof String) {
-            try {
-                return Integer.parseInt((String) value);
-            } catch (NumberFormatException e) {
-                return null;
-            }
-        }
-        return null;
+        ExtTagValue value = find(key);
+        return value != null ? value.getInt() : null;
     }
-    
+
     public Boolean getBoolean(String key) {
-        Object value = tags.get(key);
-        if (value instanceof Boolean) {
-            return (Boolean) value;
-        }
-        if (value instanceof String) {
-            return Boolean.parseBoolean((String) value);
-        }
-        return null;
+        ExtTagValue value = find(key);
+        return value != null ? value.getBoolean() : null;
     }
-    
-    @SuppressWarnings("unchecked")
+
     public Set<String> getSet(String key) {
-        Object value = tags.get(key);
-        if (value instanceof Set) {
-            return (Set<String>) value;
-        }
-        if (value instanceof String) {
-            String str = (String) value;
-            if (str.isEmpty()) {
-                return Collections.emptySet();
-            }
-            return new HashSet<>(Arrays.asList(str.split("[,;\\s]+")));
-        }
-        return Collections.emptySet();
+        ExtTagValue value = find(key);
+        return value != null ? value.getSet() : Collections.emptySet();
     }
-    
-    @SuppressWarnings("unchecked")
+
     public List<String> getList(String key) {
-        Object value = tags.get(key);
-        if (value instanceof List) {
-            return (List<String>) value;
-        }
-        if (value instanceof String) {
-            String str = (String) value;
-            if (str.isEmpty()) {
-                return Collections.emptyList();
-            }
-            return Arrays.asList(str.split("[,;\\s]+"));
-        }
-        return Collections.emptyList();
+        ExtTagValue value = find(key);
+        return value != null ? value.getList() : Collections.emptyList();
     }
-    
+
     public boolean has(String key) {
-        return tags.containsKey(key);
+        return find(key) != null;
     }
-    
+
     public boolean has(String key, Object value) {
-        return Objects.equals(tags.get(key), value);
+        ExtTagValue tagValue = find(key);
+        return tagValue != null ? tagValue.matches(value) : value == null;
     }
-    
+
+    /**
+     * 按符号获取预解析的标签值
+     */
+    public ExtTagValue getValue(int symbol) {
+        int index = indexOf(symbol);
+        return index >= 0 ? values[index] : null;
+    }
+
+    /**
+     * 第index个标签的键符号
+     */
+    public int symbolAt(int index) {
+        return symbols[index];
+    }
+
+    /**
+     * 第index个标签的值
+     */
+    public ExtTagValue valueAt(int index) {
+        return values[index];
+    }
+
     public Map<String, Object> getAll() {
-        return Collections.unmodifiableMap(tags);
+        Map<String, Object> all = view;
+        if (all == null) {
+            Map<String, Object> map = new LinkedHashMap<>(symbols.length * 2);
+            for (int i = 0; i < symbols.length; i++) {
+                map.put(ExtTagSymbols.nameOf(symbols[i]), values[i].getRaw());
+            }
+            all = Collections.unmodifiableMap(map);
+            view = all;
+        }
+        return all;
     }
-    
+
     public int size() {
-        return tags.size();
+        return symbols.length;
     }
-    
+
     public boolean isEmpty() {
-        return tags.isEmpty();
+        return symbols.length == 0;
     }
-    
+
     public Set<String> keySet() {
-        return Collections.unmodifiableSet(tags.keySet());
+        return getAll().keySet();
+    }
+
+    private ExtTagValue find(String key) {
+        if (symbols.length == 0) {
+            return null;
+        }
+        int symbol = ExtTagSymbols.lookup(key);
+        return symbol != ExtTagSymbols.NO_SYMBOL ? getValue(symbol) : null;
     }
-    
+
+    private int indexOf(int symbol) {
+        // 标签数量通常很少，线性查找比二分更快
+        if (symbols.length <= 8) {
+            for (int i = 0; i < symbols.length; i++) {
+                if (symbols[i] == symbol) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        return Arrays.binarySearch(symbols, symbol);
+    }
+
     // Builder模式
     public static class Builder {
         private final Map<String, Object> tags = new HashMap<>();
-        
+
         public Builder set(String key, Object value) {
             if (key != null && value != null) {
                 tags.put(key, value);
             }
             return this;
         }
-        
+
         public Builder setAll(Map<String, Object> tags) {
             if (tags != null) {
-                this.tags.putAll(tags);
+                // 与set一致，忽略空键和空值
+                tags.forEach(this::set);
             }
             return this;
         }
-        
+
         public ExtTags build() {
-            return new ExtTags(tags);
+            if (tags.isEmpty()) {
+                return EMPTY;
+            }
+            int size = tags.size();
+            long[] entries = new long[size];
+            ExtTagValue[] parsed = new ExtTagValue[size];
+            int i = 0;
+            for (Map.Entry<String, Object> entry : tags.entrySet()) {
+                // 高32位存符号，低32位存原始位置，排序后即按符号有序
+                entries[i] = ((long) ExtTagSymbols.intern(entry.getKey()) << 32) | i;
+                parsed[i] = ExtTagValue.of(entry.getValue());
+                i++;
+            }
+            Arrays.sort(entries);
+            int[] symbols = new int[size];
+            ExtTagValue[] values = new ExtTagValue[size];
+            for (int j = 0; j < size; j++) {
+                symbols[j] = (int) (entries[j] >>> 32);
+                values[j] = parsed[(int) entries[j]];
+            }
+            return new ExtTags(symbols, values);
         }
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,116 @@
+package com.flexpoint.core.ext;
+
+import com.flexpoint.common.annotations.FpSelector;
+
+import java.lang.reflect.Method;
+
+/**
+ * 扩展点类型元数据描述
+ * 按类缓存扩展点接口、选择器名称、扩展点ID和方法表，热点路径直接读取，避免重复反射和字符串拼接
+ *
+ * @author xiangganluo
+ */
+public final class ExtTypeDescriptor {
+
+    private static final ClassValue<ExtTypeDescriptor> DESCRIPTORS = new ClassValue<ExtTypeDescriptor>() {
+        @Override
+        protected ExtTypeDescriptor computeValue(Class<?> type) {
+            return new ExtTypeDescriptor(type);
+        }
+    };
+
+    /**
+     * 描述的类（扩展点实现类或扩展点接口）
+     */
+    private final Class<?> type;
+
+    /**
+     * 扩展点接口
+     */
+    private final Class<? extends ExtAbility> extType;
+
+    /**
+     * 扩展点接口上@FpSelector指定的选择器名称，未标注时为null
+     */
+    private final String selectorName;
+
+    /**
+     * 扩展点唯一标识：扩展点定义类名#实现类全限定类名
+     */
+    private final String extId;
+
+    /**
+     * 扩展点接口的公共方法表
+     */
+    private final Method[] methods;
+
+    private ExtTypeDescriptor(Class<?> type) {
+        this.type = type;
+        this.extType = resolveExtType(type);
+        FpSelector selectorAnno = extType.getAnnotation(FpSelector.class);
+        this.selectorName = selectorAnno != null ? selectorAnno.value() : null;
+        this.extId = extType.getSimpleName() + "#" + type.getName();
+        this.methods = extType.getMethods();
+    }
+
+    /**
+     * 获取类的元数据描述
+     */
+    public static ExtTypeDescriptor of(Class<?> type) {
+        return DESCRIPTORS.get(type);
+    }
+
+    /**
+     * 获取扩展点实例的元数据描述
+     */
+    public static ExtTypeDescriptor of(ExtAbility ability) {
+        return DESCRIPTORS.get(ability.getClass());
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    public Class<? extends ExtAbility> getExtType() {
+        return extType;
+    }
+
+    public String getSelectorName() {
+        return selectorName;
+    }
+
+    public String getExtId() {
+        return extId;
+    }
+
+    /**
+     * 获取方法表副本
+     */
+    public Method[] getMethods() {
+        return methods.clone();
+    }
+
+    /**
+     * 解析扩展点接口
+     * 扩展点接口本身直接返回，实现类查找实现的第一个ExtAbility子接口（含父类实现的接口）
+     */
+    @SuppressWarnings("unchecked")
+    private static Class<? extends ExtAbility> resolveExtType(Class<?> clazz) {
+        if (clazz.isInterface() && ExtAbility.class.isAssignableFrom(clazz)) {
+            return (Class<? extends ExtAbility>) clazz;
+        }
+
+        // 检查直接实现的接口及父类的接口
+        Class<?> current = clazz;
+        while (current != null && current != Object.class) {
+            for (Class<?> iface : current.getInterfaces()) {
+                if (ExtAbility.class.isAssignableFrom(iface) && iface != ExtAbility.class) {
+                    return (Class<? extends ExtAbility>) iface;
+                }
+            }
+            current = current.getSuperclass();
+        }
+
+        return ExtAbility.class;
+    }
+}
@@ -0,0 +1,101 @@
+package com.flexpoint.core.ext.index;
+
+import com.flexpoint.common.constants.FlexPointConstants;
+import com.flexpoint.core.ext.ExtAbility;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 扩展点路由索引
+ * 按扩展点类型预先构建 code -> version -> 扩展点 的映射，注册/注销时整体重建，构建后不可变
+ *
+ * @author xiangganluo
+ */
+public final class ExtRouteIndex {
+
+    private static final ExtRouteIndex EMPTY = new ExtRouteIndex(Collections.emptyMap(), Collections.emptyMap());
+
+    /**
+     * code -> 扩展点列表
+     */
+    private final Map<String, List<ExtAbility>> codeIndex;
+
+    /**
+     * code -> version -> 扩展点列表
+     */
+    private final Map<String, Map<String, List<ExtAbility>>> codeVersionIndex;
+
+    private ExtRouteIndex(Map<String, List<ExtAbility>> codeIndex,
+                          Map<String, Map<String, List<ExtAbility>>> codeVersionIndex) {
+        this.codeIndex = codeIndex;
+        this.codeVersionIndex = codeVersionIndex;
+    }
+
+    public static ExtRouteIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 根据扩展点列表构建索引，保持注册顺序
+     */
+    public static ExtRouteIndex build(List<? extends ExtAbility> exts) {
+        if (exts == null || exts.isEmpty()) {
+            return EMPTY;
+        }
+        Map<String, List<ExtAbility>> codes = new HashMap<>();
+        Map<String, Map<String, List<ExtAbility>>> codeVersions = new HashMap<>();
+        for (ExtAbility ext : exts) {
+            String code = ext.getCode();
+            if (code == null) {
+                continue;
+            }
+            String version = ext.getTags().getString(FlexPointConstants.VERSION_TAG_KEY, FlexPointConstants.DEFAULT_VERSION);
+            codes.computeIfAbsent(code, k -> new ArrayList<>()).add(ext);
+            codeVersions.computeIfAbsent(code, k -> new HashMap<>())
+                    .computeIfAbsent(version, k -> new ArrayList<>())
+                    .add(ext);
+        }
+
+        Map<String, List<ExtAbility>> codeIndex = new HashMap<>(codes.size() * 2);
+        codes.forEach((code, list) -> codeIndex.put(code, Collections.unmodifiableList(list)));
+
+        Map<String, Map<String, List<ExtAbility>>> codeVersionIndex = new HashMap<>(codeVersions.size() * 2);
+        codeVersions.forEach((code, versions) -> {
+            Map<String, List<ExtAbility>> versionIndex = new HashMap<>(versions.size() * 2);
+            versions.forEach((version, list) -> versionIndex.put(version, Collections.unmodifiableList(list)));
+            codeVersionIndex.put(code, versionIndex);
+        });
+        return new ExtRouteIndex(codeIndex, codeVersionIndex);
+    }
+
+    /**
+     * 按code查找扩展点，返回不可变列表
+     */
+    public List<ExtAbility> getByCode(String code) {
+        List<ExtAbility> list = codeIndex.get(code);
+        return list != null ? list : Collections.emptyList();
+    }
+
+    /**
+     * 按code和version查找扩展点，返回不可变列表
+     */
+    public List<ExtAbility> getByCodeAndVersion(String code, String version) {
+        Map<String, List<ExtAbility>> versions = codeVersionIndex.get(code);
+        if (versions == null) {
+            return Collections.emptyList();
+        }
+        List<ExtAbility> list = versions.get(version);
+        return list != null ? list : Collections.emptyList();
+    }
+
+    /**
+     * 已索引的code数量
+     */
+    public int codeCount() {
+        return codeIndex.size();
+    }
+}
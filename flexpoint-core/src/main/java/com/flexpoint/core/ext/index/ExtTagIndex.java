@@ -0,0 +1,170 @@
+package com.flexpoint.core.ext.index;
+
+import com.flexpoint.core.ext.ExtAbility;
+import com.flexpoint.core.ext.ExtTagSymbols;
+import com.flexpoint.core.ext.ExtTags;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 扩展点标签倒排索引
+ * 按扩展点类型构建 code -> 位置 与 (标签键, 标签值) -> 位置 的倒排表，位置即扩展点在快照中的下标，
+ * 多标签查询从最短的倒排表出发逐个求交集，复杂度只与命中规模相关，与扩展点总数无关
+ *
+ * @author xiangganluo
+ */
+public final class ExtTagIndex {
+
+    private static final int[] NONE = new int[0];
+
+    private final ExtAbility[] exts;
+
+    /**
+     * code -> 升序位置
+     */
+    private final Map<String, int[]> codePostings;
+
+    /**
+     * 标签键 -> 标签值 -> 升序位置
+     */
+    private final Map<String, Map<Object, int[]>> tagPostings;
+
+    /**
+     * 标签键 -> 含有该标签的升序位置
+     */
+    private final Map<String, int[]> keyPostings;
+
+    private ExtTagIndex(ExtAbility[] exts, Map<String, int[]> codePostings,
+                        Map<String, Map<Object, int[]>> tagPostings, Map<String, int[]> keyPostings) {
+        this.exts = exts;
+        this.codePostings = codePostings;
+        this.tagPostings = tagPostings;
+        this.keyPostings = keyPostings;
+    }
+
+    /**
+     * 根据快照中的扩展点数组构建索引
+     */
+    public static ExtTagIndex build(ExtAbility[] exts) {
+        Map<String, PostingBuilder> codes = new HashMap<>();
+        Map<String, Map<Object, PostingBuilder>> tags = new HashMap<>();
+        Map<String, PostingBuilder> keys = new HashMap<>();
+        for (int pos = 0; pos < exts.length; pos++) {
+            ExtAbility ext = exts[pos];
+            if (ext.getCode() != null) {
+                codes.computeIfAbsent(ext.getCode(), k -> new PostingBuilder()).add(pos);
+            }
+            ExtTags extTags = ext.getTags();
+            for (int i = 0; i < extTags.size(); i++) {
+                String key = ExtTagSymbols.nameOf(extTags.symbolAt(i));
+                keys.computeIfAbsent(key, k -> new PostingBuilder()).add(pos);
+                tags.computeIfAbsent(key, k -> new HashMap<>())
+                        .computeIfAbsent(extTags.valueAt(i).getRaw(), k -> new PostingBuilder())
+                        .add(pos);
+            }
+        }
+
+        Map<String, Map<Object, int[]>> tagPostings = new HashMap<>(tags.size() * 2);
+        tags.forEach((key, values) -> {
+            Map<Object, int[]> valuePostings = new HashMap<>(values.size() * 2);
+            values.forEach((value, posting) -> valuePostings.put(value, posting.toArray()));
+            tagPostings.put(key, valuePostings);
+        });
+        return new ExtTagIndex(exts, toArrays(codes), tagPostings, toArrays(keys));
+    }
+
+    /**
+     * 按code和标签键值对查找扩展点，保持注册顺序
+     *
+     * @param code 业务标识
+     * @param tagsKeyValue 标签键值对，键按toString处理，值按equals匹配，末尾落单的键忽略
+     */
+    public List<ExtAbility> find(String code, Object... tagsKeyValue) {
+        int[] codePosting = code != null ? codePostings.get(code) : null;
+        if (codePosting == null) {
+            return Collections.emptyList();
+        }
+
+        int pairs = tagsKeyValue.length / 2;
+        int[][] required = new int[pairs + 1][];
+        int requiredCount = 0;
+        required[requiredCount++] = codePosting;
+        int[][] excluded = null;
+        int excludedCount = 0;
+        for (int i = 0; i + 1 < tagsKeyValue.length; i += 2) {
+            String key = tagsKeyValue[i].toString();
+            Object value = tagsKeyValue[i + 1];
+            if (value == null) {
+                // 值为null表示要求不含该标签
+                int[] keyPosting = keyPostings.get(key);
+                if (keyPosting != null) {
+                    if (excluded == null) {
+                        excluded = new int[pairs][];
+                    }
+                    excluded[excludedCount++] = keyPosting;
+                }
+                continue;
+            }
+            Map<Object, int[]> values = tagPostings.get(key);
+            int[] posting = values != null ? values.get(value) : null;
+            if (posting == null) {
+                return Collections.emptyList();
+            }
+            required[requiredCount++] = posting;
+        }
+
+        // 从最短的倒排表出发，逐个在其余表中二分查找
+        int shortest = 0;
+        for (int i = 1; i < requiredCount; i++) {
+            if (required[i].length < required[shortest].length) {
+                shortest = i;
+            }
+        }
+        List<ExtAbility> matched = new ArrayList<>(Math.min(required[shortest].length, 8));
+        outer:
+        for (int pos : required[shortest]) {
+            for (int i = 0; i < requiredCount; i++) {
+                if (i != shortest && Arrays.binarySearch(required[i], pos) < 0) {
+                    continue outer;
+                }
+            }
+            for (int i = 0; i < excludedCount; i++) {
+                if (Arrays.binarySearch(excluded[i], pos) >= 0) {
+                    continue outer;
+                }
+            }
+            matched.add(exts[pos]);
+        }
+        return matched;
+    }
+
+    private static Map<String, int[]> toArrays(Map<String, PostingBuilder> builders) {
+        Map<String, int[]> postings = new HashMap<>(builders.size() * 2);
+        builders.forEach((key, posting) -> postings.put(key, posting.toArray()));
+        return postings;
+    }
+
+    /**
+     * 倒排表构建器，位置按递增顺序追加
+     */
+    private static final class PostingBuilder {
+        private int[] positions = new int[2];
+        private int size;
+
+        void add(int pos) {
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size << 1);
+            }
+            positions[size++] = pos;
+        }
+
+        int[] toArray() {
+            return size == 0 ? NONE : Arrays.copyOf(positions, size);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.flexpoint.core.ext.index;
+
+import com.flexpoint.core.ext.ExtAbility;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 扩展点类型快照
+ * 同一扩展点类型下全部实现的不可变视图，写入时复制生成新快照并整体替换，读取方无锁且无需分配
+ *
+ * @author xiangganluo
+ */
+public final class ExtTypeSnapshot {
+
+    private static final ExtTypeSnapshot EMPTY = new ExtTypeSnapshot(new ExtAbility[0]);
+
+    private final ExtAbility[] exts;
+
+    private final ExtRouteIndex routeIndex;
+
+    private final IndexedExtList<ExtAbility> view;
+
+    private ExtTypeSnapshot(ExtAbility[] exts) {
+        this.exts = exts;
+        this.routeIndex = ExtRouteIndex.build(Arrays.asList(exts));
+        this.view = new IndexedExtList<>(exts, routeIndex);
+    }
+
+    /**
+     * 创建空快照
+     */
+    public static ExtTypeSnapshot empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 批量移除并追加扩展点，只重建一次索引，返回新快照
+     * 移除按equals匹配，每个待移除实例至多移除一个；内容未变化时返回当前快照
+     */
+    public ExtTypeSnapshot update(Collection<? extends ExtAbility> removed, Collection<? extends ExtAbility> added) {
+        if (removed.isEmpty() && added.isEmpty()) {
+            return this;
+        }
+        List<ExtAbility> remaining = new ArrayList<>(Arrays.asList(exts));
+        boolean changed = false;
+        for (ExtAbility ext : removed) {
+            changed |= remaining.remove(ext);
+        }
+        if (!changed && added.isEmpty()) {
+            return this;
+        }
+        remaining.addAll(added);
+        return remaining.isEmpty() ? EMPTY : new ExtTypeSnapshot(remaining.toArray(new ExtAbility[0]));
+    }
+
+    /**
+     * 以只读列表形式返回快照内容
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends ExtAbility> IndexedExtList<T> asList() {
+        return (IndexedExtList<T>) view;
+    }
+
+    public ExtRouteIndex getRouteIndex() {
+        return routeIndex;
+    }
+
+    public int size() {
+        return exts.length;
+    }
+
+    public boolean isEmpty() {
+        return exts.length == 0;
+    }
+}
@@ -0,0 +1,81 @@
+package com.flexpoint.core.ext.index;
+
+import com.flexpoint.core.ext.ExtAbility;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * 携带路由索引的扩展点候选列表
+ * 注册中心返回该只读列表，内置选择器识别后直接走索引查找，自定义选择器仍可按普通列表遍历
+ *
+ * @author xiangganluo
+ */
+public class IndexedExtList<T extends ExtAbility> extends AbstractList<T> implements RandomAccess {
+
+    private final ExtAbility[] exts;
+
+    private final ExtRouteIndex routeIndex;
+
+    /**
+     * 标签倒排索引，首次按标签查询时构建
+     */
+    private volatile ExtTagIndex tagIndex;
+
+    IndexedExtList(ExtAbility[] exts, ExtRouteIndex routeIndex) {
+        this.exts = exts;
+        this.routeIndex = routeIndex;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        return (T) exts[index];
+    }
+
+    @Override
+    public int size() {
+        return exts.length;
+    }
+
+    /**
+     * 按code查找扩展点
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> getByCode(String code) {
+        return (List<T>) routeIndex.getByCode(code);
+    }
+
+    /**
+     * 按code和version查找扩展点
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> getByCodeAndVersion(String code, String version) {
+        return (List<T>) routeIndex.getByCodeAndVersion(code, version);
+    }
+
+    /**
+     * 按code和标签键值对查找扩展点
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> getByCodeAndTags(String code, Object... tagsKeyValue) {
+        return (List<T>) getTagIndex().find(code, tagsKeyValue);
+    }
+
+    /**
+     * 获取标签倒排索引，未构建时构建（并发构建结果相同，无需加锁）
+     */
+    public ExtTagIndex getTagIndex() {
+        ExtTagIndex index = tagIndex;
+        if (index == null) {
+            index = ExtTagIndex.build(exts);
+            tagIndex = index;
+        }
+        return index;
+    }
+
+    public ExtRouteIndex getRouteIndex() {
+        return routeIndex;
+    }
+}
@@ -1,7 +1,7 @@
 package com.flexpoint.core.ext.proxy;
 
-import com.flexpoint.core.event.EventPublisher;
 import com.flexpoint.core.ext.ExtAbility;
+import com.flexpoint.core.utils.ExtUtil;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
@@ -10,6 +10,7 @@ import java.lang.reflect.Method;
 
 /**
  * 扩展点调用事件埋点
+ * 通过预先构建的方法调用表分派调用，避免每次调用走反射
  * @author luoxianggan
  */
 @Getter
@@ -21,21 +22,24 @@ public class EventPublisherInvocationHandler implements InvocationHandler {
      */
     private final ExtAbility ability;
 
+    /**
+     * 扩展点方法调用表
+     */
+    private final ExtInvokerTable invokerTable;
+
+    /**
+     * 调用分派器
+     */
+    private final ExtInvocationDispatcher dispatcher;
+
+    public EventPublisherInvocationHandler(ExtAbility ability) {
+        this(ability, ExtInvokerTable.build(ExtUtil.getExtType(ability), InvokerFactory.reflective()),
+                new ExtInvocationDispatcher());
+    }
+
     @Override
     public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-        long startTime = System.currentTimeMillis();
-        Object ret;
-        try {
-            EventPublisher.publishInvokeBefore(ability, method.getName(), args);
-            ret = method.invoke(ability, args);
-            long duration = System.currentTimeMillis() - startTime;
-            EventPublisher.publishInvokeSuccess(ability, method.getName(), args, ret, duration);
-        } catch (Throwable throwable) {
-            long duration = System.currentTimeMillis() - startTime;
-            EventPublisher.publishInvokeException(ability, method.getName(), args, throwable, duration);
-            throw throwable;
-        }
-        return ret;
+        return dispatcher.invoke(ability, invokerTable.get(method), method.getName(), args);
     }
 
-}
\ No newline at end of file
+}
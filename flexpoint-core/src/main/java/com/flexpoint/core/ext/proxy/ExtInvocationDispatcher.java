@@ -0,0 +1,102 @@
+package com.flexpoint.core.ext.proxy;
+
+import com.flexpoint.core.event.EventPublisher;
+import com.flexpoint.core.ext.ExtAbility;
+import com.flexpoint.core.monitor.ExtMonitor;
+import com.flexpoint.core.monitor.sampling.InvocationSampler;
+import com.flexpoint.core.monitor.sampling.SamplingPolicy;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 扩展点调用分派器
+ * 在一次分派中完成调用前后的事件埋点、耗时统计以及目标方法调用
+ * 由JDK代理和Spring注入代理共用，保证每次业务调用只经过一层代理
+ * 配置采样器时，每次调用的计数和耗时直接写入监控器，调用事件按采样结果发布
+ *
+ * @author xiangganluo
+ */
+public class ExtInvocationDispatcher {
+
+    /**
+     * 监控器，启用采样时直接记录调用结果
+     */
+    private final ExtMonitor extMonitor;
+
+    /**
+     * 调用事件采样器，为null时全量发布调用事件
+     */
+    private final InvocationSampler sampler;
+
+    public ExtInvocationDispatcher() {
+        this(null, null);
+    }
+
+    public ExtInvocationDispatcher(ExtMonitor extMonitor, InvocationSampler sampler) {
+        this.extMonitor = extMonitor;
+        this.sampler = sampler;
+    }
+
+    /**
+     * 调用结果是否由分派器直接写入监控器
+     * 为true时不应再通过监控事件订阅者记录，避免重复计数
+     */
+    public boolean isRecordingMetrics() {
+        return extMonitor != null && sampler != null;
+    }
+
+    /**
+     * 调用扩展点方法
+     *
+     * @param ability 原始扩展点实例
+     * @param invoker 方法调用器
+     * @param methodName 方法名
+     * @param args 调用参数
+     * @return 调用结果
+     * @throws Throwable 目标方法抛出的原始异常
+     */
+    public Object invoke(ExtAbility ability, ExtInvoker invoker, String methodName, Object[] args) throws Throwable {
+        if (isRecordingMetrics()) {
+            return invokeSampled(ability, invoker, methodName, args);
+        }
+        long startTime = System.nanoTime();
+        Object ret;
+        try {
+            EventPublisher.publishInvokeBefore(ability, methodName, args);
+            ret = invoker.invoke(ability, args);
+            long duration = System.nanoTime() - startTime;
+            EventPublisher.publishInvokeSuccess(ability, methodName, args, ret, duration, TimeUnit.NANOSECONDS);
+        } catch (Throwable throwable) {
+            long duration = System.nanoTime() - startTime;
+            EventPublisher.publishInvokeException(ability, methodName, args, throwable, duration, TimeUnit.NANOSECONDS);
+            throw throwable;
+        }
+        return ret;
+    }
+
+    private Object invokeSampled(ExtAbility ability, ExtInvoker invoker, String methodName, Object[] args) throws Throwable {
+        SamplingPolicy policy = sampler.policyOf(ability);
+        boolean sampled = policy.sample();
+        long startTime = System.nanoTime();
+        Object ret;
+        try {
+            if (sampled) {
+                EventPublisher.publishInvokeBefore(ability, methodName, args);
+            }
+            ret = invoker.invoke(ability, args);
+            long duration = System.nanoTime() - startTime;
+            extMonitor.recordInvocationNanos(ability, methodName, duration, true);
+            if (sampled || policy.keepResult(TimeUnit.NANOSECONDS.toMillis(duration), false)) {
+                EventPublisher.publishInvokeSuccess(ability, methodName, args, ret, duration, TimeUnit.NANOSECONDS);
+            }
+        } catch (Throwable throwable) {
+            long duration = System.nanoTime() - startTime;
+            extMonitor.recordException(ability, methodName, throwable);
+            if (sampled || policy.keepResult(TimeUnit.NANOSECONDS.toMillis(duration), true)) {
+                EventPublisher.publishInvokeException(ability, methodName, args, throwable, duration, TimeUnit.NANOSECONDS);
+            }
+            throw throwable;
+        }
+        return ret;
+    }
+}
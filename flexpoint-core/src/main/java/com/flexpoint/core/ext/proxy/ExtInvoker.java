@@ -0,0 +1,21 @@
+package com.flexpoint.core.ext.proxy;
+
+/**
+ * 扩展点方法调用器
+ * 由 {@link InvokerFactory} 为每个扩展点方法预先生成，代理调用时直接复用
+ *
+ * @author xiangganluo
+ */
+@FunctionalInterface
+public interface ExtInvoker {
+
+    /**
+     * 在目标实例上调用方法
+     *
+     * @param target 目标扩展点实例
+     * @param args 调用参数，无参时可以为null
+     * @return 调用结果，void方法返回null
+     * @throws Throwable 目标方法抛出的原始异常
+     */
+    Object invoke(Object target, Object[] args) throws Throwable;
+}
@@ -0,0 +1,57 @@
+package com.flexpoint.core.ext.proxy;
+
+import com.flexpoint.core.ext.ExtTypeDescriptor;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 扩展点方法调用表
+ * 每个扩展点类型一份，构建时为接口方法预先生成调用器，其余方法（如Object方法）首次调用时补充
+ *
+ * @author xiangganluo
+ */
+public final class ExtInvokerTable {
+
+    private final Class<?> extType;
+
+    private final InvokerFactory invokerFactory;
+
+    private final Map<Method, ExtInvoker> invokers = new ConcurrentHashMap<>();
+
+    private ExtInvokerTable(Class<?> extType, InvokerFactory invokerFactory) {
+        this.extType = extType;
+        this.invokerFactory = invokerFactory;
+    }
+
+    /**
+     * 构建扩展点类型的方法调用表
+     */
+    public static ExtInvokerTable build(Class<?> extType, InvokerFactory invokerFactory) {
+        ExtInvokerTable table = new ExtInvokerTable(extType, invokerFactory);
+        for (Method method : ExtTypeDescriptor.of(extType).getMethods()) {
+            table.invokers.put(method, invokerFactory.create(method));
+        }
+        return table;
+    }
+
+    /**
+     * 获取方法调用器
+     */
+    public ExtInvoker get(Method method) {
+        ExtInvoker invoker = invokers.get(method);
+        if (invoker == null) {
+            invoker = invokers.computeIfAbsent(method, invokerFactory::create);
+        }
+        return invoker;
+    }
+
+    public Class<?> getExtType() {
+        return extType;
+    }
+
+    public InvokerFactory getInvokerFactory() {
+        return invokerFactory;
+    }
+}
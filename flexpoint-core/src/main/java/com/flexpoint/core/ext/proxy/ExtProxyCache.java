@@ -0,0 +1,163 @@
+package com.flexpoint.core.ext.proxy;
+
+import com.flexpoint.core.ext.ExtAbility;
+import com.flexpoint.core.utils.ExtUtil;
+
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 扩展点代理缓存
+ * 按 (扩展点类型, 扩展点实例) 缓存事件埋点代理，注册时预先创建，注销时移除，查找时直接复用
+ * 实例按引用匹配（equals相等的不同实例各自持有代理），每个类型的缓存为写时复制的不可变IdentityHashMap，
+ * 读取路径只查找不写入，未注册的实例每次临时创建代理，避免注销后重新缓存导致类加载器泄漏；
+ * 批量注册按类型合并变更，每个类型只复制一次
+ *
+ * @author xiangganluo
+ */
+public class ExtProxyCache {
+
+    /**
+     * 扩展点类型 -> (扩展点实例 -> 代理)，内层Map发布后不再修改
+     */
+    private final ConcurrentHashMap<Class<?>, Map<ExtAbility, ExtAbility>> proxyMap = new ConcurrentHashMap<>();
+
+    /**
+     * 扩展点类型 -> 方法调用表
+     */
+    private final ClassValue<ExtInvokerTable> invokerTables;
+
+    /**
+     * 调用分派器
+     */
+    private final ExtInvocationDispatcher dispatcher;
+
+    public ExtProxyCache() {
+        this(InvokerFactory.methodHandle(), new ExtInvocationDispatcher());
+    }
+
+    public ExtProxyCache(InvokerFactory invokerFactory, ExtInvocationDispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+        this.invokerTables = new ClassValue<ExtInvokerTable>() {
+            @Override
+            protected ExtInvokerTable computeValue(Class<?> type) {
+                return ExtInvokerTable.build(type, invokerFactory);
+            }
+        };
+    }
+
+    /**
+     * 为扩展点实例预先创建代理
+     */
+    public void put(ExtAbility ability) {
+        Class<? extends ExtAbility> extType = ExtUtil.getExtType(ability);
+        ExtAbility proxy = createProxy(extType, ability);
+        proxyMap.compute(extType, (k, current) -> {
+            Map<ExtAbility, ExtAbility> copy = current == null ? new IdentityHashMap<>() : new IdentityHashMap<>(current);
+            copy.put(ability, proxy);
+            return copy;
+        });
+    }
+
+    /**
+     * 为一批扩展点实例预先创建代理，每个类型的缓存只复制和发布一次
+     */
+    public void putAll(Collection<? extends ExtAbility> abilities) {
+        replaceAll(Collections.emptyList(), abilities);
+    }
+
+    /**
+     * 批量移除和创建代理，每个类型的缓存只复制和发布一次
+     */
+    public void replaceAll(Collection<? extends ExtAbility> removed, Collection<? extends ExtAbility> added) {
+        Map<Class<?>, Map<ExtAbility, ExtAbility>> changes = new HashMap<>();
+        for (ExtAbility ability : removed) {
+            // null表示移除
+            changes.computeIfAbsent(ExtUtil.getExtType(ability), k -> new IdentityHashMap<>()).put(ability, null);
+        }
+        for (ExtAbility ability : added) {
+            Class<? extends ExtAbility> extType = ExtUtil.getExtType(ability);
+            changes.computeIfAbsent(extType, k -> new IdentityHashMap<>()).put(ability, createProxy(extType, ability));
+        }
+        for (Map.Entry<Class<?>, Map<ExtAbility, ExtAbility>> change : changes.entrySet()) {
+            proxyMap.compute(change.getKey(), (k, current) -> {
+                Map<ExtAbility, ExtAbility> copy = current == null ? new IdentityHashMap<>() : new IdentityHashMap<>(current);
+                for (Map.Entry<ExtAbility, ExtAbility> entry : change.getValue().entrySet()) {
+                    if (entry.getValue() == null) {
+                        copy.remove(entry.getKey());
+                    } else {
+                        copy.put(entry.getKey(), entry.getValue());
+                    }
+                }
+                return copy.isEmpty() ? null : copy;
+            });
+        }
+    }
+
+    /**
+     * 获取扩展点代理，未注册的实例临时创建代理且不缓存
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends ExtAbility> T getProxy(Class<T> extType, T ability) {
+        Map<ExtAbility, ExtAbility> cache = proxyMap.get(extType);
+        ExtAbility proxy = cache != null ? cache.get(ability) : null;
+        return proxy != null ? (T) proxy : createProxy(extType, ability);
+    }
+
+    /**
+     * 移除扩展点实例的代理
+     */
+    public void evict(ExtAbility ability) {
+        proxyMap.computeIfPresent(ExtUtil.getExtType(ability), (k, current) -> {
+            if (!current.containsKey(ability)) {
+                return current;
+            }
+            if (current.size() == 1) {
+                return null;
+            }
+            Map<ExtAbility, ExtAbility> copy = new IdentityHashMap<>(current);
+            copy.remove(ability);
+            return copy;
+        });
+    }
+
+    /**
+     * 是否缓存了扩展点实例的代理
+     */
+    public boolean contains(ExtAbility ability) {
+        Map<ExtAbility, ExtAbility> cache = proxyMap.get(ExtUtil.getExtType(ability));
+        return cache != null && cache.containsKey(ability);
+    }
+
+    /**
+     * 获取扩展点类型的方法调用表
+     */
+    public ExtInvokerTable getInvokerTable(Class<?> extType) {
+        return invokerTables.get(extType);
+    }
+
+    /**
+     * 清空全部代理
+     */
+    public void clear() {
+        proxyMap.clear();
+    }
+
+    /**
+     * 创建扩展点代理
+     * 集成监控和事件发布功能
+     */
+    @SuppressWarnings("unchecked")
+    private <T extends ExtAbility> T createProxy(Class<T> extType, ExtAbility ability) {
+        return (T) Proxy.newProxyInstance(
+                ability.getClass().getClassLoader(),
+                new Class[]{extType},
+                new EventPublisherInvocationHandler(ability, invokerTables.get(extType), dispatcher)
+        );
+    }
+}
@@ -0,0 +1,185 @@
+package com.flexpoint.core.ext.proxy;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * 生成式调用器工厂
+ * 公开且对框架类加载器可见的方法，通过 {@link LambdaMetafactory} 生成直接调用目标方法的实现类，
+ * 参数拆箱、返回值装箱均在生成的字节码中完成，调用路径上没有方法句柄；
+ * 参数超过 {@link #MAX_LAMBDA_ARITY} 个或无法生成时，退回到 {@link MethodHandleInvokerFactory} 的方法句柄调用
+ *
+ * @author xiangganluo
+ */
+public class GeneratedInvokerFactory implements InvokerFactory {
+
+    static final GeneratedInvokerFactory INSTANCE = new GeneratedInvokerFactory();
+
+    /**
+     * 通过LambdaMetafactory生成调用器支持的最大参数个数
+     */
+    private static final int MAX_LAMBDA_ARITY = 3;
+
+    /**
+     * 按参数个数索引的函数式接口，分别对应有返回值和void方法
+     */
+    private static final Class<?>[] VALUE_INTERFACES = {Call0.class, Call1.class, Call2.class, Call3.class};
+
+    private static final Class<?>[] VOID_INTERFACES = {Run0.class, Run1.class, Run2.class, Run3.class};
+
+    @Override
+    public ExtInvoker create(Method method) {
+        MethodHandle handle = MethodHandleInvokerFactory.unreflect(method);
+        ExtInvoker invoker = canUseLambda(method) ? lambdaInvoker(method, handle) : null;
+        return invoker != null ? invoker : MethodHandleInvokerFactory.spreaderInvoker(method, handle);
+    }
+
+    /**
+     * 生成的实现类按类名引用目标方法，要求方法和声明类公开，且签名中的类型对框架类加载器可见
+     */
+    private static boolean canUseLambda(Method method) {
+        if (method.getParameterCount() > MAX_LAMBDA_ARITY
+            || !Modifier.isPublic(method.getModifiers())
+            || !Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+            return false;
+        }
+        ClassLoader loader = GeneratedInvokerFactory.class.getClassLoader();
+        if (!isVisible(method.getDeclaringClass(), loader) || !isVisible(method.getReturnType(), loader)) {
+            return false;
+        }
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            if (!isVisible(parameterType, loader)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isVisible(Class<?> type, ClassLoader loader) {
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+        if (type.isPrimitive()) {
+            return true;
+        }
+        try {
+            return Class.forName(type.getName(), false, loader) == type;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private static ExtInvoker lambdaInvoker(Method method, MethodHandle handle) {
+        int arity = method.getParameterCount();
+        boolean isVoid = method.getReturnType() == void.class;
+        Class<?> functionType = isVoid ? VOID_INTERFACES[arity] : VALUE_INTERFACES[arity];
+        MethodType erasedType = MethodType.genericMethodType(arity + 1);
+        if (isVoid) {
+            erasedType = erasedType.changeReturnType(void.class);
+        }
+        // 目标实例参数取声明类，基本类型参数和返回值取包装类型，由生成的字节码完成转换
+        MethodType instantiatedType = handle.type().wrap();
+        if (isVoid) {
+            instantiatedType = instantiatedType.changeReturnType(void.class);
+        }
+        Object function;
+        try {
+            CallSite callSite = LambdaMetafactory.metafactory(MethodHandles.lookup(), "call",
+                MethodType.methodType(functionType), erasedType, handle, instantiatedType);
+            function = callSite.getTarget().invoke();
+        } catch (Throwable e) {
+            return null;
+        }
+        return adapt(function, arity, isVoid);
+    }
+
+    private static ExtInvoker adapt(Object function, int arity, boolean isVoid) {
+        if (isVoid) {
+            switch (arity) {
+                case 0:
+                    Run0 run0 = (Run0) function;
+                    return (target, args) -> {
+                        run0.call(target);
+                        return null;
+                    };
+                case 1:
+                    Run1 run1 = (Run1) function;
+                    return (target, args) -> {
+                        run1.call(target, args[0]);
+                        return null;
+                    };
+                case 2:
+                    Run2 run2 = (Run2) function;
+                    return (target, args) -> {
+                        run2.call(target, args[0], args[1]);
+                        return null;
+                    };
+                default:
+                    Run3 run3 = (Run3) function;
+                    return (target, args) -> {
+                        run3.call(target, args[0], args[1], args[2]);
+                        return null;
+                    };
+            }
+        }
+        switch (arity) {
+            case 0:
+                Call0 call0 = (Call0) function;
+                return (target, args) -> call0.call(target);
+            case 1:
+                Call1 call1 = (Call1) function;
+                return (target, args) -> call1.call(target, args[0]);
+            case 2:
+                Call2 call2 = (Call2) function;
+                return (target, args) -> call2.call(target, args[0], args[1]);
+            default:
+                Call3 call3 = (Call3) function;
+                return (target, args) -> call3.call(target, args[0], args[1], args[2]);
+        }
+    }
+
+    @FunctionalInterface
+    interface Call0 {
+        Object call(Object target) throws Throwable;
+    }
+
+    @FunctionalInterface
+    interface Call1 {
+        Object call(Object target, Object a0) throws Throwable;
+    }
+
+    @FunctionalInterface
+    interface Call2 {
+        Object call(Object target, Object a0, Object a1) throws Throwable;
+    }
+
+    @FunctionalInterface
+    interface Call3 {
+        Object call(Object target, Object a0, Object a1, Object a2) throws Throwable;
+    }
+
+    @FunctionalInterface
+    interface Run0 {
+        void call(Object target) throws Throwable;
+    }
+
+    @FunctionalInterface
+    interface Run1 {
+        void call(Object target, Object a0) throws Throwable;
+    }
+
+    @FunctionalInterface
+    interface Run2 {
+        void call(Object target, Object a0, Object a1) throws Throwable;
+    }
+
+    @FunctionalInterface
+    interface Run3 {
+        void call(Object target, Object a0, Object a1, Object a2) throws Throwable;
+    }
+}
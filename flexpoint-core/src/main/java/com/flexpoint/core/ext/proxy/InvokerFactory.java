@@ -0,0 +1,54 @@
+package com.flexpoint.core.ext.proxy;
+
+import java.lang.reflect.Method;
+
+/**
+ * 扩展点方法调用器工厂
+ * 可插拔的调用策略，用于替换代理中的反射调用
+ *
+ * @author xiangganluo
+ */
+public interface InvokerFactory {
+
+    /**
+     * 为方法创建调用器
+     *
+     * @param method 扩展点接口方法
+     * @return 方法调用器
+     */
+    ExtInvoker create(Method method);
+
+    /**
+     * 基于Method.invoke的反射调用策略
+     */
+    static InvokerFactory reflective() {
+        return ReflectiveInvokerFactory.INSTANCE;
+    }
+
+    /**
+     * 基于MethodHandle的调用策略
+     */
+    static InvokerFactory methodHandle() {
+        return MethodHandleInvokerFactory.INSTANCE;
+    }
+
+    /**
+     * 基于LambdaMetafactory生成调用类的调用策略
+     */
+    static InvokerFactory generated() {
+        return GeneratedInvokerFactory.INSTANCE;
+    }
+
+    /**
+     * 根据调用器类型获取内置工厂
+     */
+    static InvokerFactory of(InvokerType invokerType) {
+        if (invokerType == InvokerType.REFLECTIVE) {
+            return reflective();
+        }
+        if (invokerType == InvokerType.GENERATED) {
+            return generated();
+        }
+        return methodHandle();
+    }
+}
@@ -0,0 +1,23 @@
+package com.flexpoint.core.ext.proxy;
+
+/**
+ * 内置调用器类型
+ *
+ * @author xiangganluo
+ */
+public enum InvokerType {
+    /**
+     * 反射调用
+     */
+    REFLECTIVE,
+
+    /**
+     * MethodHandle调用
+     */
+    METHOD_HANDLE,
+
+    /**
+     * LambdaMetafactory生成的直接调用，无法生成时退回MethodHandle调用
+     */
+    GENERATED
+}
@@ -0,0 +1,52 @@
+package com.flexpoint.core.ext.proxy;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+
+/**
+ * MethodHandle调用器工厂
+ * 将方法句柄适配为 (Object, Object[])Object 形态，以invokeExact调用
+ *
+ * @author xiangganluo
+ */
+public class MethodHandleInvokerFactory implements InvokerFactory {
+
+    static final MethodHandleInvokerFactory INSTANCE = new MethodHandleInvokerFactory();
+
+    private static final Object[] EMPTY_ARGS = new Object[0];
+
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    @Override
+    public ExtInvoker create(Method method) {
+        return spreaderInvoker(method, unreflect(method));
+    }
+
+    static MethodHandle unreflect(Method method) {
+        try {
+            try {
+                method.setAccessible(true);
+            } catch (RuntimeException e) {
+                // 无权限时按原访问级别解析，公开方法不受影响
+            }
+            return MethodHandles.lookup().unreflect(method);
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new IllegalStateException("无法为扩展点方法创建MethodHandle: " + method, e);
+        }
+    }
+
+    /**
+     * 将方法句柄适配为按参数数组调用的调用器
+     */
+    static ExtInvoker spreaderInvoker(Method method, MethodHandle handle) {
+        MethodHandle spreader = handle.asType(handle.type().generic())
+                .asSpreader(Object[].class, method.getParameterCount())
+                .asType(INVOKER_TYPE);
+        return (target, args) -> {
+            Object[] actualArgs = args != null ? args : EMPTY_ARGS;
+            return (Object) spreader.invokeExact(target, actualArgs);
+        };
+    }
+}
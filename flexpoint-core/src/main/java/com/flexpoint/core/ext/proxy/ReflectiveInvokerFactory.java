@@ -0,0 +1,26 @@
+package com.flexpoint.core.ext.proxy;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * 反射调用器工厂
+ * 使用Method.invoke调用，并还原目标方法抛出的原始异常
+ *
+ * @author xiangganluo
+ */
+public class ReflectiveInvokerFactory implements InvokerFactory {
+
+    static final ReflectiveInvokerFactory INSTANCE = new ReflectiveInvokerFactory();
+
+    @Override
+    public ExtInvoker create(Method method) {
+        return (target, args) -> {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        };
+    }
+}
@@ -4,11 +4,14 @@ import com.flexpoint.core.config.FlexPointConfig;
 import com.flexpoint.core.ext.ExtAbility;
 import com.flexpoint.core.monitor.handler.MetricsProvider;
 import com.flexpoint.core.monitor.handler.MonitorHandler;
+import com.flexpoint.core.monitor.metrics.MetricsDimension;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 抽象链式扩展点监控基类
@@ -35,32 +38,57 @@ public abstract class AbstractChainExtMonitor implements ExtMonitor {
 
     @Override
     public void recordInvocation(ExtAbility extAbility, long duration, boolean success) {
+        recordInvocationNanos(extAbility, TimeUnit.MILLISECONDS.toNanos(duration), success);
+    }
+
+    @Override
+    public void recordInvocationNanos(ExtAbility extAbility, long durationNanos, boolean success) {
+        recordInvocationNanos(extAbility, null, durationNanos, success);
+    }
+
+    @Override
+    public void recordInvocationNanos(ExtAbility extAbility, String methodName, long durationNanos, boolean success) {
         if (!getMonitorConfig().isEnabled()) return;
         
-        executeMonitorTask(() -> {
-            for (MonitorHandler handler : handlerChain) {
-                try {
-                    handler.handleInvocation(extAbility, duration, success, getExtMetrics(extAbility));
-                } catch (Exception e) {
-                    log.warn("MonitorHandler.handleInvocation异常: {}", e.getMessage());
-                }
-            }
-        });
+        executeMonitorTask(() -> dispatchInvocation(extAbility, methodName, durationNanos, success));
     }
 
     @Override
     public void recordException(ExtAbility extAbility, Throwable exception) {
+        recordException(extAbility, null, exception);
+    }
+
+    @Override
+    public void recordException(ExtAbility extAbility, String methodName, Throwable exception) {
         if (!getMonitorConfig().isEnabled()) return;
         
-        executeMonitorTask(() -> {
-            for (MonitorHandler handler : handlerChain) {
-                try {
-                    handler.handleException(extAbility, exception, getExtMetrics(extAbility));
-                } catch (Exception e) {
-                    log.warn("MonitorHandler.handleException异常: {}", e.getMessage());
-                }
+        executeMonitorTask(() -> dispatchException(extAbility, methodName, exception));
+    }
+
+    /**
+     * 将一次调用交给处理器链，在执行监控任务的线程上调用
+     */
+    protected void dispatchInvocation(ExtAbility extAbility, String methodName, long durationNanos, boolean success) {
+        for (MonitorHandler handler : handlerChain) {
+            try {
+                handler.handleInvocationNanos(extAbility, methodName, durationNanos, success, getExtMetrics(extAbility));
+            } catch (Exception e) {
+                log.warn("MonitorHandler.handleInvocation异常: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 将一次异常交给处理器链，在执行监控任务的线程上调用
+     */
+    protected void dispatchException(ExtAbility extAbility, String methodName, Throwable exception) {
+        for (MonitorHandler handler : handlerChain) {
+            try {
+                handler.handleException(extAbility, methodName, exception, getExtMetrics(extAbility));
+            } catch (Exception e) {
+                log.warn("MonitorHandler.handleException异常: {}", e.getMessage());
             }
-        });
+        }
     }
 
     @Override
@@ -83,6 +111,26 @@ public abstract class AbstractChainExtMonitor implements ExtMonitor {
         return null;
     }
 
+    @Override
+    public Map<String, ExtMetrics> getDimensionMetrics(ExtAbility extAbility, MetricsDimension dimension) {
+        for (MonitorHandler handler : handlerChain) {
+            if (handler instanceof MetricsProvider) {
+                return ((MetricsProvider) handler).getDimensionMetrics(extAbility, dimension);
+            }
+        }
+        return Collections.emptyMap();
+    }
+
+    @Override
+    public ExtMetrics getDimensionOverflow(ExtAbility extAbility, MetricsDimension dimension) {
+        for (MonitorHandler handler : handlerChain) {
+            if (handler instanceof MetricsProvider) {
+                return ((MetricsProvider) handler).getDimensionOverflow(extAbility, dimension);
+            }
+        }
+        return null;
+    }
+
     @Override
     public FlexPointConfig.MonitorConfig getConfig() {
         return getMonitorConfig();
@@ -1,42 +1,72 @@
 package com.flexpoint.core.monitor;
 
+import com.flexpoint.common.exception.FlexPointConfigException;
 import com.flexpoint.core.config.FlexPointConfig;
+import com.flexpoint.core.event.OverflowPolicy;
+import com.flexpoint.core.event.ring.WaitStrategy;
+import com.flexpoint.core.ext.ExtAbility;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.concurrent.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
 
 /**
  * 异步扩展点监控实现
- * 继承抽象链式监控基类，提供异步执行能力
+ * 继承抽象链式监控基类，调用记录以定长元组写入预分配的多生产者单消费者环形缓冲区，
+ * 由单个消费线程批量取出后交给处理器链，记录路径不创建任务对象、不竞争队列锁，调用线程不执行监控逻辑。
+ * 缓冲区满时BLOCK策略在超时时间内等待空位，DROP_NEWEST丢弃新记录，丢弃次数可通过计数器观察，不支持其他溢出策略；
+ * 消费线程空闲时按配置的 {@link WaitStrategy} 等待，与环形缓冲区事件总线一致
  *
  * @author xiangganluo
  * @version 2.0.0
  */
 @Slf4j
 public class AsyncExtMonitor extends AbstractChainExtMonitor {
-    
-    private final ExecutorService executor;
+
+    /**
+     * 单批最大处理数量
+     */
+    private static final int MAX_BATCH = 256;
+
     private final FlexPointConfig.MonitorConfig config;
+    private final OverflowPolicy overflowPolicy;
+    private final long blockTimeoutNanos;
+    private final InvocationRecordBuffer buffer;
+    private final WaitStrategy waitStrategy;
+    private final InvocationRecordBuffer.RecordHandler recordHandler = this::onRecord;
+    private final BooleanSupplier hasPending;
+    private final Thread drainer;
+    private final LongAdder droppedCount = new LongAdder();
+    private volatile long processedCount;
+    private volatile boolean running = true;
 
     /**
      * 使用指定配置创建异步监控器
+     * 缓冲区大小取asyncQueueSize向上取整的2的幂
      */
     public AsyncExtMonitor(FlexPointConfig.MonitorConfig config) {
         this.config = config;
-        // 队列满时由调用线程执行
-        this.executor = new ThreadPoolExecutor(
-            config.getAsyncCorePoolSize(),
-            config.getAsyncMaxPoolSize(), 
-            config.getAsyncKeepAliveTime(), 
-            TimeUnit.SECONDS,
-            new LinkedBlockingQueue<>(config.getAsyncQueueSize()),
-            r -> {
-                Thread t = new Thread(r, "flexpoint-async-monitor-" + Thread.currentThread().getId());
-                t.setDaemon(true);
-                return t;
-            },
-            new ThreadPoolExecutor.CallerRunsPolicy()
-        );
+        this.overflowPolicy = config.getAsyncOverflowPolicy() != null
+            ? config.getAsyncOverflowPolicy() : OverflowPolicy.DROP_NEWEST;
+        if (overflowPolicy != OverflowPolicy.DROP_NEWEST && overflowPolicy != OverflowPolicy.BLOCK) {
+            throw FlexPointConfigException.invalidValue("monitor", "asyncOverflowPolicy",
+                overflowPolicy.name(), "DROP_NEWEST或BLOCK");
+        }
+        this.blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(config.getAsyncBlockTimeoutMillis());
+        this.buffer = new InvocationRecordBuffer(ceilingPowerOfTwo(config.getAsyncQueueSize()));
+        this.waitStrategy = config.getAsyncWaitStrategy() != null
+            ? WaitStrategy.of(config.getAsyncWaitStrategy()) : WaitStrategy.sleeping();
+        this.hasPending = buffer::hasPending;
+        this.drainer = new Thread(this::drainLoop, "flexpoint-async-monitor");
+        this.drainer.setDaemon(true);
+        this.drainer.start();
+    }
+
+    private static int ceilingPowerOfTwo(int size) {
+        int n = Math.max(2, Math.min(size, 1 << 30));
+        return Integer.bitCount(n) == 1 ? n : Integer.highestOneBit(n) << 1;
     }
     
     @Override
@@ -44,42 +74,129 @@ public class AsyncExtMonitor extends AbstractChainExtMonitor {
         return config;
     }
 
+    @Override
+    public void recordInvocationNanos(ExtAbility extAbility, String methodName, long durationNanos, boolean success) {
+        if (!config.isEnabled()) return;
+        offer(success ? InvocationRecordBuffer.SUCCESS : InvocationRecordBuffer.FAILURE,
+            extAbility, methodName, durationNanos, null);
+    }
+
+    @Override
+    public void recordException(ExtAbility extAbility, String methodName, Throwable exception) {
+        if (!config.isEnabled()) return;
+        offer(InvocationRecordBuffer.EXCEPTION, extAbility, methodName, 0L, exception);
+    }
+
     @Override
     protected void executeMonitorTask(Runnable task) {
-        submitTask(task);
+        offer(InvocationRecordBuffer.TASK, null, null, 0L, task);
     }
 
     /**
-     * 提交异步任务
+     * 写入一条记录，缓冲区满时按溢出策略处理
      */
-    private void submitTask(Runnable task) {
+    private void offer(byte kind, ExtAbility extAbility, String methodName, long durationNanos, Object payload) {
+        if (!running) {
+            return;
+        }
+        if (buffer.tryPublish(kind, extAbility, methodName, durationNanos, payload)) {
+            waitStrategy.signal();
+            return;
+        }
+        if (overflowPolicy == OverflowPolicy.BLOCK) {
+            long deadline = System.nanoTime() + blockTimeoutNanos;
+            while (running && System.nanoTime() - deadline < 0) {
+                LockSupport.parkNanos(1000L);
+                if (buffer.tryPublish(kind, extAbility, methodName, durationNanos, payload)) {
+                    waitStrategy.signal();
+                    return;
+                }
+            }
+        }
+        droppedCount.increment();
+    }
+
+    private void drainLoop() {
+        int idleCount = 0;
+        while (running || buffer.hasPending()) {
+            int count = buffer.drain(recordHandler, MAX_BATCH);
+            if (count > 0) {
+                processedCount += count;
+                idleCount = 0;
+                continue;
+            }
+            if (!running) {
+                continue;
+            }
+            try {
+                waitStrategy.idle(idleCount, hasPending);
+                if (idleCount < Integer.MAX_VALUE) {
+                    idleCount++;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void onRecord(byte kind, ExtAbility extAbility, String methodName, long durationNanos, Object payload) {
         try {
-            if (!executor.isShutdown()) {
-                executor.submit(task);
+            switch (kind) {
+                case InvocationRecordBuffer.SUCCESS:
+                    dispatchInvocation(extAbility, methodName, durationNanos, true);
+                    break;
+                case InvocationRecordBuffer.FAILURE:
+                    dispatchInvocation(extAbility, methodName, durationNanos, false);
+                    break;
+                case InvocationRecordBuffer.EXCEPTION:
+                    dispatchException(extAbility, methodName, (Throwable) payload);
+                    break;
+                case InvocationRecordBuffer.TASK:
+                    ((Runnable) payload).run();
+                    break;
+                default:
             }
-        } catch (RejectedExecutionException e) {
-            log.warn("监控任务队列已满，使用调用线程执行: {}", e.getMessage());
-            task.run();
         } catch (Exception e) {
-            log.error("提交监控任务失败: {}", e.getMessage(), e);
+            log.warn("处理监控记录异常: {}", e.getMessage());
         }
     }
+
+    /**
+     * 因缓冲区溢出被丢弃的监控记录数
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    /**
+     * 已处理的监控记录数
+     */
+    public long getProcessedCount() {
+        return processedCount;
+    }
+
+    /**
+     * 当前排队中的监控记录数（近似值）
+     */
+    public int getQueuedCount() {
+        return (int) buffer.backlog();
+    }
     
     /**
-     * 关闭异步监控器
+     * 关闭异步监控器，处理完已写入的记录后退出
      */
     public void shutdown() {
-        if (executor != null && !executor.isShutdown()) {
-            executor.shutdown();
-            try {
-                if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
-                    executor.shutdownNow();
-                }
-            } catch (InterruptedException e) {
-                executor.shutdownNow();
-                Thread.currentThread().interrupt();
-            }
-            log.info("异步监控器已关闭");
+        if (!running) {
+            return;
+        }
+        running = false;
+        waitStrategy.signal();
+        try {
+            drainer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
+        log.info("异步监控器已关闭");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,116 @@
+package com.flexpoint.core.monitor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 维度指标
+ * 只保留计数、累计耗时和最值，不含延迟直方图和滚动窗口，单个维度值只占用几百字节；
+ * 分位数不可用时返回0，QPS按创建以来计算
+ *
+ * @author xiangganluo
+ */
+public class DimensionMetrics implements ExtMetrics {
+
+    private final LongAdder successInvocations = new LongAdder();
+    private final LongAdder failureInvocations = new LongAdder();
+    private final LongAdder exceptionCount = new LongAdder();
+    private final LongAdder totalDurationNanos = new LongAdder();
+    private final LongAccumulator maxDurationNanos = new LongAccumulator(Math::max, 0L);
+    private final LongAccumulator minDurationNanos = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    private volatile long lastInvocationTime;
+    private final long startTime = System.currentTimeMillis();
+
+    /**
+     * 记录一次调用
+     *
+     * @param durationNanos 调用耗时（纳秒）
+     * @param success 是否成功
+     */
+    public void recordInvocationNanos(long durationNanos, boolean success) {
+        if (success) {
+            successInvocations.increment();
+        } else {
+            failureInvocations.increment();
+        }
+        totalDurationNanos.add(durationNanos);
+        maxDurationNanos.accumulate(durationNanos);
+        minDurationNanos.accumulate(durationNanos);
+        lastInvocationTime = System.currentTimeMillis();
+    }
+
+    public void recordException() {
+        exceptionCount.increment();
+    }
+
+    @Override
+    public long getTotalInvocations() {
+        return successInvocations.sum() + failureInvocations.sum();
+    }
+
+    @Override
+    public long getSuccessInvocations() {
+        return successInvocations.sum();
+    }
+
+    @Override
+    public long getFailureInvocations() {
+        return failureInvocations.sum();
+    }
+
+    @Override
+    public double getSuccessRate() {
+        long success = successInvocations.sum();
+        long total = success + failureInvocations.sum();
+        return total > 0 ? (double) success / total : 0.0;
+    }
+
+    @Override
+    public double getAverageResponseTime() {
+        long total = getTotalInvocations();
+        return total > 0 ? (double) totalDurationNanos.sum() / TimeUnit.MILLISECONDS.toNanos(1) / total : 0.0;
+    }
+
+    @Override
+    public long getMaxResponseTime() {
+        return TimeUnit.NANOSECONDS.toMillis(maxDurationNanos.get());
+    }
+
+    @Override
+    public long getMinResponseTime() {
+        long min = minDurationNanos.get();
+        return min == Long.MAX_VALUE ? 0 : TimeUnit.NANOSECONDS.toMillis(min);
+    }
+
+    @Override
+    public long getTotalDurationNanos() {
+        return totalDurationNanos.sum();
+    }
+
+    @Override
+    public long getExceptionCount() {
+        return exceptionCount.sum();
+    }
+
+    @Override
+    public long getLastInvocationTime() {
+        return lastInvocationTime;
+    }
+
+    @Override
+    public long getP95ResponseTime() {
+        return percentileMillis(95.0);
+    }
+
+    @Override
+    public long getP99ResponseTime() {
+        return percentileMillis(99.0);
+    }
+
+    @Override
+    public double getQPS() {
+        long elapsed = System.currentTimeMillis() - startTime;
+        return elapsed > 0 ? (double) getTotalInvocations() / (elapsed / 1000.0) : 0.0;
+    }
+}
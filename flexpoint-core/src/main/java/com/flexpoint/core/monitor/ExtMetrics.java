@@ -1,5 +1,11 @@
 package com.flexpoint.core.monitor;
 
+import com.flexpoint.core.monitor.metrics.HistogramSnapshot;
+import com.flexpoint.core.monitor.metrics.MetricsWindow;
+import com.flexpoint.core.monitor.metrics.WindowSnapshot;
+
+import java.util.concurrent.TimeUnit;
+
 /**
  * 扩展点指标
  */
@@ -39,6 +45,13 @@ public interface ExtMetrics {
      */
     long getMinResponseTime();
 
+    /**
+     * 获取累计调用耗时（纳秒），默认按平均响应时间估算
+     */
+    default long getTotalDurationNanos() {
+        return (long) (getAverageResponseTime() * getTotalInvocations() * TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
     /**
      * 获取异常次数
      */
@@ -49,6 +62,20 @@ public interface ExtMetrics {
      */
     long getLastInvocationTime();
 
+    /**
+     * 获取P50响应时间（毫秒）
+     */
+    default long getP50ResponseTime() {
+        return percentileMillis(50.0);
+    }
+
+    /**
+     * 获取P90响应时间（毫秒）
+     */
+    default long getP90ResponseTime() {
+        return percentileMillis(90.0);
+    }
+
     /**
      * 获取P95响应时间（毫秒）
      */
@@ -60,7 +87,36 @@ public interface ExtMetrics {
     long getP99ResponseTime();
 
     /**
-     * 获取QPS（每秒查询数）
+     * 获取P99.9响应时间（毫秒）
+     */
+    default long getP999ResponseTime() {
+        return percentileMillis(99.9);
+    }
+
+    /**
+     * 获取延迟直方图快照（微秒），不支持时返回null
+     */
+    default HistogramSnapshot getLatencySnapshot() {
+        return null;
+    }
+
+    /**
+     * 按延迟直方图计算分位数（毫秒），不支持直方图时返回0
+     */
+    default long percentileMillis(double percentile) {
+        HistogramSnapshot snapshot = getLatencySnapshot();
+        return snapshot != null ? snapshot.getValueAtPercentile(percentile) / 1000L : 0L;
+    }
+
+    /**
+     * 获取滚动窗口指标快照，不支持时返回null
+     */
+    default WindowSnapshot getWindowSnapshot(MetricsWindow window) {
+        return null;
+    }
+
+    /**
+     * 获取QPS（每秒查询数），按最近1分钟窗口计算
      */
     double getQPS();
 }
\ No newline at end of file
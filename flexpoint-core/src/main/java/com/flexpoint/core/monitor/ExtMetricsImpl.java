@@ -1,110 +1,167 @@
 package com.flexpoint.core.monitor;
 
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
+import com.flexpoint.core.monitor.metrics.HistogramSnapshot;
+import com.flexpoint.core.monitor.metrics.LatencyHistogram;
+import com.flexpoint.core.monitor.metrics.MetricsWindow;
+import com.flexpoint.core.monitor.metrics.RollingWindowMetrics;
+import com.flexpoint.core.monitor.metrics.WindowSnapshot;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * 扩展点指标实现
+ * 分位数由对数线性延迟直方图计算；计数和耗时使用分段累加器，多核并发记录时不争用同一缓存行，
+ * 耗时以纳秒记录，对外按毫秒换算。累计计数从创建起不清零，QPS和窗口视图由 {@link RollingWindowMetrics} 提供
  */
 public class ExtMetricsImpl implements ExtMetrics {
-    private final AtomicLong totalInvocations = new AtomicLong(0);
-    private final AtomicLong successInvocations = new AtomicLong(0);
-    private final AtomicLong failureInvocations = new AtomicLong(0);
-    private final AtomicLong exceptionCount = new AtomicLong(0);
-    private final AtomicLong totalDuration = new AtomicLong(0);
-    private final AtomicLong maxResponseTime = new AtomicLong(0);
-    private final AtomicLong minResponseTime = new AtomicLong(Long.MAX_VALUE);
-    private final AtomicReference<Long> lastInvocationTime = new AtomicReference<>(0L);
-    private final AtomicLong startTime = new AtomicLong(System.currentTimeMillis());
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final LongAdder successInvocations = new LongAdder();
+    private final LongAdder failureInvocations = new LongAdder();
+    private final LongAdder exceptionCount = new LongAdder();
+    private final LongAdder totalDurationNanos = new LongAdder();
+    private final LongAccumulator maxDurationNanos = new LongAccumulator(Math::max, 0L);
+    private final LongAccumulator minDurationNanos = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    private volatile long lastInvocationTime;
+    private final LatencyHistogram latencyHistogram = new LatencyHistogram();
+    private final RollingWindowMetrics windowMetrics;
+    private final long startTime = System.currentTimeMillis();
+
+    public ExtMetricsImpl() {
+        this(new RollingWindowMetrics());
+    }
 
+    /**
+     * @param windowMetrics 滚动窗口指标，为null时不统计窗口，QPS按创建以来计算
+     */
+    public ExtMetricsImpl(RollingWindowMetrics windowMetrics) {
+        this.windowMetrics = windowMetrics;
+    }
+
+    /**
+     * 记录一次调用
+     *
+     * @param duration 调用耗时（毫秒）
+     * @param success 是否成功
+     */
     public void recordInvocation(long duration, boolean success) {
-        totalInvocations.incrementAndGet();
+        recordInvocationNanos(TimeUnit.MILLISECONDS.toNanos(duration), success);
+    }
+
+    /**
+     * 记录一次调用
+     *
+     * @param durationNanos 调用耗时（纳秒）
+     * @param success 是否成功
+     */
+    public void recordInvocationNanos(long durationNanos, boolean success) {
         if (success) {
-            successInvocations.incrementAndGet();
+            successInvocations.increment();
         } else {
-            failureInvocations.incrementAndGet();
+            failureInvocations.increment();
         }
 
-        totalDuration.addAndGet(duration);
-
-        // 更新最大响应时间
-        maxResponseTime.updateAndGet(current -> Math.max(current, duration));
-
-        // 更新最小响应时间
-        minResponseTime.updateAndGet(current -> Math.min(current, duration));
+        totalDurationNanos.add(durationNanos);
+        maxDurationNanos.accumulate(durationNanos);
+        minDurationNanos.accumulate(durationNanos);
+        latencyHistogram.record(TimeUnit.NANOSECONDS.toMicros(durationNanos));
+        if (windowMetrics != null) {
+            windowMetrics.record(durationNanos, success);
+        }
 
-        // 更新最后调用时间
-        lastInvocationTime.set(System.currentTimeMillis());
+        // 最后调用时间只需最终可见，普通volatile写即可
+        lastInvocationTime = System.currentTimeMillis();
     }
 
     public void recordException() {
-        exceptionCount.incrementAndGet();
+        exceptionCount.increment();
+        if (windowMetrics != null) {
+            windowMetrics.recordException();
+        }
     }
 
     @Override
     public long getTotalInvocations() {
-        return totalInvocations.get();
+        return successInvocations.sum() + failureInvocations.sum();
     }
 
     @Override
     public long getSuccessInvocations() {
-        return successInvocations.get();
+        return successInvocations.sum();
     }
 
     @Override
     public long getFailureInvocations() {
-        return failureInvocations.get();
+        return failureInvocations.sum();
     }
 
     @Override
     public double getSuccessRate() {
-        long total = totalInvocations.get();
-        return total > 0 ? (double) successInvocations.get() / total : 0.0;
+        long success = successInvocations.sum();
+        long total = success + failureInvocations.sum();
+        return total > 0 ? (double) success / total : 0.0;
     }
 
     @Override
     public double getAverageResponseTime() {
-        long total = totalInvocations.get();
-        return total > 0 ? (double) totalDuration.get() / total : 0.0;
+        long total = getTotalInvocations();
+        return total > 0 ? totalDurationNanos.sum() / NANOS_PER_MILLI / total : 0.0;
     }
 
     @Override
     public long getMaxResponseTime() {
-        return maxResponseTime.get();
+        return TimeUnit.NANOSECONDS.toMillis(maxDurationNanos.get());
     }
 
     @Override
     public long getMinResponseTime() {
-        long min = minResponseTime.get();
-        return min == Long.MAX_VALUE ? 0 : min;
+        long min = minDurationNanos.get();
+        return min == Long.MAX_VALUE ? 0 : TimeUnit.NANOSECONDS.toMillis(min);
+    }
+
+    @Override
+    public long getTotalDurationNanos() {
+        return totalDurationNanos.sum();
     }
 
     @Override
     public long getExceptionCount() {
-        return exceptionCount.get();
+        return exceptionCount.sum();
     }
 
     @Override
     public long getLastInvocationTime() {
-        return lastInvocationTime.get();
+        return lastInvocationTime;
     }
 
     @Override
     public long getP95ResponseTime() {
-        // 简化实现，实际应该使用滑动窗口或采样
-        return (long) (getAverageResponseTime() * 1.5);
+        return percentileMillis(95.0);
     }
 
     @Override
     public long getP99ResponseTime() {
-        // 简化实现，实际应该使用滑动窗口或采样
-        return (long) (getAverageResponseTime() * 2.0);
+        return percentileMillis(99.0);
+    }
+
+    @Override
+    public HistogramSnapshot getLatencySnapshot() {
+        return latencyHistogram.snapshot();
+    }
+
+    @Override
+    public WindowSnapshot getWindowSnapshot(MetricsWindow window) {
+        return windowMetrics != null ? windowMetrics.snapshot(window) : null;
     }
 
     @Override
     public double getQPS() {
-        long total = totalInvocations.get();
-        long elapsed = System.currentTimeMillis() - startTime.get();
-        return elapsed > 0 ? (double) total / (elapsed / 1000.0) : 0.0;
+        if (windowMetrics != null) {
+            return windowMetrics.getQPS(MetricsWindow.ONE_MINUTE);
+        }
+        long elapsed = System.currentTimeMillis() - startTime;
+        return elapsed > 0 ? (double) getTotalInvocations() / (elapsed / 1000.0) : 0.0;
     }
-}
\ No newline at end of file
+}
@@ -3,8 +3,11 @@ package com.flexpoint.core.monitor;
 import com.flexpoint.core.config.FlexPointConfig;
 import com.flexpoint.core.ext.ExtAbility;
 import com.flexpoint.core.monitor.handler.MonitorHandler;
+import com.flexpoint.core.monitor.metrics.MetricsDimension;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 扩展点监控接口
@@ -24,6 +27,31 @@ public interface ExtMonitor {
      */
     void recordInvocation(ExtAbility extAbility, long duration, boolean success);
 
+    /**
+     * 以纳秒精度记录扩展点调用
+     * 默认换算为毫秒后调用 {@link #recordInvocation(ExtAbility, long, boolean)}
+     *
+     * @param extAbility 扩展点能力实例
+     * @param durationNanos 调用耗时（纳秒）
+     * @param success 是否成功
+     */
+    default void recordInvocationNanos(ExtAbility extAbility, long durationNanos, boolean success) {
+        recordInvocation(extAbility, TimeUnit.NANOSECONDS.toMillis(durationNanos), success);
+    }
+
+    /**
+     * 以纳秒精度记录扩展点方法调用，用于按方法维度统计
+     * 默认忽略方法名调用 {@link #recordInvocationNanos(ExtAbility, long, boolean)}
+     *
+     * @param extAbility 扩展点能力实例
+     * @param methodName 调用的方法名
+     * @param durationNanos 调用耗时（纳秒）
+     * @param success 是否成功
+     */
+    default void recordInvocationNanos(ExtAbility extAbility, String methodName, long durationNanos, boolean success) {
+        recordInvocationNanos(extAbility, durationNanos, success);
+    }
+
     /**
      * 记录扩展点异常
      *
@@ -31,6 +59,17 @@ public interface ExtMonitor {
      * @param exception 异常信息
      */
     void recordException(ExtAbility extAbility, Throwable exception);
+
+    /**
+     * 记录扩展点方法异常，默认忽略方法名
+     *
+     * @param extAbility 扩展点能力实例
+     * @param methodName 调用的方法名
+     * @param exception 异常信息
+     */
+    default void recordException(ExtAbility extAbility, String methodName, Throwable exception) {
+        recordException(extAbility, exception);
+    }
     
     /**
      * 获取扩展点指标
@@ -47,6 +86,28 @@ public interface ExtMonitor {
      */
     Map<String, ExtMetrics> getAllExtMetrics();
 
+    /**
+     * 获取扩展点在指定维度上的指标
+     *
+     * @param extAbility 扩展点能力实例
+     * @param dimension 指标维度
+     * @return 维度值 -> 指标，不支持维度统计时为空
+     */
+    default Map<String, ExtMetrics> getDimensionMetrics(ExtAbility extAbility, MetricsDimension dimension) {
+        return Collections.emptyMap();
+    }
+
+    /**
+     * 获取扩展点在指定维度上超过上限的取值合并后的指标
+     *
+     * @param extAbility 扩展点能力实例
+     * @param dimension 指标维度
+     * @return 溢出指标，未溢出或不支持维度统计时为null
+     */
+    default ExtMetrics getDimensionOverflow(ExtAbility extAbility, MetricsDimension dimension) {
+        return null;
+    }
+
     /**
      * 添加责任链节点
      */
@@ -0,0 +1,126 @@
+package com.flexpoint.core.monitor;
+
+import com.flexpoint.core.event.ring.RingSequencer;
+import com.flexpoint.core.ext.ExtAbility;
+
+/**
+ * 调用记录环形缓冲区
+ * 多生产者、单消费者，以并列数组保存调用记录的各字段，槽位预先分配并循环复用，写入记录不创建对象；
+ * 序号由与事件环形缓冲区共用的 {@link RingSequencer} 协调
+ *
+ * @author xiangganluo
+ */
+final class InvocationRecordBuffer {
+
+    static final byte SUCCESS = 0;
+
+    static final byte FAILURE = 1;
+
+    static final byte EXCEPTION = 2;
+
+    /**
+     * 通用监控任务，payload为Runnable
+     */
+    static final byte TASK = 3;
+
+    /**
+     * 消费者处理回调
+     */
+    @FunctionalInterface
+    interface RecordHandler {
+        /**
+         * 处理一条调用记录
+         *
+         * @param kind 记录类型
+         * @param extAbility 扩展点能力实例
+         * @param methodName 方法名，可能为null
+         * @param durationNanos 调用耗时（纳秒）
+         * @param payload 异常或监控任务
+         */
+        void onRecord(byte kind, ExtAbility extAbility, String methodName, long durationNanos, Object payload);
+    }
+
+    private final RingSequencer sequencer;
+
+    private final byte[] kinds;
+
+    private final ExtAbility[] abilities;
+
+    private final String[] methodNames;
+
+    private final long[] durations;
+
+    private final Object[] payloads;
+
+    InvocationRecordBuffer(int bufferSize) {
+        this.sequencer = new RingSequencer(bufferSize);
+        this.kinds = new byte[bufferSize];
+        this.abilities = new ExtAbility[bufferSize];
+        this.methodNames = new String[bufferSize];
+        this.durations = new long[bufferSize];
+        this.payloads = new Object[bufferSize];
+    }
+
+    /**
+     * 尝试写入一条记录
+     *
+     * @return 缓冲区已满时返回false
+     */
+    boolean tryPublish(byte kind, ExtAbility extAbility, String methodName, long durationNanos, Object payload) {
+        long sequence = sequencer.tryClaim();
+        if (sequence == RingSequencer.FULL) {
+            return false;
+        }
+        int index = sequencer.indexOf(sequence);
+        kinds[index] = kind;
+        abilities[index] = extAbility;
+        methodNames[index] = methodName;
+        durations[index] = durationNanos;
+        payloads[index] = payload;
+        sequencer.publish(sequence);
+        return true;
+    }
+
+    /**
+     * 批量消费连续已发布的槽位，仅允许单个消费者线程调用
+     *
+     * @param handler 处理回调
+     * @param maxBatch 单批最大处理数量
+     * @return 本批处理数量
+     */
+    int drain(RecordHandler handler, int maxBatch) {
+        long sequence = sequencer.nextToConsume();
+        int count = 0;
+        while (count < maxBatch && sequencer.isPublished(sequence)) {
+            int index = sequencer.indexOf(sequence);
+            ExtAbility extAbility = abilities[index];
+            Object payload = payloads[index];
+            // 清空引用，避免槽位长期持有扩展点和异常
+            abilities[index] = null;
+            payloads[index] = null;
+            handler.onRecord(kinds[index], extAbility, methodNames[index], durations[index], payload);
+            sequence++;
+            count++;
+        }
+        sequencer.commit(sequence);
+        return count;
+    }
+
+    /**
+     * 是否有待消费的槽位
+     */
+    boolean hasPending() {
+        return sequencer.hasPending();
+    }
+
+    /**
+     * 当前积压数量（近似值）
+     */
+    long backlog() {
+        return sequencer.backlog();
+    }
+
+    int getCapacity() {
+        return sequencer.getCapacity();
+    }
+}
@@ -1,9 +1,14 @@
 package com.flexpoint.core.monitor;
 
 import com.flexpoint.core.config.FlexPointConfig;
+import com.flexpoint.core.monitor.handler.CollectorHandler;
+import com.flexpoint.core.monitor.handler.MetricsHandler;
 import com.flexpoint.core.monitor.handler.MonitorHandler;
+import com.flexpoint.core.monitor.metrics.MetricsCollector;
+import com.flexpoint.core.monitor.metrics.MetricsExporter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -53,4 +58,40 @@ public class MonitorFactory {
     public static ExtMonitor createDefaultMonitor(FlexPointConfig.MonitorConfig config) {
         return createMonitor(config, null);
     }
-} 
\ No newline at end of file
+
+    /**
+     * 创建监控处理器链
+     * 未启用定时导出时加入收集器处理器，采集器在每次调用时实时采集；启用时由 {@link #createExporter} 创建的导出器批量采集
+     *
+     * @param config 监控配置
+     * @param metricsHandler 本地指标处理器
+     * @param collectors 采集器列表
+     * @return 处理器链
+     */
+    public static List<MonitorHandler> createHandlerChain(FlexPointConfig.MonitorConfig config, MetricsHandler metricsHandler,
+                                                          List<MetricsCollector> collectors) {
+        List<MonitorHandler> handlerChain = new ArrayList<>();
+        handlerChain.add(metricsHandler);
+        if (collectors != null && !collectors.isEmpty() && !config.getExport().isEnabled()) {
+            handlerChain.add(new CollectorHandler(collectors));
+        }
+        return handlerChain;
+    }
+
+    /**
+     * 创建定时指标导出器，未启用定时导出或没有采集器时返回null
+     *
+     * @param config 监控配置
+     * @param metricsHandler 本地指标处理器
+     * @param collectors 采集器列表
+     * @return 未启动的导出器
+     */
+    public static MetricsExporter createExporter(FlexPointConfig.MonitorConfig config, MetricsHandler metricsHandler,
+                                                 List<MetricsCollector> collectors) {
+        if (collectors == null || collectors.isEmpty() || !config.getExport().isEnabled()) {
+            return null;
+        }
+        log.info("创建定时指标导出器，收集器数量: {}", collectors.size());
+        return new MetricsExporter(metricsHandler, collectors, config.getExport().getIntervalMillis());
+    }
+}
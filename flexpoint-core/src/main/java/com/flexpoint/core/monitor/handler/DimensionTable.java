@@ -0,0 +1,76 @@
+package com.flexpoint.core.monitor.handler;
+
+import com.flexpoint.core.monitor.DimensionMetrics;
+import com.flexpoint.core.monitor.ExtMetrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 单个扩展点在某一维度上的指标表
+ * 维度值数量达到上限后，新的取值统一计入单独的溢出指标，不占用维度值的键，
+ * 因此真实取值与溢出桶不会互相覆盖；维度指标只含计数和耗时，以控制每个维度值的内存占用
+ *
+ * @author xiangganluo
+ */
+class DimensionTable {
+
+    private final ConcurrentHashMap<String, DimensionMetrics> values = new ConcurrentHashMap<>();
+
+    /**
+     * 只读实时视图，查询时不复制
+     */
+    private final Map<String, ExtMetrics> view = Collections.unmodifiableMap(values);
+
+    /**
+     * 超过上限的取值合并后的指标，首次溢出时创建
+     */
+    private final AtomicReference<DimensionMetrics> overflow = new AtomicReference<>();
+
+    private final int limit;
+
+    DimensionTable(int limit) {
+        this.limit = limit;
+    }
+
+    /**
+     * 获取维度值对应的指标，超过上限时返回溢出指标
+     */
+    DimensionMetrics metricsOf(String value) {
+        String key = value != null ? value : "";
+        DimensionMetrics metrics = values.get(key);
+        if (metrics != null) {
+            return metrics;
+        }
+        // 并发创建时可能略超上限，不影响内存有界
+        if (values.size() >= limit) {
+            return overflow();
+        }
+        return values.computeIfAbsent(key, k -> new DimensionMetrics());
+    }
+
+    /**
+     * 各维度值的指标视图，不含溢出指标
+     */
+    Map<String, ExtMetrics> view() {
+        return view;
+    }
+
+    /**
+     * 溢出指标，尚未溢出时为null
+     */
+    ExtMetrics overflowMetrics() {
+        return overflow.get();
+    }
+
+    private DimensionMetrics overflow() {
+        DimensionMetrics current = overflow.get();
+        if (current == null) {
+            overflow.compareAndSet(null, new DimensionMetrics());
+            current = overflow.get();
+        }
+        return current;
+    }
+}
@@ -1,15 +1,20 @@
 package com.flexpoint.core.monitor.handler;
 
+import com.flexpoint.core.config.FlexPointConfig;
 import com.flexpoint.core.ext.ExtAbility;
 import com.flexpoint.core.monitor.ExtMetrics;
 import com.flexpoint.core.monitor.ExtMetricsImpl;
+import com.flexpoint.core.monitor.metrics.MetricsDimension;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 本地内存统计节点
- * 负责本地统计扩展点调用和异常，并提供指标查询能力
+ * 负责本地统计扩展点调用和异常，并提供指标查询能力；
+ * 按 {@link FlexPointConfig.DimensionConfig} 同时按方法名和业务标识分别统计
  * @author luoxianggan
  */
 public class MetricsHandler implements MonitorHandler, MetricsProvider {
@@ -19,26 +24,135 @@ public class MetricsHandler implements MonitorHandler, MetricsProvider {
      */
     private final ConcurrentHashMap<String, ExtMetricsImpl> metricsMap = new ConcurrentHashMap<>();
 
+    /**
+     * 只读视图，查询全部指标时不复制
+     */
+    private final Map<String, ExtMetrics> metricsView = Collections.unmodifiableMap(metricsMap);
+
+    /**
+     * key: 扩展点ID value: 总指标及维度指标
+     */
+    private final ConcurrentHashMap<String, ExtMetricsEntry> entryMap = new ConcurrentHashMap<>();
+
+    /**
+     * 尚无调用记录时返回的空指标，避免每次查询创建对象
+     */
+    private static final ExtMetrics EMPTY = new ExtMetricsImpl();
+
+    private final FlexPointConfig.DimensionConfig dimensionConfig;
+
+    public MetricsHandler() {
+        this(new FlexPointConfig.DimensionConfig());
+    }
+
+    public MetricsHandler(FlexPointConfig.DimensionConfig dimensionConfig) {
+        this.dimensionConfig = dimensionConfig != null ? dimensionConfig : new FlexPointConfig.DimensionConfig();
+    }
+
     @Override
     public void handleInvocation(ExtAbility extAbility, long duration, boolean success, ExtMetrics m) {
-        ExtMetricsImpl metrics = metricsMap.computeIfAbsent(extAbility.getExtId(), k -> new ExtMetricsImpl());
-        metrics.recordInvocation(duration, success);
+        handleInvocationNanos(extAbility, TimeUnit.MILLISECONDS.toNanos(duration), success, m);
+    }
+
+    @Override
+    public void handleInvocationNanos(ExtAbility extAbility, long durationNanos, boolean success, ExtMetrics m) {
+        handleInvocationNanos(extAbility, null, durationNanos, success, m);
+    }
+
+    @Override
+    public void handleInvocationNanos(ExtAbility extAbility, String methodName, long durationNanos,
+                                      boolean success, ExtMetrics m) {
+        ExtMetricsEntry entry = entryOf(extAbility);
+        entry.total.recordInvocationNanos(durationNanos, success);
+        if (entry.methods != null && methodName != null) {
+            entry.methods.metricsOf(methodName).recordInvocationNanos(durationNanos, success);
+        }
+        if (entry.codes != null) {
+            entry.codes.metricsOf(extAbility.getCode()).recordInvocationNanos(durationNanos, success);
+        }
     }
 
     @Override
     public void handleException(ExtAbility extAbility, Throwable exception, ExtMetrics m) {
-        String ext = extAbility.getClass().getName();
-        ExtMetricsImpl metrics = metricsMap.computeIfAbsent(extAbility.getExtId(), k -> new ExtMetricsImpl());
-        metrics.recordException();
+        handleException(extAbility, null, exception, m);
+    }
+
+    @Override
+    public void handleException(ExtAbility extAbility, String methodName, Throwable exception, ExtMetrics m) {
+        ExtMetricsEntry entry = entryOf(extAbility);
+        entry.total.recordException();
+        if (entry.methods != null && methodName != null) {
+            entry.methods.metricsOf(methodName).recordException();
+        }
+        if (entry.codes != null) {
+            entry.codes.metricsOf(extAbility.getCode()).recordException();
+        }
+    }
+
+    private ExtMetricsEntry entryOf(ExtAbility extAbility) {
+        String extId = extAbility.getExtId();
+        ExtMetricsEntry entry = entryMap.get(extId);
+        return entry != null ? entry : entryMap.computeIfAbsent(extId, k -> {
+            ExtMetricsEntry created = new ExtMetricsEntry(dimensionConfig);
+            metricsMap.put(k, created.total);
+            return created;
+        });
     }
 
     @Override
     public ExtMetrics getMetrics(ExtAbility extAbility) {
-        return metricsMap.getOrDefault(extAbility.getExtId(), new ExtMetricsImpl());
+        ExtMetricsImpl metrics = metricsMap.get(extAbility.getExtId());
+        return metrics != null ? metrics : EMPTY;
     }
 
+    /**
+     * 全部扩展点指标的只读实时视图
+     */
     @Override
     public Map<String, ExtMetrics> getAllMetrics() {
-        return new ConcurrentHashMap<>(metricsMap);
+        return metricsView;
+    }
+
+    /**
+     * 扩展点在指定维度上的只读实时视图
+     */
+    @Override
+    public Map<String, ExtMetrics> getDimensionMetrics(String extId, MetricsDimension dimension) {
+        ExtMetricsEntry entry = entryMap.get(extId);
+        if (entry == null) {
+            return Collections.emptyMap();
+        }
+        DimensionTable table = dimension == MetricsDimension.METHOD ? entry.methods : entry.codes;
+        return table != null ? table.view() : Collections.emptyMap();
+    }
+
+    /**
+     * 扩展点在指定维度上超过上限的取值合并后的指标
+     */
+    @Override
+    public ExtMetrics getDimensionOverflow(String extId, MetricsDimension dimension) {
+        ExtMetricsEntry entry = entryMap.get(extId);
+        if (entry == null) {
+            return null;
+        }
+        DimensionTable table = dimension == MetricsDimension.METHOD ? entry.methods : entry.codes;
+        return table != null ? table.overflowMetrics() : null;
+    }
+
+    /**
+     * 单个扩展点的总指标及各维度指标
+     */
+    private static final class ExtMetricsEntry {
+
+        private final ExtMetricsImpl total = new ExtMetricsImpl();
+
+        private final DimensionTable methods;
+
+        private final DimensionTable codes;
+
+        ExtMetricsEntry(FlexPointConfig.DimensionConfig config) {
+            this.methods = config.isMethodEnabled() ? new DimensionTable(config.getMaxMethodsPerExt()) : null;
+            this.codes = config.isCodeEnabled() ? new DimensionTable(config.getMaxCodesPerExt()) : null;
+        }
     }
-} 
\ No newline at end of file
+}
@@ -2,7 +2,9 @@ package com.flexpoint.core.monitor.handler;
 
 import com.flexpoint.core.ext.ExtAbility;
 import com.flexpoint.core.monitor.ExtMetrics;
+import com.flexpoint.core.monitor.metrics.MetricsDimension;
 
+import java.util.Collections;
 import java.util.Map;
 
 /**
@@ -13,4 +15,32 @@ import java.util.Map;
 public interface MetricsProvider {
     ExtMetrics getMetrics(ExtAbility extAbility);
     Map<String, ExtMetrics> getAllMetrics();
+
+    /**
+     * 扩展点在指定维度上的指标
+     */
+    default Map<String, ExtMetrics> getDimensionMetrics(ExtAbility extAbility, MetricsDimension dimension) {
+        return getDimensionMetrics(extAbility.getExtId(), dimension);
+    }
+
+    /**
+     * 按扩展点ID获取指定维度上的指标，默认不支持
+     */
+    default Map<String, ExtMetrics> getDimensionMetrics(String extId, MetricsDimension dimension) {
+        return Collections.emptyMap();
+    }
+
+    /**
+     * 扩展点在指定维度上超过上限的取值合并后的指标，未溢出或不支持时返回null
+     */
+    default ExtMetrics getDimensionOverflow(ExtAbility extAbility, MetricsDimension dimension) {
+        return getDimensionOverflow(extAbility.getExtId(), dimension);
+    }
+
+    /**
+     * 按扩展点ID获取维度溢出指标，默认不支持
+     */
+    default ExtMetrics getDimensionOverflow(String extId, MetricsDimension dimension) {
+        return null;
+    }
 } 
\ No newline at end of file
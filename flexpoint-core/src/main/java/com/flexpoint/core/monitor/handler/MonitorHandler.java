@@ -3,6 +3,8 @@ package com.flexpoint.core.monitor.handler;
 import com.flexpoint.core.ext.ExtAbility;
 import com.flexpoint.core.monitor.ExtMetrics;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * 监控责任链节点接口
  *
@@ -14,8 +16,30 @@ public interface MonitorHandler {
      */
     void handleInvocation(ExtAbility extAbility, long duration, boolean success, ExtMetrics metrics);
 
+    /**
+     * 以纳秒精度处理扩展点调用，默认换算为毫秒
+     */
+    default void handleInvocationNanos(ExtAbility extAbility, long durationNanos, boolean success, ExtMetrics metrics) {
+        handleInvocation(extAbility, TimeUnit.NANOSECONDS.toMillis(durationNanos), success, metrics);
+    }
+
+    /**
+     * 以纳秒精度处理扩展点方法调用，默认忽略方法名
+     */
+    default void handleInvocationNanos(ExtAbility extAbility, String methodName, long durationNanos,
+                                       boolean success, ExtMetrics metrics) {
+        handleInvocationNanos(extAbility, durationNanos, success, metrics);
+    }
+
     /**
      * 处理扩展点异常
      */
     void handleException(ExtAbility extAbility, Throwable exception, ExtMetrics metrics);
+
+    /**
+     * 处理扩展点方法异常，默认忽略方法名
+     */
+    default void handleException(ExtAbility extAbility, String methodName, Throwable exception, ExtMetrics metrics) {
+        handleException(extAbility, exception, metrics);
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,137 @@
+package com.flexpoint.core.monitor.metrics;
+
+/**
+ * 延迟直方图快照
+ * 创建后不可变，分位数取所在桶的上界并以记录到的最大值封顶，单位为微秒
+ *
+ * @author xiangganluo
+ */
+public class HistogramSnapshot {
+
+    private final long[] counts;
+
+    private final int subBucketBits;
+
+    private final long count;
+
+    private final long sum;
+
+    private final long max;
+
+    HistogramSnapshot(long[] counts, int subBucketBits, long count, long sum, long max) {
+        this.counts = counts;
+        this.subBucketBits = subBucketBits;
+        this.count = count;
+        this.sum = sum;
+        this.max = max;
+    }
+
+    /**
+     * 记录次数
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * 延迟总和（微秒）
+     */
+    public long getSum() {
+        return sum;
+    }
+
+    /**
+     * 最大延迟（微秒）
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * 平均延迟（微秒）
+     */
+    public double getMean() {
+        return count > 0 ? (double) sum / count : 0.0;
+    }
+
+    /**
+     * 获取分位数对应的延迟（微秒）
+     *
+     * @param percentile 百分位，取值0到100
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (count == 0) {
+            return 0L;
+        }
+        double p = Math.min(100.0, Math.max(0.0, percentile));
+        long rank = Math.max(1L, (long) Math.ceil(p / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(LatencyHistogram.upperBoundOf(i, subBucketBits), max);
+            }
+        }
+        return max;
+    }
+
+    public long getP50() {
+        return getValueAtPercentile(50.0);
+    }
+
+    public long getP90() {
+        return getValueAtPercentile(90.0);
+    }
+
+    public long getP99() {
+        return getValueAtPercentile(99.0);
+    }
+
+    public long getP999() {
+        return getValueAtPercentile(99.9);
+    }
+
+    /**
+     * 计算相对上一快照的增量，上一快照为空或精度不同时返回自身；
+     * 增量的最大值取最高非空桶的上界并以当前最大值封顶
+     *
+     * @param previous 上一快照
+     */
+    public HistogramSnapshot minus(HistogramSnapshot previous) {
+        if (previous == null || previous.subBucketBits != subBucketBits || previous.count > count) {
+            return this;
+        }
+        long[] delta = new long[counts.length];
+        long deltaCount = 0;
+        long deltaMax = 0;
+        for (int i = 0; i < counts.length; i++) {
+            delta[i] = Math.max(0L, counts[i] - previous.counts[i]);
+            if (delta[i] > 0) {
+                deltaCount += delta[i];
+                deltaMax = Math.min(LatencyHistogram.upperBoundOf(i, subBucketBits), max);
+            }
+        }
+        return new HistogramSnapshot(delta, subBucketBits, deltaCount, Math.max(0L, sum - previous.sum), deltaMax);
+    }
+
+    /**
+     * 桶数量，供导出器遍历
+     */
+    public int getBucketCount() {
+        return counts.length;
+    }
+
+    /**
+     * 指定桶的记录次数
+     */
+    public long getBucketCountAt(int index) {
+        return counts[index];
+    }
+
+    /**
+     * 指定桶的上界（微秒，含）
+     */
+    public long getBucketUpperBound(int index) {
+        return LatencyHistogram.upperBoundOf(index, subBucketBits);
+    }
+}
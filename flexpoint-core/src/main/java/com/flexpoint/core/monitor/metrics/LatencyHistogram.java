@@ -0,0 +1,164 @@
+package com.flexpoint.core.monitor.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 对数线性延迟直方图
+ * 以微秒记录，每个2的幂区间再等分为 2^subBucketBits 个子桶，默认32个子桶，相对误差不超过1/32；
+ * 桶数组大小固定，超过上限的值计入最后一个桶，最大值单独精确记录。
+ * 记录只做原子自增，{@link #snapshot()} 逐桶读取不加锁，与记录并发时得到近似一致的快照
+ *
+ * @author xiangganluo
+ */
+public class LatencyHistogram {
+
+    /**
+     * 默认子桶位数
+     */
+    static final int SUB_BUCKET_BITS = 5;
+
+    /**
+     * 可区分的最高位，2^36微秒约19小时
+     */
+    static final int MAX_EXPONENT = 36;
+
+    /**
+     * 默认精度下的桶总数
+     */
+    static final int BUCKET_COUNT = bucketCountOf(SUB_BUCKET_BITS);
+
+    private final int subBucketBits;
+
+    private final AtomicLongArray buckets;
+
+    private final LongAdder sum = new LongAdder();
+
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+    public LatencyHistogram() {
+        this(SUB_BUCKET_BITS);
+    }
+
+    /**
+     * @param subBucketBits 子桶位数，取值1到8，位数越少占用内存越小、相对误差越大
+     */
+    public LatencyHistogram(int subBucketBits) {
+        if (subBucketBits < 1 || subBucketBits > 8) {
+            throw new IllegalArgumentException("subBucketBits must be between 1 and 8: " + subBucketBits);
+        }
+        this.subBucketBits = subBucketBits;
+        this.buckets = new AtomicLongArray(bucketCountOf(subBucketBits));
+    }
+
+    /**
+     * 记录一个延迟值
+     *
+     * @param micros 延迟（微秒），负值按0记录
+     */
+    public void record(long micros) {
+        long value = Math.max(0L, micros);
+        buckets.incrementAndGet(indexOf(value, subBucketBits));
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    /**
+     * 生成快照，不阻塞记录线程
+     */
+    public HistogramSnapshot snapshot() {
+        long[] counts = new long[buckets.length()];
+        long total = addTo(counts);
+        return new HistogramSnapshot(counts, subBucketBits, total, sum.sum(), max.get());
+    }
+
+    /**
+     * 清空所有记录，与记录并发时可能残留少量计数
+     */
+    void reset() {
+        for (int i = 0; i < buckets.length(); i++) {
+            buckets.set(i, 0L);
+        }
+        sum.reset();
+        max.reset();
+    }
+
+    /**
+     * 将各桶计数累加到给定数组，返回本直方图的记录次数
+     */
+    long addTo(long[] counts) {
+        long total = 0;
+        for (int i = 0; i < counts.length; i++) {
+            long count = buckets.get(i);
+            counts[i] += count;
+            total += count;
+        }
+        return total;
+    }
+
+    long getSum() {
+        return sum.sum();
+    }
+
+    long getMax() {
+        return max.get();
+    }
+
+    int getSubBucketBits() {
+        return subBucketBits;
+    }
+
+    /**
+     * 给定精度下的桶总数
+     */
+    static int bucketCountOf(int subBucketBits) {
+        int subBucketCount = 1 << subBucketBits;
+        return subBucketCount + (MAX_EXPONENT - subBucketBits + 1) * subBucketCount;
+    }
+
+    /**
+     * 计算默认精度下值所在的桶下标
+     */
+    static int indexOf(long value) {
+        return indexOf(value, SUB_BUCKET_BITS);
+    }
+
+    /**
+     * 计算值所在的桶下标
+     */
+    static int indexOf(long value, int subBucketBits) {
+        int subBucketCount = 1 << subBucketBits;
+        if (value < subBucketCount) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent > MAX_EXPONENT) {
+            return bucketCountOf(subBucketBits) - 1;
+        }
+        int shift = exponent - subBucketBits;
+        int subBucket = (int) (value >>> shift) - subBucketCount;
+        return subBucketCount + shift * subBucketCount + subBucket;
+    }
+
+    /**
+     * 默认精度下桶内的最大值（含）
+     */
+    static long upperBoundOf(int index) {
+        return upperBoundOf(index, SUB_BUCKET_BITS);
+    }
+
+    /**
+     * 桶内的最大值（含）
+     */
+    static long upperBoundOf(int index, int subBucketBits) {
+        int subBucketCount = 1 << subBucketBits;
+        if (index < subBucketCount) {
+            return index;
+        }
+        int shift = (index - subBucketCount) / subBucketCount;
+        int subBucket = (index - subBucketCount) % subBucketCount;
+        long lower = ((long) (subBucketCount + subBucket)) << shift;
+        return lower + (1L << shift) - 1;
+    }
+}
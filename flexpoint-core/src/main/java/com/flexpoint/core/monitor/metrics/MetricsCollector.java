@@ -3,6 +3,8 @@ package com.flexpoint.core.monitor.metrics;
 import com.flexpoint.core.monitor.ExtMetrics;
 import com.flexpoint.core.monitor.enums.CollectorType;
 
+import java.util.List;
+
 /**
  * 监控数据采集器扩展接口
  * @author xiangganluo
@@ -16,4 +18,16 @@ public interface MetricsCollector {
      * @param collectorType 采集器类型
      */
     void collect(String ext, ExtMetrics metrics, CollectorType collectorType);
-} 
\ No newline at end of file
+
+    /**
+     * 批量采集扩展点指标快照，由 {@link MetricsExporter} 定时调用
+     * 默认逐个调用 {@link #collect(String, ExtMetrics, CollectorType)}
+     * @param snapshots 本次导出的全部快照，增量通过 {@link MetricsSnapshot#getDelta()} 获取
+     * @param collectorType 采集器类型
+     */
+    default void collectBatch(List<MetricsSnapshot> snapshots, CollectorType collectorType) {
+        for (MetricsSnapshot snapshot : snapshots) {
+            collect(snapshot.getExtId(), snapshot, collectorType);
+        }
+    }
+}
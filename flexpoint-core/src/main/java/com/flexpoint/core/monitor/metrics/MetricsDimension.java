@@ -0,0 +1,24 @@
+package com.flexpoint.core.monitor.metrics;
+
+/**
+ * 指标维度
+ *
+ * @author xiangganluo
+ */
+public enum MetricsDimension {
+
+    /**
+     * 按调用的方法名
+     */
+    METHOD,
+
+    /**
+     * 按扩展点实现的业务标识
+     */
+    CODE;
+
+    /**
+     * 超过维度上限的取值合并后对外展示的名称，仅用于导出，不作为维度指标的键
+     */
+    public static final String OTHER = "other";
+}
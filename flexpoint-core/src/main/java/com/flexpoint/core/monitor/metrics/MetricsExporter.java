@@ -0,0 +1,124 @@
+package com.flexpoint.core.monitor.metrics;
+
+import com.flexpoint.core.monitor.ExtMetrics;
+import com.flexpoint.core.monitor.enums.CollectorType;
+import com.flexpoint.core.monitor.handler.MetricsProvider;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 定时指标导出器
+ * 按固定间隔为所有扩展点生成不可变快照，计算与上一次导出之间的增量，
+ * 以一个批次交给各采集器的 {@link MetricsCollector#collectBatch(List, CollectorType)}，
+ * 采集开销只与扩展点数量和导出间隔有关，与调用量无关
+ *
+ * @author xiangganluo
+ */
+@Slf4j
+public class MetricsExporter {
+
+    private final MetricsProvider metricsProvider;
+
+    private final List<MetricsCollector> collectors;
+
+    private final long intervalMillis;
+
+    /**
+     * 上一次导出的快照，只在导出锁内访问
+     */
+    private final Map<String, MetricsSnapshot> previous = new HashMap<>();
+
+    private ScheduledExecutorService scheduler;
+
+    public MetricsExporter(MetricsProvider metricsProvider, List<MetricsCollector> collectors, long intervalMillis) {
+        if (intervalMillis <= 0) {
+            throw new IllegalArgumentException("intervalMillis must be positive: " + intervalMillis);
+        }
+        this.metricsProvider = metricsProvider;
+        this.collectors = collectors != null ? collectors : Collections.emptyList();
+        this.intervalMillis = intervalMillis;
+    }
+
+    /**
+     * 启动定时导出，重复调用无效
+     */
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "flexpoint-metrics-exporter");
+            t.setDaemon(true);
+            return t;
+        });
+        scheduler.scheduleAtFixedRate(this::exportQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        log.info("指标导出器已启动: intervalMillis={}, collectors={}", intervalMillis, collectors.size());
+    }
+
+    /**
+     * 立即导出一次
+     *
+     * @return 本次导出的快照
+     */
+    public synchronized List<MetricsSnapshot> exportNow() {
+        Map<String, ExtMetrics> all = metricsProvider.getAllMetrics();
+        if (all == null || all.isEmpty()) {
+            return Collections.emptyList();
+        }
+        long now = System.currentTimeMillis();
+        List<MetricsSnapshot> snapshots = new ArrayList<>(all.size());
+        Map<String, MetricsSnapshot> current = new HashMap<>(all.size() * 2);
+        all.forEach((extId, metrics) -> {
+            MetricsSnapshot snapshot = MetricsSnapshot.of(extId, metrics, now, previous.get(extId));
+            snapshots.add(snapshot);
+            current.put(extId, snapshot);
+        });
+        previous.clear();
+        previous.putAll(current);
+
+        List<MetricsSnapshot> batch = Collections.unmodifiableList(snapshots);
+        for (MetricsCollector collector : collectors) {
+            try {
+                collector.collectBatch(batch, CollectorType.SCHEDULED);
+            } catch (Exception e) {
+                log.warn("采集器批量采集异常", e);
+            }
+        }
+        return batch;
+    }
+
+    /**
+     * 停止定时导出，并导出最后一批
+     */
+    public void shutdown() {
+        synchronized (this) {
+            if (scheduler == null) {
+                return;
+            }
+            scheduler.shutdown();
+            scheduler = null;
+        }
+        exportQuietly();
+        log.info("指标导出器已关闭");
+    }
+
+    public long getIntervalMillis() {
+        return intervalMillis;
+    }
+
+    private void exportQuietly() {
+        try {
+            exportNow();
+        } catch (Exception e) {
+            log.warn("指标导出异常", e);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.flexpoint.core.monitor.metrics;
+
+import com.flexpoint.core.monitor.ExtMetrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 扩展点指标快照
+ * 创建后不可变，计数为截至快照时刻的累计值；由 {@link MetricsExporter} 生成时通过 {@link #getDelta()}
+ * 提供与上一次导出之间的增量，QPS按增量和导出间隔计算。计数器被重建而变小时，增量按从零开始计算
+ *
+ * @author xiangganluo
+ */
+public class MetricsSnapshot implements ExtMetrics {
+
+    private final String extId;
+
+    private final long timestamp;
+
+    private final long intervalMillis;
+
+    private final long successInvocations;
+
+    private final long failureInvocations;
+
+    private final long exceptionCount;
+
+    private final long totalDurationNanos;
+
+    private final long maxResponseTime;
+
+    private final long minResponseTime;
+
+    private final long lastInvocationTime;
+
+    private final HistogramSnapshot latencySnapshot;
+
+    private final MetricsSnapshot delta;
+
+    private MetricsSnapshot(String extId, long timestamp, long intervalMillis, long successInvocations,
+                            long failureInvocations, long exceptionCount, long totalDurationNanos,
+                            long maxResponseTime, long minResponseTime, long lastInvocationTime,
+                            HistogramSnapshot latencySnapshot, MetricsSnapshot delta) {
+        this.extId = extId;
+        this.timestamp = timestamp;
+        this.intervalMillis = intervalMillis;
+        this.successInvocations = successInvocations;
+        this.failureInvocations = failureInvocations;
+        this.exceptionCount = exceptionCount;
+        this.totalDurationNanos = totalDurationNanos;
+        this.maxResponseTime = maxResponseTime;
+        this.minResponseTime = minResponseTime;
+        this.lastInvocationTime = lastInvocationTime;
+        this.latencySnapshot = latencySnapshot;
+        this.delta = delta;
+    }
+
+    /**
+     * 读取指标生成快照
+     *
+     * @param extId 扩展点ID
+     * @param metrics 指标
+     * @param timestamp 快照时刻（毫秒）
+     * @param previous 同一扩展点的上一快照，为空时增量即累计值
+     */
+    public static MetricsSnapshot of(String extId, ExtMetrics metrics, long timestamp, MetricsSnapshot previous) {
+        long success = metrics.getSuccessInvocations();
+        long failure = metrics.getFailureInvocations();
+        long durationNanos = metrics.getTotalDurationNanos();
+        HistogramSnapshot latency = metrics.getLatencySnapshot();
+        long exceptions = metrics.getExceptionCount();
+
+        long interval = previous != null ? Math.max(0L, timestamp - previous.timestamp) : 0L;
+        HistogramSnapshot deltaLatency = latency != null
+            ? latency.minus(previous != null ? previous.latencySnapshot : null) : null;
+        MetricsSnapshot delta = new MetricsSnapshot(extId, timestamp, interval,
+            delta(success, previous != null ? previous.successInvocations : 0L),
+            delta(failure, previous != null ? previous.failureInvocations : 0L),
+            delta(exceptions, previous != null ? previous.exceptionCount : 0L),
+            delta(durationNanos, previous != null ? previous.totalDurationNanos : 0L),
+            deltaLatency != null ? deltaLatency.getMax() / 1000L : 0L,
+            deltaLatency != null ? deltaLatency.getValueAtPercentile(0) / 1000L : 0L,
+            metrics.getLastInvocationTime(), deltaLatency, null);
+        return new MetricsSnapshot(extId, timestamp, interval, success, failure, exceptions, durationNanos,
+            metrics.getMaxResponseTime(), metrics.getMinResponseTime(), metrics.getLastInvocationTime(),
+            latency, delta);
+    }
+
+    private static long delta(long current, long previous) {
+        return current >= previous ? current - previous : current;
+    }
+
+    public String getExtId() {
+        return extId;
+    }
+
+    /**
+     * 快照时刻（毫秒）
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * 与上一快照的间隔（毫秒），首次快照为0
+     */
+    public long getIntervalMillis() {
+        return intervalMillis;
+    }
+
+    /**
+     * 与上一快照之间的增量，增量快照自身返回null
+     */
+    public MetricsSnapshot getDelta() {
+        return delta;
+    }
+
+    @Override
+    public long getTotalInvocations() {
+        return successInvocations + failureInvocations;
+    }
+
+    @Override
+    public long getSuccessInvocations() {
+        return successInvocations;
+    }
+
+    @Override
+    public long getFailureInvocations() {
+        return failureInvocations;
+    }
+
+    @Override
+    public double getSuccessRate() {
+        long total = getTotalInvocations();
+        return total > 0 ? (double) successInvocations / total : 0.0;
+    }
+
+    @Override
+    public double getAverageResponseTime() {
+        long total = getTotalInvocations();
+        return total > 0 ? (double) totalDurationNanos / TimeUnit.MILLISECONDS.toNanos(1) / total : 0.0;
+    }
+
+    @Override
+    public long getTotalDurationNanos() {
+        return totalDurationNanos;
+    }
+
+    @Override
+    public long getMaxResponseTime() {
+        return maxResponseTime;
+    }
+
+    @Override
+    public long getMinResponseTime() {
+        return minResponseTime;
+    }
+
+    @Override
+    public long getExceptionCount() {
+        return exceptionCount;
+    }
+
+    @Override
+    public long getLastInvocationTime() {
+        return lastInvocationTime;
+    }
+
+    @Override
+    public long getP95ResponseTime() {
+        return percentileMillis(95.0);
+    }
+
+    @Override
+    public long getP99ResponseTime() {
+        return percentileMillis(99.0);
+    }
+
+    @Override
+    public HistogramSnapshot getLatencySnapshot() {
+        return latencySnapshot;
+    }
+
+    /**
+     * 导出间隔内的QPS，首次快照为0
+     */
+    @Override
+    public double getQPS() {
+        MetricsSnapshot interval = delta != null ? delta : this;
+        return intervalMillis > 0 ? interval.getTotalInvocations() * 1000.0 / intervalMillis : 0.0;
+    }
+}
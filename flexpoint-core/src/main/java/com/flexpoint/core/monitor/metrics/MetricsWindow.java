@@ -0,0 +1,46 @@
+package com.flexpoint.core.monitor.metrics;
+
+/**
+ * 滚动统计窗口
+ * 1秒和1分钟窗口的计数由秒级桶聚合，5分钟和15分钟窗口由分钟级桶聚合，均只统计已结束的桶；
+ * 延迟分布的粒度见 {@link WindowSnapshot#getLatencySnapshot()}
+ *
+ * @author xiangganluo
+ */
+public enum MetricsWindow {
+
+    ONE_SECOND(1),
+
+    ONE_MINUTE(60),
+
+    FIVE_MINUTES(300),
+
+    FIFTEEN_MINUTES(900);
+
+    private final int seconds;
+
+    MetricsWindow(int seconds) {
+        this.seconds = seconds;
+    }
+
+    /**
+     * 窗口长度（秒）
+     */
+    public int getSeconds() {
+        return seconds;
+    }
+
+    /**
+     * 是否由分钟级桶聚合
+     */
+    boolean isMinuteGranular() {
+        return seconds > 60;
+    }
+
+    /**
+     * 聚合的桶数量
+     */
+    int getBucketSpan() {
+        return isMinuteGranular() ? seconds / 60 : seconds;
+    }
+}
@@ -0,0 +1,296 @@
+package com.flexpoint.core.monitor.metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 滚动窗口指标
+ * 由秒级和分钟级两个环形桶数组组成，每个桶包含成功、失败、异常计数和耗时，按 {@link MetricsWindow} 聚合出1秒、1分钟、
+ * 5分钟和15分钟视图。低精度延迟直方图只挂在分钟桶和最近两秒的秒级延迟桶上，并在首次记录时创建，
+ * 1秒和1分钟窗口的延迟分布取最近一个已结束的秒/分钟，5分钟和15分钟窗口合并对应的分钟桶。
+ * 桶在首次使用时创建，之后循环复用；桶过期时由CAS抢到该桶纪元的线程清空，轮转期间的记录直接写入该桶，不阻塞也不等待
+ *
+ * @author xiangganluo
+ */
+public class RollingWindowMetrics {
+
+    /**
+     * 窗口直方图的子桶位数，相对误差不超过1/8，单个直方图约2KB
+     */
+    static final int WINDOW_SUB_BUCKET_BITS = 3;
+
+    /**
+     * 秒级桶数量，需大于1分钟窗口的秒数
+     */
+    private static final int SECOND_SLOTS = 64;
+
+    /**
+     * 分钟级桶数量，需大于15分钟窗口的分钟数
+     */
+    private static final int MINUTE_SLOTS = 16;
+
+    /**
+     * 秒级延迟桶数量，只需保留当前秒和上一秒
+     */
+    private static final int SECOND_LATENCY_SLOTS = 2;
+
+    /**
+     * 桶正在轮转
+     */
+    private static final long ROTATING = Long.MIN_VALUE;
+
+    private final LongSupplier clockMillis;
+
+    private final AtomicReferenceArray<Bucket> seconds = new AtomicReferenceArray<>(SECOND_SLOTS);
+
+    private final AtomicReferenceArray<Bucket> minutes = new AtomicReferenceArray<>(MINUTE_SLOTS);
+
+    private final AtomicReferenceArray<Bucket> secondLatencies = new AtomicReferenceArray<>(SECOND_LATENCY_SLOTS);
+
+    public RollingWindowMetrics() {
+        this(System::currentTimeMillis);
+    }
+
+    /**
+     * @param clockMillis 毫秒时钟
+     */
+    public RollingWindowMetrics(LongSupplier clockMillis) {
+        this.clockMillis = clockMillis;
+    }
+
+    /**
+     * 记录一次调用
+     *
+     * @param durationNanos 调用耗时（纳秒）
+     * @param success 是否成功
+     */
+    public void record(long durationNanos, boolean success) {
+        long second = TimeUnit.MILLISECONDS.toSeconds(clockMillis.getAsLong());
+        long micros = TimeUnit.NANOSECONDS.toMicros(durationNanos);
+        bucketOf(seconds, second).record(durationNanos, success);
+        Bucket minute = bucketOf(minutes, second / 60);
+        minute.record(durationNanos, success);
+        minute.histogram().record(micros);
+        bucketOf(secondLatencies, second).histogram().record(micros);
+    }
+
+    /**
+     * 记录一次异常
+     */
+    public void recordException() {
+        long second = TimeUnit.MILLISECONDS.toSeconds(clockMillis.getAsLong());
+        bucketOf(seconds, second).exceptions.increment();
+        bucketOf(minutes, second / 60).exceptions.increment();
+    }
+
+    /**
+     * 指定窗口内已结束的桶的调用次数，只累加计数，不合并直方图
+     */
+    public long getInvocations(MetricsWindow window) {
+        long second = TimeUnit.MILLISECONDS.toSeconds(clockMillis.getAsLong());
+        AtomicReferenceArray<Bucket> ring = window.isMinuteGranular() ? minutes : seconds;
+        long current = window.isMinuteGranular() ? second / 60 : second;
+        long oldest = current - window.getBucketSpan();
+        long invocations = 0;
+        for (int i = 0; i < ring.length(); i++) {
+            Bucket bucket = ring.get(i);
+            if (bucket == null) {
+                continue;
+            }
+            long epoch = bucket.epoch;
+            if (epoch < oldest || epoch >= current) {
+                continue;
+            }
+            long bucketInvocations = bucket.success.sum() + bucket.failure.sum();
+            if (bucket.epoch == epoch) {
+                invocations += bucketInvocations;
+            }
+        }
+        return invocations;
+    }
+
+    /**
+     * 指定窗口内的每秒调用数，只累加计数，不合并直方图
+     */
+    public double getQPS(MetricsWindow window) {
+        return (double) getInvocations(window) / window.getSeconds();
+    }
+
+    /**
+     * 聚合指定窗口内已结束的桶
+     */
+    public WindowSnapshot snapshot(MetricsWindow window) {
+        long second = TimeUnit.MILLISECONDS.toSeconds(clockMillis.getAsLong());
+        AtomicReferenceArray<Bucket> ring = window.isMinuteGranular() ? minutes : seconds;
+        long current = window.isMinuteGranular() ? second / 60 : second;
+        long oldest = current - window.getBucketSpan();
+
+        long success = 0;
+        long failure = 0;
+        long exceptions = 0;
+        long durationNanos = 0;
+        for (int i = 0; i < ring.length(); i++) {
+            Bucket bucket = ring.get(i);
+            if (bucket == null) {
+                continue;
+            }
+            long epoch = bucket.epoch;
+            if (epoch < oldest || epoch >= current) {
+                continue;
+            }
+            long bucketSuccess = bucket.success.sum();
+            long bucketFailure = bucket.failure.sum();
+            long bucketExceptions = bucket.exceptions.sum();
+            long bucketDuration = bucket.durationNanos.sum();
+            // 读取期间桶被轮转则丢弃该桶
+            if (bucket.epoch != epoch) {
+                continue;
+            }
+            success += bucketSuccess;
+            failure += bucketFailure;
+            exceptions += bucketExceptions;
+            durationNanos += bucketDuration;
+        }
+        return new WindowSnapshot(window, success, failure, exceptions, durationNanos, latencyOf(window, second));
+    }
+
+    /**
+     * 合并窗口对应的延迟桶
+     */
+    private HistogramSnapshot latencyOf(MetricsWindow window, long second) {
+        AtomicReferenceArray<Bucket> ring;
+        long current;
+        int span;
+        if (window == MetricsWindow.ONE_SECOND) {
+            ring = secondLatencies;
+            current = second;
+            span = 1;
+        } else {
+            ring = minutes;
+            current = second / 60;
+            span = window.isMinuteGranular() ? window.getBucketSpan() : 1;
+        }
+        long oldest = current - span;
+
+        long[] counts = new long[LatencyHistogram.bucketCountOf(WINDOW_SUB_BUCKET_BITS)];
+        long[] bucketCounts = new long[counts.length];
+        long latencyCount = 0;
+        long latencySum = 0;
+        long latencyMax = 0;
+        for (int i = 0; i < ring.length(); i++) {
+            Bucket bucket = ring.get(i);
+            if (bucket == null) {
+                continue;
+            }
+            long epoch = bucket.epoch;
+            LatencyHistogram histogram = bucket.histogram;
+            if (histogram == null || epoch < oldest || epoch >= current) {
+                continue;
+            }
+            Arrays.fill(bucketCounts, 0L);
+            long bucketLatencyCount = histogram.addTo(bucketCounts);
+            long bucketLatencySum = histogram.getSum();
+            long bucketLatencyMax = histogram.getMax();
+            if (bucket.epoch != epoch) {
+                continue;
+            }
+            for (int j = 0; j < counts.length; j++) {
+                counts[j] += bucketCounts[j];
+            }
+            latencyCount += bucketLatencyCount;
+            latencySum += bucketLatencySum;
+            latencyMax = Math.max(latencyMax, bucketLatencyMax);
+        }
+        return new HistogramSnapshot(counts, WINDOW_SUB_BUCKET_BITS, latencyCount, latencySum, latencyMax);
+    }
+
+    private static Bucket bucketOf(AtomicReferenceArray<Bucket> ring, long epoch) {
+        int index = (int) (epoch & (ring.length() - 1));
+        while (true) {
+            Bucket bucket = ring.get(index);
+            if (bucket == null) {
+                ring.compareAndSet(index, null, new Bucket(epoch));
+                continue;
+            }
+            long bucketEpoch = bucket.epoch;
+            // 时钟回拨时记入当前桶；其他线程正在轮转时直接记入，轮转完成后计入新时间段或随清空丢弃
+            if (bucketEpoch >= epoch || bucketEpoch == ROTATING) {
+                return bucket;
+            }
+            // CAS失败说明其他线程已开始轮转，重新读取
+            bucket.tryRotate(bucketEpoch, epoch);
+        }
+    }
+
+    /**
+     * 时间桶
+     */
+    private static final class Bucket {
+
+        private static final AtomicLongFieldUpdater<Bucket> EPOCH =
+            AtomicLongFieldUpdater.newUpdater(Bucket.class, "epoch");
+
+        private static final AtomicReferenceFieldUpdater<Bucket, LatencyHistogram> HISTOGRAM =
+            AtomicReferenceFieldUpdater.newUpdater(Bucket.class, LatencyHistogram.class, "histogram");
+
+        private volatile long epoch;
+
+        private final LongAdder success = new LongAdder();
+
+        private final LongAdder failure = new LongAdder();
+
+        private final LongAdder exceptions = new LongAdder();
+
+        private final LongAdder durationNanos = new LongAdder();
+
+        /**
+         * 延迟直方图，首次记录延迟时创建，只记录计数的桶不分配
+         */
+        private volatile LatencyHistogram histogram;
+
+        Bucket(long epoch) {
+            this.epoch = epoch;
+        }
+
+        void record(long nanos, boolean ok) {
+            if (ok) {
+                success.increment();
+            } else {
+                failure.increment();
+            }
+            durationNanos.add(nanos);
+        }
+
+        LatencyHistogram histogram() {
+            LatencyHistogram current = histogram;
+            if (current == null) {
+                HISTOGRAM.compareAndSet(this, null, new LatencyHistogram(WINDOW_SUB_BUCKET_BITS));
+                current = histogram;
+            }
+            return current;
+        }
+
+        /**
+         * 将桶从expected纪元切换到新的时间段并清空，只有CAS成功的线程执行清空
+         */
+        void tryRotate(long expected, long newEpoch) {
+            if (!EPOCH.compareAndSet(this, expected, ROTATING)) {
+                return;
+            }
+            success.reset();
+            failure.reset();
+            exceptions.reset();
+            durationNanos.reset();
+            LatencyHistogram current = histogram;
+            if (current != null) {
+                current.reset();
+            }
+            epoch = newEpoch;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.flexpoint.core.monitor.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 滚动窗口指标快照
+ * 创建后不可变，QPS按完整窗口长度计算
+ *
+ * @author xiangganluo
+ */
+public class WindowSnapshot {
+
+    private final MetricsWindow window;
+
+    private final long successInvocations;
+
+    private final long failureInvocations;
+
+    private final long exceptionCount;
+
+    private final long totalDurationNanos;
+
+    private final HistogramSnapshot latencySnapshot;
+
+    WindowSnapshot(MetricsWindow window, long successInvocations, long failureInvocations,
+                   long exceptionCount, long totalDurationNanos, HistogramSnapshot latencySnapshot) {
+        this.window = window;
+        this.successInvocations = successInvocations;
+        this.failureInvocations = failureInvocations;
+        this.exceptionCount = exceptionCount;
+        this.totalDurationNanos = totalDurationNanos;
+        this.latencySnapshot = latencySnapshot;
+    }
+
+    public MetricsWindow getWindow() {
+        return window;
+    }
+
+    public long getTotalInvocations() {
+        return successInvocations + failureInvocations;
+    }
+
+    public long getSuccessInvocations() {
+        return successInvocations;
+    }
+
+    public long getFailureInvocations() {
+        return failureInvocations;
+    }
+
+    public long getExceptionCount() {
+        return exceptionCount;
+    }
+
+    /**
+     * 失败率，无调用时为0
+     */
+    public double getErrorRate() {
+        long total = getTotalInvocations();
+        return total > 0 ? (double) failureInvocations / total : 0.0;
+    }
+
+    /**
+     * 窗口内的每秒调用数
+     */
+    public double getQPS() {
+        return (double) getTotalInvocations() / window.getSeconds();
+    }
+
+    /**
+     * 平均响应时间（毫秒）
+     */
+    public double getAverageResponseTime() {
+        long total = getTotalInvocations();
+        return total > 0 ? (double) totalDurationNanos / TimeUnit.MILLISECONDS.toNanos(1) / total : 0.0;
+    }
+
+    /**
+     * 窗口内的延迟直方图（微秒）
+     * 1秒和1分钟窗口为最近一个已结束的秒/分钟，5分钟和15分钟窗口为对应的已结束分钟
+     */
+    public HistogramSnapshot getLatencySnapshot() {
+        return latencySnapshot;
+    }
+}
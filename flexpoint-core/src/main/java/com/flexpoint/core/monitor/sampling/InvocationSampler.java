@@ -0,0 +1,51 @@
+package com.flexpoint.core.monitor.sampling;
+
+import com.flexpoint.core.config.FlexPointConfig;
+import com.flexpoint.core.ext.ExtAbility;
+import com.flexpoint.core.ext.ExtTypeDescriptor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 调用事件采样器
+ * 按扩展点类型解析采样规则，每个实现类只解析一次
+ *
+ * @author xiangganluo
+ */
+public class InvocationSampler {
+
+    private final FlexPointConfig.SamplingConfig config;
+
+    private final SamplingPolicy defaultPolicy;
+
+    private final Map<Class<?>, SamplingPolicy> policies = new ConcurrentHashMap<>();
+
+    public InvocationSampler(FlexPointConfig.SamplingConfig config) {
+        this.config = config;
+        this.defaultPolicy = new SamplingPolicy(config);
+    }
+
+    /**
+     * 获取扩展点实例对应的采样策略
+     */
+    public SamplingPolicy policyOf(ExtAbility ability) {
+        SamplingPolicy policy = policies.get(ability.getClass());
+        if (policy == null) {
+            policy = policies.computeIfAbsent(ability.getClass(), type -> resolve(ExtTypeDescriptor.of(ability).getExtType()));
+        }
+        return policy;
+    }
+
+    private SamplingPolicy resolve(Class<?> extType) {
+        Map<String, FlexPointConfig.SamplingRule> types = config.getTypes();
+        if (types == null || types.isEmpty() || extType == null) {
+            return defaultPolicy;
+        }
+        FlexPointConfig.SamplingRule rule = types.get(extType.getName());
+        if (rule == null) {
+            rule = types.get(extType.getSimpleName());
+        }
+        return rule != null ? new SamplingPolicy(rule) : defaultPolicy;
+    }
+}
@@ -0,0 +1,80 @@
+package com.flexpoint.core.monitor.sampling;
+
+import com.flexpoint.core.config.FlexPointConfig;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 单个扩展点类型的调用事件采样策略
+ * 先按比例随机采样，再受每秒采样预算限制；未采样的调用在异常或慢调用时仍发布结果事件
+ *
+ * @author xiangganluo
+ */
+public final class SamplingPolicy {
+
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final double rate;
+
+    private final int maxEventsPerSecond;
+
+    private final boolean keepErrors;
+
+    private final long slowThresholdMillis;
+
+    /**
+     * 当前预算窗口的起始时间
+     */
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+
+    /**
+     * 当前预算窗口已使用的采样数
+     */
+    private final AtomicInteger windowUsed = new AtomicInteger();
+
+    public SamplingPolicy(FlexPointConfig.SamplingRule rule) {
+        this.rate = rule.getRate();
+        this.maxEventsPerSecond = rule.getMaxEventsPerSecond();
+        this.keepErrors = rule.isKeepErrors();
+        this.slowThresholdMillis = rule.getSlowThresholdMillis();
+    }
+
+    /**
+     * 本次调用是否采样，采样的调用发布调用前和调用结果事件
+     */
+    public boolean sample() {
+        if (rate <= 0) {
+            return false;
+        }
+        if (rate < 1 && ThreadLocalRandom.current().nextDouble() >= rate) {
+            return false;
+        }
+        return maxEventsPerSecond <= 0 || tryAcquireBudget();
+    }
+
+    /**
+     * 未采样的调用是否仍需发布结果事件
+     *
+     * @param durationMillis 调用耗时（毫秒）
+     * @param error 是否抛出异常
+     */
+    public boolean keepResult(long durationMillis, boolean error) {
+        if (error) {
+            return keepErrors;
+        }
+        return slowThresholdMillis > 0 && durationMillis >= slowThresholdMillis;
+    }
+
+    private boolean tryAcquireBudget() {
+        long now = System.nanoTime();
+        long start = windowStart.get();
+        if (now - start >= WINDOW_NANOS && windowStart.compareAndSet(start, now)) {
+            // 窗口切换与计数重置不是原子的，切换瞬间可能多采样少量调用
+            windowUsed.set(0);
+        }
+        return windowUsed.incrementAndGet() <= maxEventsPerSecond;
+    }
+}
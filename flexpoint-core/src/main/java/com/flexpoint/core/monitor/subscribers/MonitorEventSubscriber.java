@@ -30,22 +30,25 @@ public class MonitorEventSubscriber implements EventSubscriber {
         EventType eventType = eventContext.getEventType();
         switch (eventType) {
             case INVOKE_SUCCESS:
-                extMonitor.recordInvocation(
+                extMonitor.recordInvocationNanos(
                     eventContext.getExtAbility(),
-                    eventContext.getDuration() != null ? eventContext.getDuration() : 0L,
+                    eventContext.getMethodName(),
+                    eventContext.getDurationNanos(),
                     true
                 );
                 break;
             case INVOKE_FAIL:
-                extMonitor.recordInvocation(
+                extMonitor.recordInvocationNanos(
                     eventContext.getExtAbility(),
-                    eventContext.getDuration() != null ? eventContext.getDuration() : 0L,
+                    eventContext.getMethodName(),
+                    eventContext.getDurationNanos(),
                     false
                 );
                 break;
             case INVOKE_EXCEPTION:
                 extMonitor.recordException(
                     eventContext.getExtAbility(),
+                    eventContext.getMethodName(),
                     eventContext.getException()
                 );
                 break;
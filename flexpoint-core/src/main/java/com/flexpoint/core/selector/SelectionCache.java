@@ -0,0 +1,95 @@
+package com.flexpoint.core.selector;
+
+import com.flexpoint.core.ext.ExtAbility;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 选择结果缓存
+ * 按 (扩展点类型, 路由键) 缓存选择器的选择结果，每项记录写入时的代数，
+ * 注册中心或选择器发生变化时只需递增代数即可使全部缓存失效
+ *
+ * @author xiangganluo
+ */
+public class SelectionCache {
+
+    /**
+     * 扩展点类型 -> (路由键 -> 缓存项)
+     */
+    private final Map<Class<?>, Map<String, Entry>> cacheMap = new ConcurrentHashMap<>();
+
+    /**
+     * 注册中心/选择器代数
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * 每个扩展点类型最多缓存的路由键数量
+     */
+    private final int maxKeysPerType;
+
+    public SelectionCache(int maxKeysPerType) {
+        this.maxKeysPerType = maxKeysPerType;
+    }
+
+    /**
+     * 获取当前代数，应在执行选择前读取并在写入缓存时传回
+     */
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * 查找缓存的选择结果，代数不一致时视为未命中
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends ExtAbility> T get(Class<T> extType, String routingKey) {
+        Map<String, Entry> cache = cacheMap.get(extType);
+        if (cache == null) {
+            return null;
+        }
+        Entry entry = cache.get(routingKey);
+        if (entry == null || entry.generation != generation.get()) {
+            return null;
+        }
+        return (T) entry.ability;
+    }
+
+    /**
+     * 写入选择结果
+     *
+     * @param generation 执行选择前读取的代数，选择期间发生变更时该项会在下次读取时失效
+     */
+    public void put(Class<?> extType, String routingKey, ExtAbility ability, long generation) {
+        Map<String, Entry> cache = cacheMap.get(extType);
+        if (cache == null) {
+            cache = cacheMap.computeIfAbsent(extType, k -> new ConcurrentHashMap<>());
+        }
+        if (cache.size() >= maxKeysPerType && !cache.containsKey(routingKey)) {
+            cache.clear();
+        }
+        cache.put(routingKey, new Entry(ability, generation));
+    }
+
+    /**
+     * 使全部缓存失效
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    /**
+     * 缓存项
+     */
+    private static final class Entry {
+        private final ExtAbility ability;
+        private final long generation;
+
+        private Entry(ExtAbility ability, long generation) {
+            this.ability = ability;
+            this.generation = generation;
+        }
+    }
+}
@@ -25,4 +25,14 @@ public interface Selector {
      * @return 选择器名称，用于注册和查找
      */
     String getName();
+
+    /**
+     * 获取当前上下文的路由键
+     * 相同路由键在注册中心和选择器不变时必须选出相同的扩展点，返回null表示结果不可缓存
+     *
+     * @return 路由键，默认null
+     */
+    default String routingKey() {
+        return null;
+    }
 }
\ No newline at end of file
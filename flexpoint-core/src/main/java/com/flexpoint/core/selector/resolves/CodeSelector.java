@@ -2,6 +2,7 @@ package com.flexpoint.core.selector.resolves;
 
 import com.flexpoint.common.constants.FlexPointConstants;
 import com.flexpoint.core.ext.ExtAbility;
+import com.flexpoint.core.ext.index.IndexedExtList;
 import com.flexpoint.core.selector.AbstractSelector;
 import lombok.RequiredArgsConstructor;
 
@@ -26,16 +27,44 @@ public class CodeSelector extends AbstractSelector {
 
     /**
      * 按code过滤候选者，子类可以覆盖此方法进行进一步过滤
+     * 候选列表携带路由索引时直接按索引查找，两种路径的返回结果均不可修改
      */
     protected <T extends ExtAbility> List<T> filterByCode(List<T> candidates) {
-        if (resolver == null) {
-            throw new IllegalStateException(getName() + "Selector中的 Resolver 不能为null，请注册业务自定义实现！");
-        }
-        String code = resolver.resolveCode();
+        String code = resolveCode();
         if (code == null) {
             return Collections.emptyList();
         }
-        return candidates.stream().filter(ext -> code.equals(ext.getCode())).collect(Collectors.toList());
+        if (candidates instanceof IndexedExtList) {
+            return ((IndexedExtList<T>) candidates).getByCode(code);
+        }
+        return Collections.unmodifiableList(
+            candidates.stream().filter(ext -> code.equals(ext.getCode())).collect(Collectors.toList()));
+    }
+
+    /**
+     * 通过业务方实现的 Resolver 解析当前code
+     */
+    protected String resolveCode() {
+        if (resolver == null) {
+            throw new IllegalStateException(getName() + "Selector中的 Resolver 不能为null，请注册业务自定义实现！");
+        }
+        return resolver.resolveCode();
+    }
+
+    /**
+     * 仅内置选择器以当前code作为路由键；子类可能改变过滤逻辑，默认不参与选择结果缓存，
+     * 确认选择结果只取决于code时可覆盖此方法返回 {@link #codeRoutingKey()}
+     */
+    @Override
+    public String routingKey() {
+        return getClass() == CodeSelector.class ? codeRoutingKey() : null;
+    }
+
+    /**
+     * 以当前code作为路由键
+     */
+    protected String codeRoutingKey() {
+        return resolveCode();
     }
 
     @Override
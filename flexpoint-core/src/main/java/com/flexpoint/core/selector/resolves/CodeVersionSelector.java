@@ -2,10 +2,13 @@ package com.flexpoint.core.selector.resolves;
 
 import com.flexpoint.common.constants.FlexPointConstants;
 import com.flexpoint.core.ext.ExtAbility;
+import com.flexpoint.core.ext.index.IndexedExtList;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * code+version 选择器，强制业务方实现 CodeVersionResolver。
@@ -14,8 +17,8 @@ import java.util.Optional;
  */
 public class CodeVersionSelector extends CodeSelector {
 
-    public static final String VERSION_TAG_KEY = "version";
-    public static final String DEFAULT_VERSION = "1.0.0";
+    public static final String VERSION_TAG_KEY = FlexPointConstants.VERSION_TAG_KEY;
+    public static final String DEFAULT_VERSION = FlexPointConstants.DEFAULT_VERSION;
 
     public CodeVersionSelector(CodeVersionResolver codeVersionResolver) {
         super(codeVersionResolver);
@@ -23,25 +26,54 @@ public class CodeVersionSelector extends CodeSelector {
 
     /**
      * 重写过滤逻辑，先按code过滤，再按version过滤
+     * 候选列表携带路由索引时直接按 code+version 索引查找
      */
     @Override
     protected <T extends ExtAbility> List<T> filterByCode(List<T> candidates) {
-        // 先按code过滤
-        List<T> codeFiltered = super.filterByCode(candidates);
-        
-        // 如果resolver是CodeVersionResolver，则进一步按版本过滤
-        if (resolver instanceof CodeVersionResolver) {
-            String targetVersion = Optional.ofNullable(((CodeVersionResolver) resolver).resolveVersion())
-                .orElse(DEFAULT_VERSION);
-            
-            // 安全地过滤版本号
-            codeFiltered.removeIf(ability -> {
-                String abilityVersion = ability.getTags().getString(VERSION_TAG_KEY, DEFAULT_VERSION);
-                return !Objects.equals(targetVersion, abilityVersion);
-            });
+        if (!(resolver instanceof CodeVersionResolver)) {
+            return super.filterByCode(candidates);
         }
-        
-        return codeFiltered;
+        String targetVersion = Optional.ofNullable(((CodeVersionResolver) resolver).resolveVersion())
+            .orElse(DEFAULT_VERSION);
+
+        if (candidates instanceof IndexedExtList) {
+            String code = resolveCode();
+            if (code == null) {
+                return Collections.emptyList();
+            }
+            return ((IndexedExtList<T>) candidates).getByCodeAndVersion(code, targetVersion);
+        }
+
+        // 先按code过滤，再过滤版本号
+        return Collections.unmodifiableList(super.filterByCode(candidates).stream()
+            .filter(ability -> Objects.equals(targetVersion,
+                ability.getTags().getString(VERSION_TAG_KEY, DEFAULT_VERSION)))
+            .collect(Collectors.toList()));
+    }
+
+    /**
+     * 仅内置选择器启用路由键，子类需覆盖此方法才参与选择结果缓存
+     */
+    @Override
+    public String routingKey() {
+        return getClass() == CodeVersionSelector.class ? codeRoutingKey() : null;
+    }
+
+    /**
+     * 以 code#version 作为路由键
+     */
+    @Override
+    protected String codeRoutingKey() {
+        if (!(resolver instanceof CodeVersionResolver)) {
+            return super.codeRoutingKey();
+        }
+        String code = resolveCode();
+        if (code == null) {
+            return null;
+        }
+        String version = Optional.ofNullable(((CodeVersionResolver) resolver).resolveVersion())
+            .orElse(DEFAULT_VERSION);
+        return code + "#" + version;
     }
 
     @Override
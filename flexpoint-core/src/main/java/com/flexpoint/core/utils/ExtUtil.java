@@ -1,6 +1,7 @@
 package com.flexpoint.core.utils;
 
 import com.flexpoint.core.ext.ExtAbility;
+import com.flexpoint.core.ext.ExtTypeDescriptor;
 
 import java.util.Collections;
 import java.util.List;
@@ -18,31 +19,10 @@ public class ExtUtil {
 
     /**
      * 获取扩展点类型
-     * 查找实例实现的第一个ExtAbility接口
+     * 查找实例实现的第一个ExtAbility接口，结果按类缓存在 {@link ExtTypeDescriptor} 中
      */
-    @SuppressWarnings("unchecked")
     public static Class<? extends ExtAbility> getExtType(ExtAbility instance) {
-        Class<?> clazz = instance.getClass();
-
-        // 检查直接实现的接口
-        for (Class<?> iface : clazz.getInterfaces()) {
-            if (ExtAbility.class.isAssignableFrom(iface) && iface != ExtAbility.class) {
-                return (Class<? extends ExtAbility>) iface;
-            }
-        }
-
-        // 检查父类的接口
-        Class<?> superClass = clazz.getSuperclass();
-        while (superClass != null && superClass != Object.class) {
-            for (Class<?> iface : superClass.getInterfaces()) {
-                if (ExtAbility.class.isAssignableFrom(iface) && iface != ExtAbility.class) {
-                    return (Class<? extends ExtAbility>) iface;
-                }
-            }
-            superClass = superClass.getSuperclass();
-        }
-
-        return ExtAbility.class;
+        return ExtTypeDescriptor.of(instance).getExtType();
     }
 
     /**
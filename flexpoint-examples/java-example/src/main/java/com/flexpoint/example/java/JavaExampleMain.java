@@ -3,6 +3,11 @@ package com.flexpoint.example.java;
 import com.flexpoint.example.java.context.AppContext;
 import com.flexpoint.example.java.manager.FlexPointManager;
 import com.flexpoint.example.java.service.OrderService;
+import com.flexpoint.prometheus.PrometheusHttpServer;
+import com.flexpoint.prometheus.PrometheusTextFormatter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
 
 /**
  * Java原生环境下的Flex Point使用示例
@@ -10,10 +15,16 @@ import com.flexpoint.example.java.service.OrderService;
  * @author xiangganluo
  */
 public class JavaExampleMain {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
         System.out.println("=== Flex Point Java原生自动选择器示例 ===\n");
         FlexPointManager manager = FlexPointManager.getInstance();
         OrderService orderService = manager.getOrderService();
+
+        // 启动Prometheus指标服务，默认使用随机空闲端口，可通过 -Dflexpoint.prometheus.port 指定
+        PrometheusHttpServer metricsServer = new PrometheusHttpServer(manager.getMetricsHandler(),
+            Integer.getInteger("flexpoint.prometheus.port", 0));
+        metricsServer.start();
+
         // 商城订单处理
         AppContext.setAppCode("mall-app");
         String mallResult = orderService.processOrder("MALL001", "商城订单数据");
@@ -36,6 +47,13 @@ public class JavaExampleMain {
         System.out.println("未知业务类型结果: " + unknownResult);
         AppContext.clear();
 
+        // 输出与指标服务相同的内容
+        System.out.println("\n=== 扩展点指标 http://localhost:" + metricsServer.getPort() + PrometheusHttpServer.DEFAULT_PATH + " ===");
+        PrintWriter writer = new PrintWriter(System.out);
+        new PrometheusTextFormatter(manager.getMetricsHandler()).write(writer);
+        writer.flush();
+        metricsServer.stop();
+
         System.out.println("\n=== 示例运行完成 ===");
     }
 }
\ No newline at end of file
@@ -2,6 +2,11 @@ package com.flexpoint.example.java.manager;
 
 import com.flexpoint.core.FlexPoint;
 import com.flexpoint.core.FlexPointBuilder;
+import com.flexpoint.core.config.FlexPointConfig;
+import com.flexpoint.core.event.DefaultEventBus;
+import com.flexpoint.core.monitor.ExtMonitor;
+import com.flexpoint.core.monitor.MonitorFactory;
+import com.flexpoint.core.monitor.handler.MetricsHandler;
 import com.flexpoint.core.selector.resolves.CodeVersionSelector;
 import com.flexpoint.example.java.ability.impl.LogisticsOrderProcessAbility;
 import com.flexpoint.example.java.ability.impl.MallOrderProcessAbility;
@@ -9,6 +14,8 @@ import com.flexpoint.example.java.context.AppContext;
 import com.flexpoint.example.java.service.OrderService;
 import lombok.Getter;
 
+import java.util.Collections;
+
 /**
  * Java原生环境下的FlexPoint管理器
  * @author xiangganluo
@@ -18,10 +25,21 @@ public class FlexPointManager {
     private final FlexPoint flexPoint;
     @Getter
     private final OrderService orderService;
+    @Getter
+    private final MetricsHandler metricsHandler;
 
     private FlexPointManager() {
-        // 初始化FlexPoint
-        this.flexPoint = FlexPointBuilder.create().build();
+        FlexPointConfig config = FlexPointConfig.defaultConfig();
+
+        // 注册本地指标处理器，供Prometheus指标服务读取
+        this.metricsHandler = new MetricsHandler(config.getMonitor().getDimension());
+        ExtMonitor monitor = MonitorFactory.createMonitor(config.getMonitor(), Collections.singletonList(metricsHandler));
+
+        // 初始化FlexPoint，调用结果经事件总线上的监控事件订阅者写入监控器
+        this.flexPoint = FlexPointBuilder.create(config)
+                .withMonitor(monitor)
+                .withEventBus(new DefaultEventBus(config.getEvent()))
+                .build();
         
         // 注册选择器
         CodeVersionSelector.CodeVersionResolver resolver = new CodeVersionSelector.CodeVersionResolver() {
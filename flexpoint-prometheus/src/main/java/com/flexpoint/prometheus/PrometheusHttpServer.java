@@ -0,0 +1,113 @@
+package com.flexpoint.prometheus;
+
+import com.flexpoint.core.monitor.handler.MetricsProvider;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Prometheus指标HTTP服务
+ * 基于JDK内置的 {@link HttpServer}，无第三方依赖，适用于非Spring的Java应用；
+ * 响应以分块编码边渲染边发送，客户端支持时使用gzip压缩
+ *
+ * @author xiangganluo
+ */
+@Slf4j
+public class PrometheusHttpServer {
+
+    public static final String DEFAULT_PATH = "/metrics";
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final HttpServer server;
+
+    private final ExecutorService executor;
+
+    private final PrometheusTextFormatter formatter;
+
+    public PrometheusHttpServer(MetricsProvider metricsProvider, int port) throws IOException {
+        this(metricsProvider, new InetSocketAddress(port), DEFAULT_PATH);
+    }
+
+    /**
+     * @param metricsProvider 指标来源
+     * @param address 监听地址，端口为0时随机分配
+     * @param path 指标路径
+     */
+    public PrometheusHttpServer(MetricsProvider metricsProvider, InetSocketAddress address, String path) throws IOException {
+        this.formatter = new PrometheusTextFormatter(metricsProvider);
+        this.server = HttpServer.create(address, 0);
+        this.executor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "flexpoint-prometheus-http");
+            t.setDaemon(true);
+            return t;
+        });
+        this.server.setExecutor(executor);
+        this.server.createContext(path, this::handle);
+    }
+
+    /**
+     * 启动服务
+     */
+    public void start() {
+        server.start();
+        log.info("Prometheus指标服务已启动: port={}", getPort());
+    }
+
+    /**
+     * 停止服务
+     */
+    public void stop() {
+        server.stop(0);
+        executor.shutdown();
+        log.info("Prometheus指标服务已关闭");
+    }
+
+    /**
+     * 实际监听的端口
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String method = exchange.getRequestMethod();
+            if (!"GET".equals(method) && !"HEAD".equals(method)) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", PrometheusTextFormatter.CONTENT_TYPE);
+            if ("HEAD".equals(method)) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+            boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+            if (gzip) {
+                exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+            }
+            exchange.sendResponseHeaders(200, 0);
+            OutputStream body = gzip ? new GZIPOutputStream(exchange.getResponseBody(), WRITE_BUFFER_SIZE)
+                : exchange.getResponseBody();
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(body, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE)) {
+                formatter.write(writer);
+            }
+        } catch (IOException e) {
+            log.warn("输出Prometheus指标失败: {}", e.getMessage());
+        } finally {
+            exchange.close();
+        }
+    }
+}
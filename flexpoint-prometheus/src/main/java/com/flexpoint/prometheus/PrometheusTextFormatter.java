@@ -0,0 +1,308 @@
+package com.flexpoint.prometheus;
+
+import com.flexpoint.core.monitor.ExtMetrics;
+import com.flexpoint.core.monitor.handler.MetricsProvider;
+import com.flexpoint.core.monitor.metrics.HistogramSnapshot;
+import com.flexpoint.core.monitor.metrics.MetricsDimension;
+import com.flexpoint.core.monitor.metrics.MetricsWindow;
+import com.flexpoint.core.monitor.metrics.WindowSnapshot;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Prometheus文本格式渲染器
+ * 按指标族遍历 {@link MetricsProvider} 的实时视图，逐行直接写入输出流；滚动窗口快照按扩展点缓存一次，供两个窗口指标族共用；
+ * 延迟直方图按 2^n-1 微秒的边界输出累计桶，各扩展点的桶边界一致。
+ * 输出的指标族：
+ * <ul>
+ *     <li>flexpoint_invocations_total：调用次数，按result区分成功和失败</li>
+ *     <li>flexpoint_exceptions_total：异常次数</li>
+ *     <li>flexpoint_invocation_duration_seconds：调用耗时直方图</li>
+ *     <li>flexpoint_invocation_rate / flexpoint_invocation_error_ratio：滚动窗口内的每秒调用数和失败率</li>
+ *     <li>flexpoint_method_* / flexpoint_code_*：按方法名和业务标识的调用次数、异常次数和累计耗时，
+ *     超过维度上限的取值合并为一条带 overflow="true" 标签的样本</li>
+ * </ul>
+ *
+ * @author xiangganluo
+ */
+public class PrometheusTextFormatter {
+
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static final double MICROS_PER_SECOND = TimeUnit.SECONDS.toMicros(1);
+
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * le标签值缓存，下标n对应 2^n-1 微秒
+     */
+    private static final String[] LE_LABELS = new String[64];
+
+    static {
+        for (int n = 1; n < LE_LABELS.length; n++) {
+            LE_LABELS[n] = formatMicrosAsSeconds((1L << n) - 1);
+        }
+    }
+
+    private final MetricsProvider metricsProvider;
+
+    public PrometheusTextFormatter(MetricsProvider metricsProvider) {
+        this.metricsProvider = metricsProvider;
+    }
+
+    /**
+     * 渲染全部扩展点指标
+     *
+     * @param out 输出，调用方负责缓冲和关闭
+     */
+    public void write(Writer out) throws IOException {
+        Map<String, ExtMetrics> all = metricsProvider.getAllMetrics();
+        if (all == null || all.isEmpty()) {
+            return;
+        }
+        writeInvocations(out, all);
+        writeHistograms(out, all);
+        writeWindows(out, all);
+        for (MetricsDimension dimension : MetricsDimension.values()) {
+            writeDimension(out, all, dimension);
+        }
+    }
+
+    private void writeInvocations(Writer out, Map<String, ExtMetrics> all) throws IOException {
+        header(out, "flexpoint_invocations_total", "counter", "扩展点调用次数");
+        for (Map.Entry<String, ExtMetrics> entry : all.entrySet()) {
+            ExtMetrics metrics = entry.getValue();
+            sample(out, "flexpoint_invocations_total", entry.getKey(), "result", "success");
+            value(out, metrics.getSuccessInvocations());
+            sample(out, "flexpoint_invocations_total", entry.getKey(), "result", "failure");
+            value(out, metrics.getFailureInvocations());
+        }
+        header(out, "flexpoint_exceptions_total", "counter", "扩展点异常次数");
+        for (Map.Entry<String, ExtMetrics> entry : all.entrySet()) {
+            sample(out, "flexpoint_exceptions_total", entry.getKey(), null, null);
+            value(out, entry.getValue().getExceptionCount());
+        }
+    }
+
+    private void writeHistograms(Writer out, Map<String, ExtMetrics> all) throws IOException {
+        header(out, "flexpoint_invocation_duration_seconds", "histogram", "扩展点调用耗时");
+        for (Map.Entry<String, ExtMetrics> entry : all.entrySet()) {
+            HistogramSnapshot snapshot = entry.getValue().getLatencySnapshot();
+            if (snapshot == null) {
+                continue;
+            }
+            String extId = entry.getKey();
+            long cumulative = 0;
+            for (int i = 0; i < snapshot.getBucketCount(); i++) {
+                cumulative += snapshot.getBucketCountAt(i);
+                long upperBound = snapshot.getBucketUpperBound(i);
+                // 只在 2^n-1 边界输出，各扩展点桶边界一致
+                if (upperBound > 0 && (upperBound & (upperBound + 1)) == 0) {
+                    sample(out, "flexpoint_invocation_duration_seconds_bucket", extId, "le",
+                        LE_LABELS[64 - Long.numberOfLeadingZeros(upperBound)]);
+                    value(out, cumulative);
+                }
+            }
+            sample(out, "flexpoint_invocation_duration_seconds_bucket", extId, "le", "+Inf");
+            value(out, snapshot.getCount());
+            sample(out, "flexpoint_invocation_duration_seconds_sum", extId, null, null);
+            value(out, snapshot.getSum() / MICROS_PER_SECOND);
+            sample(out, "flexpoint_invocation_duration_seconds_count", extId, null, null);
+            value(out, snapshot.getCount());
+        }
+    }
+
+    /**
+     * 每个扩展点和窗口只取一次快照，两个指标族使用同一份数据，保证速率与失败率口径一致
+     */
+    private void writeWindows(Writer out, Map<String, ExtMetrics> all) throws IOException {
+        MetricsWindow[] windows = MetricsWindow.values();
+        String[] extIds = new String[all.size()];
+        WindowSnapshot[][] snapshots = new WindowSnapshot[all.size()][];
+        int count = 0;
+        for (Map.Entry<String, ExtMetrics> entry : all.entrySet()) {
+            if (count == extIds.length) {
+                // 实时视图在遍历期间新增扩展点时，忽略超出快照数组的部分
+                break;
+            }
+            WindowSnapshot[] row = new WindowSnapshot[windows.length];
+            for (int w = 0; w < windows.length; w++) {
+                row[w] = entry.getValue().getWindowSnapshot(windows[w]);
+                if (row[w] == null) {
+                    break;
+                }
+            }
+            extIds[count] = entry.getKey();
+            snapshots[count++] = row;
+        }
+        header(out, "flexpoint_invocation_rate", "gauge", "滚动窗口内的每秒调用数");
+        for (int i = 0; i < count; i++) {
+            for (int w = 0; w < windows.length && snapshots[i][w] != null; w++) {
+                sample(out, "flexpoint_invocation_rate", extIds[i], "window", windowLabel(windows[w]));
+                value(out, snapshots[i][w].getQPS());
+            }
+        }
+        header(out, "flexpoint_invocation_error_ratio", "gauge", "滚动窗口内的调用失败率");
+        for (int i = 0; i < count; i++) {
+            for (int w = 0; w < windows.length && snapshots[i][w] != null; w++) {
+                sample(out, "flexpoint_invocation_error_ratio", extIds[i], "window", windowLabel(windows[w]));
+                value(out, snapshots[i][w].getErrorRate());
+            }
+        }
+    }
+
+    private void writeDimension(Writer out, Map<String, ExtMetrics> all, MetricsDimension dimension) throws IOException {
+        String label = dimension.name().toLowerCase(Locale.ROOT);
+        String prefix = "flexpoint_" + label;
+        header(out, prefix + "_invocations_total", "counter", "按" + label + "维度的调用次数");
+        for (String extId : all.keySet()) {
+            for (Map.Entry<String, ExtMetrics> entry : metricsProvider.getDimensionMetrics(extId, dimension).entrySet()) {
+                writeDimensionInvocations(out, prefix, extId, label, entry.getKey(), false, entry.getValue());
+            }
+            ExtMetrics overflow = metricsProvider.getDimensionOverflow(extId, dimension);
+            if (overflow != null) {
+                writeDimensionInvocations(out, prefix, extId, label, MetricsDimension.OTHER, true, overflow);
+            }
+        }
+        header(out, prefix + "_exceptions_total", "counter", "按" + label + "维度的异常次数");
+        for (String extId : all.keySet()) {
+            for (Map.Entry<String, ExtMetrics> entry : metricsProvider.getDimensionMetrics(extId, dimension).entrySet()) {
+                dimensionSample(out, prefix + "_exceptions_total", extId, label, entry.getKey(), false, null);
+                value(out, entry.getValue().getExceptionCount());
+            }
+            ExtMetrics overflow = metricsProvider.getDimensionOverflow(extId, dimension);
+            if (overflow != null) {
+                dimensionSample(out, prefix + "_exceptions_total", extId, label, MetricsDimension.OTHER, true, null);
+                value(out, overflow.getExceptionCount());
+            }
+        }
+        header(out, prefix + "_duration_seconds_total", "counter", "按" + label + "维度的累计调用耗时");
+        for (String extId : all.keySet()) {
+            for (Map.Entry<String, ExtMetrics> entry : metricsProvider.getDimensionMetrics(extId, dimension).entrySet()) {
+                dimensionSample(out, prefix + "_duration_seconds_total", extId, label, entry.getKey(), false, null);
+                value(out, entry.getValue().getTotalDurationNanos() / NANOS_PER_SECOND);
+            }
+            ExtMetrics overflow = metricsProvider.getDimensionOverflow(extId, dimension);
+            if (overflow != null) {
+                dimensionSample(out, prefix + "_duration_seconds_total", extId, label, MetricsDimension.OTHER, true, null);
+                value(out, overflow.getTotalDurationNanos() / NANOS_PER_SECOND);
+            }
+        }
+    }
+
+    private static void writeDimensionInvocations(Writer out, String prefix, String extId, String label, String labelValue,
+                                                  boolean overflow, ExtMetrics metrics) throws IOException {
+        dimensionSample(out, prefix + "_invocations_total", extId, label, labelValue, overflow, "success");
+        value(out, metrics.getSuccessInvocations());
+        dimensionSample(out, prefix + "_invocations_total", extId, label, labelValue, overflow, "failure");
+        value(out, metrics.getFailureInvocations());
+    }
+
+    /**
+     * 输出维度样本的名称和标签，溢出样本额外带 overflow="true"，与同名的真实维度值区分
+     */
+    private static void dimensionSample(Writer out, String name, String extId, String label, String labelValue,
+                                        boolean overflow, String result) throws IOException {
+        out.write(name);
+        out.write("{ext=\"");
+        escape(out, extId);
+        out.write("\",");
+        out.write(label);
+        out.write("=\"");
+        escape(out, labelValue);
+        out.write('"');
+        if (overflow) {
+            out.write(",overflow=\"true\"");
+        }
+        if (result != null) {
+            out.write(",result=\"");
+            out.write(result);
+            out.write('"');
+        }
+        out.write("} ");
+    }
+
+    private static void header(Writer out, String name, String type, String help) throws IOException {
+        out.write("# HELP ");
+        out.write(name);
+        out.write(' ');
+        out.write(help);
+        out.write("\n# TYPE ");
+        out.write(name);
+        out.write(' ');
+        out.write(type);
+        out.write('\n');
+    }
+
+    private static void sample(Writer out, String name, String extId, String label, String labelValue) throws IOException {
+        out.write(name);
+        out.write("{ext=\"");
+        escape(out, extId);
+        out.write('"');
+        if (label != null) {
+            out.write(',');
+            out.write(label);
+            out.write("=\"");
+            escape(out, labelValue);
+            out.write('"');
+        }
+        out.write("} ");
+    }
+
+    private static void value(Writer out, long value) throws IOException {
+        out.write(Long.toString(value));
+        out.write('\n');
+    }
+
+    private static void value(Writer out, double value) throws IOException {
+        out.write(Double.toString(value));
+        out.write('\n');
+    }
+
+    /**
+     * 转义标签值中的反斜杠、双引号和换行
+     */
+    private static void escape(Writer out, String value) throws IOException {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\':
+                    out.write("\\\\");
+                    break;
+                case '"':
+                    out.write("\\\"");
+                    break;
+                case '\n':
+                    out.write("\\n");
+                    break;
+                default:
+                    out.write(c);
+            }
+        }
+    }
+
+    private static String windowLabel(MetricsWindow window) {
+        int seconds = window.getSeconds();
+        return seconds < 60 ? seconds + "s" : seconds / 60 + "m";
+    }
+
+    /**
+     * 将微秒格式化为秒的十进制表示，避免浮点误差
+     */
+    static String formatMicrosAsSeconds(long micros) {
+        long whole = micros / 1_000_000L;
+        long fraction = micros % 1_000_000L;
+        if (fraction == 0) {
+            return whole + ".0";
+        }
+        StringBuilder digits = new StringBuilder(Long.toString(fraction + 1_000_000L).substring(1));
+        while (digits.charAt(digits.length() - 1) == '0') {
+            digits.setLength(digits.length() - 1);
+        }
+        return whole + "." + digits;
+    }
+}
@@ -3,33 +3,50 @@ package com.flexpoint.spring.proxy;
 import com.flexpoint.common.exception.ExtNotFoundException;
 import com.flexpoint.core.FlexPoint;
 import com.flexpoint.core.ext.ExtAbility;
-import lombok.RequiredArgsConstructor;
+import com.flexpoint.core.ext.proxy.ExtInvocationDispatcher;
+import com.flexpoint.core.ext.proxy.ExtInvokerTable;
 import org.springframework.cglib.proxy.InvocationHandler;
 
 import java.lang.reflect.Method;
 
 /**
  * 扩展点代理调用处理器
- * 基于@FpSelector注解查找并调用扩展点
+ * 基于@FpSelector注解选择扩展点，并在同一次分派中完成事件埋点和目标方法调用
  *
  * @author xiangganluo
  * @version 1.0.0
  */
-@RequiredArgsConstructor
 public class ExtAbilityInvocationHandler implements InvocationHandler {
 
     private final FlexPoint flexPoint;
 
     private final Class<ExtAbility> targetClass;
 
+    /**
+     * 扩展点方法调用表
+     */
+    private final ExtInvokerTable invokerTable;
+
+    /**
+     * 调用分派器
+     */
+    private final ExtInvocationDispatcher dispatcher;
+
+    public ExtAbilityInvocationHandler(FlexPoint flexPoint, Class<ExtAbility> targetClass) {
+        this.flexPoint = flexPoint;
+        this.targetClass = targetClass;
+        this.invokerTable = flexPoint.getInvokerTable(targetClass);
+        this.dispatcher = flexPoint.getInvocationDispatcher();
+    }
+
     @Override
     public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-        // 根据扩展点类型和@FpSelector注解查找实例
-        ExtAbility ability = flexPoint.findAbility(targetClass);
+        // 根据扩展点类型和@FpSelector注解选择原始实例，不再经过第二层代理
+        ExtAbility ability = flexPoint.selectAbility(targetClass);
         if (ability == null) {
             throw ExtNotFoundException.forType(targetClass.getSimpleName());
         }
-        return method.invoke(ability, args);
+        return dispatcher.invoke(ability, invokerTable.get(method), method.getName(), args);
     }
 
-}
\ No newline at end of file
+}
@@ -32,15 +32,15 @@ public class FlexPointSpringExtAbilityRegister implements InitializingBean, Appl
         if (extAbilityBeans.isEmpty()) {
             return;
         }
-        // 注册所有扩展点Bean
-        for (Map.Entry<String, ExtAbility> entry : extAbilityBeans.entrySet()) {
-            String beanName = entry.getKey();
-            ExtAbility extAbility = entry.getValue();
-
-            flexPoint.register(extAbility);
-            log.info("注册扩展点: code={}, tags={}, class={}", extAbility.getCode(), extAbility.getTags(), extAbility.getClass().getName());
+        // 批量注册所有扩展点Bean，只重建一次索引，注册汇总日志由注册中心输出
+        flexPoint.registerAll(extAbilityBeans.values());
+        if (log.isDebugEnabled()) {
+            for (Map.Entry<String, ExtAbility> entry : extAbilityBeans.entrySet()) {
+                ExtAbility extAbility = entry.getValue();
+                log.debug("注册扩展点: bean={}, code={}, tags={}, class={}", entry.getKey(),
+                        extAbility.getCode(), extAbility.getTags().getAll(), extAbility.getClass().getName());
+            }
         }
-        log.info("完成选择器自动注册，共注册{}个选择器", extAbilityBeans.size());
     }
 
     @Override
@@ -2,8 +2,10 @@ package com.flexpoint.springboot.config;
 
 import com.flexpoint.core.FlexPoint;
 import com.flexpoint.core.FlexPointBuilder;
+import com.flexpoint.core.ext.proxy.InvokerFactory;
 import com.flexpoint.springboot.properties.FlexPointProperties;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -26,11 +28,14 @@ public class FlexPointCoreAutoConfiguration {
     /**
      * 创建FlexPoint实例
      * 使用core模块的FlexPointBuilder，通过配置进行构建
+     * 容器中存在InvokerFactory Bean时优先使用，否则按配置的调用器类型创建
      */
     @Bean
     @ConditionalOnMissingBean
-    public FlexPoint flexPoint(FlexPointProperties properties) {
+    public FlexPoint flexPoint(FlexPointProperties properties, ObjectProvider<InvokerFactory> invokerFactory) {
         log.info("创建FlexPoint核心实例，使用配置: enabled={}", properties.isEnabled());
-        return FlexPointBuilder.create(properties).build();
+        return FlexPointBuilder.create(properties)
+                .withInvokerFactory(invokerFactory.getIfAvailable())
+                .build();
     }
 } 
\ No newline at end of file
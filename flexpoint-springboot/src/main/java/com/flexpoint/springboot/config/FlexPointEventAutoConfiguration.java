@@ -1,9 +1,13 @@
 package com.flexpoint.springboot.config;
 
 import com.flexpoint.core.FlexPoint;
+import com.flexpoint.core.config.FlexPointConfig;
+import com.flexpoint.core.event.AbstractEventBus;
 import com.flexpoint.core.event.DefaultEventBus;
 import com.flexpoint.core.event.EventBus;
+import com.flexpoint.core.event.EventBusType;
 import com.flexpoint.core.event.EventPublisher;
+import com.flexpoint.core.event.RingBufferEventBus;
 import com.flexpoint.core.monitor.subscribers.MonitorEventSubscriber;
 import com.flexpoint.springboot.properties.FlexPointProperties;
 import lombok.extern.slf4j.Slf4j;
@@ -27,18 +31,25 @@ public class FlexPointEventAutoConfiguration {
 
     /**
      * 创建事件总线
-     * 负责事件的发布和订阅管理
+     * 负责事件的发布和订阅管理，按 flexpoint.event 配置选择总线类型、队列容量和溢出策略
      */
     @Bean
     @ConditionalOnMissingBean
-    public EventBus eventBus(FlexPoint flexPoint) {
-        log.info("创建事件总线");
-        DefaultEventBus defaultEventBus = new DefaultEventBus();
-        EventPublisher.setEventBus(defaultEventBus);
+    public EventBus eventBus(FlexPoint flexPoint, FlexPointProperties properties) {
+        FlexPointConfig.EventConfig eventConfig = properties.getEvent() != null
+            ? properties.getEvent() : new FlexPointConfig.EventConfig();
+        log.info("创建事件总线: busType={}, asyncQueueCapacity={}, overflowPolicy={}",
+            eventConfig.getBusType(), eventConfig.getAsyncQueueCapacity(), eventConfig.getOverflowPolicy());
+        AbstractEventBus eventBus = eventConfig.getBusType() == EventBusType.RING_BUFFER
+            ? new RingBufferEventBus(eventConfig)
+            : new DefaultEventBus(eventConfig);
+        EventPublisher.setEventBus(eventBus);
         
-        // 注册监控事件订阅者
-        defaultEventBus.subscribe(new MonitorEventSubscriber(flexPoint.getExtMonitor()));
+        // 注册监控事件订阅者，启用调用采样时调用结果已由分派器直接记录
+        if (!flexPoint.getInvocationDispatcher().isRecordingMetrics()) {
+            eventBus.subscribe(new MonitorEventSubscriber(flexPoint.getExtMonitor()));
+        }
         
-        return defaultEventBus;
+        return eventBus;
     }
 } 
\ No newline at end of file
@@ -9,6 +9,7 @@ import com.flexpoint.core.monitor.handler.CollectorHandler;
 import com.flexpoint.core.monitor.handler.MetricsHandler;
 import com.flexpoint.core.monitor.handler.MonitorHandler;
 import com.flexpoint.core.monitor.metrics.MetricsCollector;
+import com.flexpoint.core.monitor.metrics.MetricsExporter;
 import com.flexpoint.springboot.properties.FlexPointProperties;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
@@ -38,9 +39,9 @@ public class FlexPointMonitorAutoConfiguration {
     @Bean
     @ConditionalOnMissingBean
     @ConditionalOnProperty(prefix = FlexPointProperties.PREFIX + ".monitor", name = "enabled", havingValue = "true", matchIfMissing = true)
-    public MetricsHandler metricsHandler() {
+    public MetricsHandler metricsHandler(FlexPointProperties properties) {
         log.info("创建本地指标处理器");
-        return new MetricsHandler();
+        return new MetricsHandler(properties.getMonitor().getDimension());
     }
 
     /**
@@ -53,6 +54,20 @@ public class FlexPointMonitorAutoConfiguration {
         return new CollectorHandler(collectors);
     }
 
+    /**
+     * 创建定时指标导出器
+     * 启用时采集器按批次定时调用，收集器处理器不再加入处理器链
+     */
+    @Bean(initMethod = "start", destroyMethod = "shutdown")
+    @ConditionalOnMissingBean
+    @ConditionalOnBean(MetricsHandler.class)
+    @ConditionalOnProperty(prefix = FlexPointProperties.PREFIX + ".monitor.export", name = "enabled", havingValue = "true")
+    public MetricsExporter metricsExporter(MetricsHandler metricsHandler, List<MetricsCollector> collectors,
+                                           FlexPointProperties properties) {
+        log.info("创建定时指标导出器，收集器数量: {}", collectors.size());
+        return new MetricsExporter(metricsHandler, collectors, properties.getMonitor().getExport().getIntervalMillis());
+    }
+
     /**
      * 创建告警处理器
      */
@@ -72,7 +87,8 @@ public class FlexPointMonitorAutoConfiguration {
     public List<MonitorHandler> monitorHandlerChain(
             MetricsHandler metricsHandler,
             CollectorHandler collectorHandler,
-            AlertHandler alertHandler) {
+            AlertHandler alertHandler,
+            FlexPointProperties properties) {
         
         log.info("创建监控处理器链");
         List<MonitorHandler> handlerChain = new ArrayList<>();
@@ -80,8 +96,8 @@ public class FlexPointMonitorAutoConfiguration {
         // 添加本地指标处理器
         handlerChain.add(metricsHandler);
         
-        // 添加收集器处理器（如果启用）
-        if (collectorHandler != null) {
+        // 添加收集器处理器（如果启用），启用定时导出时由导出器批量采集
+        if (collectorHandler != null && !properties.getMonitor().getExport().isEnabled()) {
             handlerChain.add(collectorHandler);
         }
         
@@ -0,0 +1,67 @@
+package com.flexpoint.test.benchmark;
+
+import com.flexpoint.core.event.EventContext;
+import com.flexpoint.core.event.EventType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 事件上下文创建开销基准
+ * legacy 使用精简前基于Builder的事件上下文副本 {@link LegacyEventContext}，用于与当前实现对比；
+ * 不作为单元测试执行，通过 main 方法运行
+ *
+ * @author xiangganluo
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class EventContextBenchmark {
+
+    private final Object[] args = new Object[]{"order-1"};
+
+    private final Object result = "ok";
+
+    @Benchmark
+    public Object legacy() {
+        return LegacyEventContext.createInvokeEvent(EventType.INVOKE_SUCCESS, null, "invoke", args, result, null, 1L);
+    }
+
+    @Benchmark
+    public EventContext create() {
+        return EventContext.createInvokeEvent(EventType.INVOKE_SUCCESS, null, "invoke", args, result, null, 1L);
+    }
+
+    @Benchmark
+    public long pooled() {
+        EventContext eventContext = EventContext.acquire(EventType.INVOKE_SUCCESS)
+            .invoke("invoke", args, result, null, 1L);
+        long eventId = eventContext.getEventId();
+        eventContext.release();
+        return eventId;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(EventContextBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,118 @@
+package com.flexpoint.test.event;
+
+import com.flexpoint.core.config.FlexPointConfig;
+import com.flexpoint.core.event.BatchEventSubscriber;
+import com.flexpoint.core.event.DefaultEventBus;
+import com.flexpoint.core.event.EventContext;
+import com.flexpoint.core.event.EventType;
+import com.flexpoint.core.event.OverflowPolicy;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 批量事件订阅者测试类
+ * @author xiangganluo
+ */
+public class BatchEventSubscriberTest {
+
+    @Test
+    public void testFlushBySizeAndInterval() throws InterruptedException {
+        DefaultEventBus eventBus = new DefaultEventBus();
+        CountDownLatch latch = new CountDownLatch(25);
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        List<String> threads = new CopyOnWriteArrayList<>();
+        eventBus.subscribe(new BatchEventSubscriber() {
+            @Override
+            public void onEvents(List<EventContext> eventContexts) {
+                batchSizes.add(eventContexts.size());
+                threads.add(Thread.currentThread().getName());
+                eventContexts.forEach(e -> latch.countDown());
+            }
+            @Override public int getBatchSize() { return 10; }
+            @Override public long getFlushIntervalMillis() { return 50L; }
+        });
+
+        for (int i = 0; i < 25; i++) {
+            eventBus.publish(EventContext.create(EventType.INVOKE_SUCCESS));
+        }
+
+        Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(batchSizes.stream().allMatch(size -> size <= 10));
+        Assertions.assertFalse(threads.contains(Thread.currentThread().getName()));
+        Assertions.assertFalse(eventBus.isSynchronous(EventType.INVOKE_SUCCESS));
+        eventBus.shutdown();
+    }
+
+    @Test
+    public void testShutdownFlushesPending() {
+        DefaultEventBus eventBus = new DefaultEventBus();
+        List<EventContext> received = new CopyOnWriteArrayList<>();
+        eventBus.subscribe(new BatchEventSubscriber() {
+            @Override public void onEvents(List<EventContext> eventContexts) { received.addAll(eventContexts); }
+            @Override public long getFlushIntervalMillis() { return TimeUnit.HOURS.toMillis(1); }
+        });
+
+        for (int i = 0; i < 5; i++) {
+            eventBus.publish(EventContext.create(EventType.INVOKE_SUCCESS));
+        }
+        eventBus.shutdown();
+        Assertions.assertEquals(5, received.size());
+    }
+
+    @Test
+    public void testPendingBoundedByCapacity() throws InterruptedException {
+        FlexPointConfig.EventConfig config = new FlexPointConfig.EventConfig();
+        config.setAsyncQueueCapacity(8);
+        config.setOverflowPolicy(OverflowPolicy.DROP_NEWEST);
+        DefaultEventBus eventBus = new DefaultEventBus(config);
+        CountDownLatch flushing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<EventContext> received = new CopyOnWriteArrayList<>();
+        BatchEventSubscriber subscriber = new BatchEventSubscriber() {
+            @Override
+            public void onEvents(List<EventContext> eventContexts) {
+                received.addAll(eventContexts);
+                flushing.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            @Override public int getBatchSize() { return 1000; }
+            @Override public long getFlushIntervalMillis() { return TimeUnit.HOURS.toMillis(1); }
+        };
+        eventBus.subscribe(subscriber);
+
+        // 积压达到容量时按容量触发刷新，刷新阻塞期间积压不超过容量
+        for (int i = 0; i < 8; i++) {
+            eventBus.publish(EventContext.create(EventType.INVOKE_SUCCESS));
+        }
+        Assertions.assertTrue(flushing.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 20; i++) {
+            eventBus.publish(EventContext.create(EventType.INVOKE_SUCCESS));
+        }
+        Assertions.assertEquals(8, eventBus.getPendingBatchCount(subscriber));
+        Assertions.assertEquals(12, eventBus.getSubscriberStats(subscriber).getDroppedCount());
+
+        release.countDown();
+        eventBus.shutdown();
+        Assertions.assertEquals(16, received.size());
+    }
+
+    @Test
+    public void testBatchSubscriberIsNeverSynchronous() {
+        DefaultEventBus eventBus = new DefaultEventBus();
+        eventBus.subscribe(new BatchEventSubscriber() {
+            @Override public void onEvents(List<EventContext> eventContexts) { }
+            @Override public boolean isAsync() { return false; }
+        });
+        Assertions.assertFalse(eventBus.isSynchronous(EventType.INVOKE_SUCCESS));
+        eventBus.shutdown();
+    }
+}
@@ -0,0 +1,89 @@
+package com.flexpoint.test.event;
+
+import com.flexpoint.core.config.FlexPointConfig;
+import com.flexpoint.core.event.DefaultEventBus;
+import com.flexpoint.core.event.EventContext;
+import com.flexpoint.core.event.EventSubscriber;
+import com.flexpoint.core.event.EventType;
+import com.flexpoint.core.event.OverflowPolicy;
+import com.flexpoint.core.event.SubscriberStats;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 事件总线溢出策略测试类
+ * @author xiangganluo
+ */
+public class EventBackpressureTest {
+
+    @Test
+    public void testDropNewestCountsDroppedEvents() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger handled = new AtomicInteger();
+        DefaultEventBus eventBus = new DefaultEventBus(config(OverflowPolicy.DROP_NEWEST));
+        EventSubscriber slow = slowSubscriber(release, handled);
+        eventBus.subscribe(slow);
+
+        for (int i = 0; i < 10; i++) {
+            eventBus.publish(EventContext.create(EventType.INVOKE_SUCCESS));
+        }
+        SubscriberStats stats = eventBus.getSubscriberStats(slow);
+        // 1个在工作线程处理中，1个在队列中，其余丢弃
+        Assertions.assertTrue(stats.getDroppedCount() >= 8);
+        Assertions.assertEquals(0, stats.getCallerRunsCount());
+
+        release.countDown();
+        eventBus.shutdown();
+    }
+
+    @Test
+    public void testCallerRunsHandlesOverflowOnCallerThread() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger handled = new AtomicInteger();
+        DefaultEventBus eventBus = new DefaultEventBus(config(OverflowPolicy.CALLER_RUNS));
+        EventSubscriber slow = slowSubscriber(release, handled);
+        eventBus.subscribe(slow);
+
+        for (int i = 0; i < 10; i++) {
+            eventBus.publish(EventContext.create(EventType.INVOKE_SUCCESS));
+        }
+        SubscriberStats stats = eventBus.getSubscriberStats(slow);
+        Assertions.assertEquals(0, stats.getDroppedCount());
+        Assertions.assertTrue(stats.getCallerRunsCount() >= 8);
+        Assertions.assertEquals(stats.getCallerRunsCount(), handled.get());
+
+        release.countDown();
+        eventBus.shutdown();
+    }
+
+    private static FlexPointConfig.EventConfig config(OverflowPolicy policy) {
+        FlexPointConfig.EventConfig config = new FlexPointConfig.EventConfig();
+        config.setAsyncWorkers(1);
+        config.setAsyncQueueCapacity(1);
+        config.setOverflowPolicy(policy);
+        return config;
+    }
+
+    private static EventSubscriber slowSubscriber(CountDownLatch release, AtomicInteger handled) {
+        return new EventSubscriber() {
+            @Override
+            public void onEvent(EventContext eventContext) {
+                // 只阻塞工作线程，调用线程执行时直接计数
+                if (!Thread.currentThread().getName().startsWith("flexpoint-async-event")) {
+                    handled.incrementAndGet();
+                    return;
+                }
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            @Override public boolean isAsync() { return true; }
+        };
+    }
+}
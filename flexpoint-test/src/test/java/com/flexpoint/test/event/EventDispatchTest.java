@@ -0,0 +1,121 @@
+package com.flexpoint.test.event;
+
+import com.flexpoint.core.event.DefaultEventBus;
+import com.flexpoint.core.event.EventContext;
+import com.flexpoint.core.event.EventPublisher;
+import com.flexpoint.core.event.EventSubscriber;
+import com.flexpoint.core.event.EventType;
+import com.flexpoint.core.event.filter.CompositeEventFilter;
+import com.flexpoint.core.event.filter.EventFilter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 事件分派表测试类
+ * @author xiangganluo
+ */
+public class EventDispatchTest {
+
+    @Test
+    public void testDispatchByTypeAndPriority() {
+        DefaultEventBus eventBus = new DefaultEventBus();
+        List<String> received = new ArrayList<>();
+        eventBus.subscribe(subscriber("low", 10, EventFilter.always(), received));
+        eventBus.subscribe(subscriber("high", -1, EventFilter.byEventType(EventType.INVOKE_SUCCESS), received));
+        eventBus.subscribe(subscriber("never", 0, EventFilter.never(), received));
+        eventBus.subscribe(subscriber("codeOnly", 5, CompositeEventFilter.and(
+                EventFilter.byEventTypes(EventType.INVOKE_SUCCESS, EventType.INVOKE_EXCEPTION),
+                EventFilter.byExtCode("mall")), received));
+
+        EventContext success = EventContext.create(EventType.INVOKE_SUCCESS);
+        success.setExtCode("mall");
+        eventBus.publish(success);
+        Assertions.assertEquals(Arrays.asList("high", "codeOnly", "low"), received);
+
+        received.clear();
+        eventBus.publish(EventContext.create(EventType.EXT_REGISTERED));
+        Assertions.assertEquals(Arrays.asList("low"), received);
+        eventBus.shutdown();
+    }
+
+    @Test
+    public void testHasSubscribersByType() {
+        DefaultEventBus eventBus = new DefaultEventBus();
+        Assertions.assertFalse(eventBus.hasSubscribers(EventType.INVOKE_BEFORE));
+        EventSubscriber monitor = subscriber("monitor", 0,
+                EventFilter.byEventTypes(EventType.INVOKE_SUCCESS, EventType.INVOKE_EXCEPTION), new ArrayList<>());
+        eventBus.subscribe(monitor);
+        Assertions.assertTrue(eventBus.hasSubscribers(EventType.INVOKE_SUCCESS));
+        Assertions.assertFalse(eventBus.hasSubscribers(EventType.INVOKE_BEFORE));
+        eventBus.unsubscribe(monitor);
+        Assertions.assertFalse(eventBus.hasSubscribers(EventType.INVOKE_SUCCESS));
+        eventBus.shutdown();
+    }
+
+    @Test
+    public void testPooledContextOnlyForSynchronousDispatch() {
+        DefaultEventBus eventBus = new DefaultEventBus();
+        eventBus.subscribe(subscriber("sync", 0, EventFilter.byEventType(EventType.INVOKE_SUCCESS), new ArrayList<>()));
+        Assertions.assertTrue(eventBus.isSynchronous(EventType.INVOKE_SUCCESS));
+
+        EventContext first = EventContext.acquire(EventType.INVOKE_SUCCESS);
+        EventContext nested = EventContext.acquire(EventType.INVOKE_SUCCESS);
+        Assertions.assertNotSame(first, nested);
+        Assertions.assertNotEquals(first.getEventId(), nested.getEventId());
+        first.release();
+        Assertions.assertSame(first, EventContext.acquire(EventType.INVOKE_SUCCESS));
+        first.release();
+        eventBus.shutdown();
+    }
+
+    @Test
+    public void testAsyncSubscriberAddedDuringPooledPublishGetsOwnContext() throws InterruptedException {
+        CountDownLatch delivered = new CountDownLatch(1);
+        AtomicReference<EventContext> received = new AtomicReference<>();
+        EventSubscriber async = new EventSubscriber() {
+            @Override public void onEvent(EventContext eventContext) {
+                received.set(eventContext);
+                delivered.countDown();
+            }
+            @Override public boolean isAsync() { return true; }
+            @Override public EventFilter getEventFilter() { return EventFilter.byEventType(EventType.INVOKE_SUCCESS); }
+        };
+        // 在发布方完成同步判断之后、分派之前新增异步订阅者
+        DefaultEventBus eventBus = new DefaultEventBus() {
+            @Override
+            public boolean isSynchronous(EventType eventType) {
+                boolean synchronous = super.isSynchronous(eventType);
+                subscribe(async);
+                return synchronous;
+            }
+        };
+        eventBus.subscribe(subscriber("sync", 0, EventFilter.byEventType(EventType.INVOKE_SUCCESS), new ArrayList<>()));
+        EventPublisher.setEventBus(eventBus);
+        EventPublisher.setContextPooling(true);
+        try {
+            EventPublisher.publishInvokeSuccess(null, "pay", null, null, 1L, TimeUnit.MILLISECONDS);
+            Assertions.assertTrue(delivered.await(5, TimeUnit.SECONDS));
+            // 线程本地实例在发布返回后已被清空，异步订阅者必须拿到独立的实例
+            Assertions.assertEquals("pay", received.get().getMethodName());
+        } finally {
+            EventPublisher.setContextPooling(false);
+            EventPublisher.setEventBus(null);
+            eventBus.shutdown();
+        }
+    }
+
+    private static EventSubscriber subscriber(String name, int priority, EventFilter filter, List<String> received) {
+        return new EventSubscriber() {
+            @Override public void onEvent(EventContext eventContext) { received.add(name); }
+            @Override public int getPriority() { return priority; }
+            @Override public EventFilter getEventFilter() { return filter; }
+        };
+    }
+}
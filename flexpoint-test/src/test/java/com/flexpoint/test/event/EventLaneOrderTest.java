@@ -0,0 +1,90 @@
+package com.flexpoint.test.event;
+
+import com.flexpoint.core.config.FlexPointConfig;
+import com.flexpoint.core.event.DefaultEventBus;
+import com.flexpoint.core.event.EventContext;
+import com.flexpoint.core.event.EventSubscriber;
+import com.flexpoint.core.event.EventType;
+import com.flexpoint.core.event.OverflowPolicy;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 异步事件分区通道测试类
+ * @author xiangganluo
+ */
+public class EventLaneOrderTest {
+
+    @Test
+    public void testSameKeyKeepsPublishOrder() throws InterruptedException {
+        FlexPointConfig.EventConfig config = new FlexPointConfig.EventConfig();
+        config.setAsyncWorkers(4);
+        config.setOverflowPolicy(OverflowPolicy.BLOCK);
+        config.setBlockTimeoutMillis(5000L);
+        DefaultEventBus eventBus = new DefaultEventBus(config);
+
+        int codes = 8;
+        int perCode = 1000;
+        CountDownLatch done = new CountDownLatch(codes * perCode);
+        Map<String, List<Integer>> received = new ConcurrentHashMap<>();
+        eventBus.subscribe(new EventSubscriber() {
+            @Override
+            public void onEvent(EventContext eventContext) {
+                received.computeIfAbsent(eventContext.getExtCode(), k -> new ArrayList<>())
+                    .add((Integer) eventContext.getAttribute("seq"));
+                done.countDown();
+            }
+            @Override public boolean isAsync() { return true; }
+        });
+
+        for (int i = 0; i < perCode; i++) {
+            for (int c = 0; c < codes; c++) {
+                EventContext eventContext = EventContext.create(EventType.INVOKE_SUCCESS).withAttribute("seq", i);
+                eventContext.setExtCode("code-" + c);
+                eventBus.publish(eventContext);
+            }
+        }
+
+        Assertions.assertTrue(done.await(10, TimeUnit.SECONDS));
+        Assertions.assertEquals(4, eventBus.getLaneCount());
+        for (List<Integer> sequence : received.values()) {
+            for (int i = 0; i < perCode; i++) {
+                Assertions.assertEquals(i, sequence.get(i).intValue());
+            }
+        }
+        eventBus.shutdown();
+    }
+
+    @Test
+    public void testPublishAsyncDeliversInlineOnLane() throws Exception {
+        FlexPointConfig.EventConfig config = new FlexPointConfig.EventConfig();
+        config.setAsyncWorkers(2);
+        DefaultEventBus eventBus = new DefaultEventBus(config);
+        List<String> threads = new ArrayList<>();
+        EventSubscriber subscriber = new EventSubscriber() {
+            @Override
+            public void onEvent(EventContext eventContext) {
+                threads.add(Thread.currentThread().getName());
+            }
+            @Override public boolean isAsync() { return true; }
+        };
+        eventBus.subscribe(subscriber);
+
+        EventContext eventContext = EventContext.create(EventType.INVOKE_SUCCESS);
+        eventContext.setExtCode("code-1");
+        eventBus.publishAsync(eventContext).get(5, TimeUnit.SECONDS);
+
+        // 异步订阅者在执行发布的通道线程上直接处理，没有再次排队
+        Assertions.assertEquals(1, threads.size());
+        Assertions.assertTrue(threads.get(0).startsWith("flexpoint-async-event-"));
+        Assertions.assertEquals(0, eventBus.getSubscriberStats(subscriber).getEnqueuedCount());
+        eventBus.shutdown();
+    }
+}
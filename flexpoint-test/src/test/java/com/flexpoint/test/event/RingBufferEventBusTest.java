@@ -0,0 +1,57 @@
+package com.flexpoint.test.event;
+
+import com.flexpoint.core.event.EventContext;
+import com.flexpoint.core.event.EventSubscriber;
+import com.flexpoint.core.event.EventType;
+import com.flexpoint.core.event.RingBufferEventBus;
+import com.flexpoint.core.event.ring.WaitStrategy;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 环形缓冲区事件总线测试类
+ * @author xiangganluo
+ */
+public class RingBufferEventBusTest {
+
+    @Test
+    public void testAsyncDeliveryFromManyProducers() throws Exception {
+        for (WaitStrategy waitStrategy : new WaitStrategy[]{WaitStrategy.blocking(), WaitStrategy.sleeping()}) {
+            // 缓冲区远小于事件总数，覆盖缓冲区满时的等待路径
+            RingBufferEventBus eventBus = new RingBufferEventBus(64, waitStrategy);
+            int producers = 4;
+            int perProducer = 5000;
+            CountDownLatch done = new CountDownLatch(producers * perProducer * 2);
+            AtomicInteger asyncCount = new AtomicInteger();
+            eventBus.subscribe(new EventSubscriber() {
+                @Override public void onEvent(EventContext eventContext) { asyncCount.incrementAndGet(); done.countDown(); }
+                @Override public boolean isAsync() { return true; }
+            });
+            eventBus.subscribe(eventContext -> done.countDown());
+
+            List<Thread> threads = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                Thread thread = new Thread(() -> {
+                    for (int i = 0; i < perProducer; i++) {
+                        eventBus.publishAsync(EventContext.create(EventType.INVOKE_SUCCESS));
+                    }
+                });
+                threads.add(thread);
+                thread.start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            Assertions.assertTrue(done.await(10, TimeUnit.SECONDS));
+            Assertions.assertEquals(producers * perProducer, asyncCount.get());
+            eventBus.shutdown();
+        }
+    }
+}
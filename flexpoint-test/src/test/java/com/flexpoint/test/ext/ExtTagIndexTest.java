@@ -0,0 +1,82 @@
+package com.flexpoint.test.ext;
+
+import com.flexpoint.core.FlexPoint;
+import com.flexpoint.core.FlexPointBuilder;
+import com.flexpoint.core.config.FlexPointConfig;
+import com.flexpoint.core.ext.ExtAbility;
+import com.flexpoint.core.ext.ExtTags;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 标签倒排索引测试类
+ * @author xiangganluo
+ */
+public class ExtTagIndexTest {
+    private FlexPoint flexPoint;
+
+    public interface RouteAbility extends ExtAbility {
+        String name();
+    }
+    static class Route implements RouteAbility {
+        private final String code;
+        private final String name;
+        private final ExtTags tags;
+        Route(String code, String name, Object... tagsKeyValue) {
+            this.code = code;
+            this.name = name;
+            ExtTags.Builder builder = ExtTags.builder();
+            for (int i = 0; i + 1 < tagsKeyValue.length; i += 2) {
+                builder.set((String) tagsKeyValue[i], tagsKeyValue[i + 1]);
+            }
+            this.tags = builder.build();
+        }
+        @Override public String getCode() { return code; }
+        @Override public ExtTags getTags() { return tags; }
+        @Override public String name() { return name; }
+    }
+
+    @BeforeEach
+    public void setup() {
+        flexPoint = FlexPointBuilder.create(new FlexPointConfig()).build();
+        flexPoint.register(new Route("mall", "app-cn", "channel", "app", "region", "cn"));
+        flexPoint.register(new Route("mall", "web-cn", "channel", "web", "region", "cn"));
+        flexPoint.register(new Route("mall", "app-us", "channel", "app", "region", "us", "gray", true));
+        flexPoint.register(new Route("logistics", "app-cn", "channel", "app", "region", "cn"));
+    }
+
+    @Test
+    public void testIntersectTags() {
+        Assertions.assertEquals(names("app-cn", "app-us"),
+                names(flexPoint.findAbilitysByCodeAndTags(RouteAbility.class, "mall", "channel", "app")));
+        Assertions.assertEquals(names("app-cn", "web-cn"),
+                names(flexPoint.findAbilitysByCodeAndTags(RouteAbility.class, "mall", "region", "cn")));
+        Assertions.assertEquals(names("app-us"),
+                names(flexPoint.findAbilitysByCodeAndTags(RouteAbility.class, "mall", "channel", "app", "gray", true)));
+        Assertions.assertEquals(names("app-cn"),
+                names(flexPoint.findAbilitysByCodeAndTags(RouteAbility.class, "mall", "channel", "app", "gray", null)));
+        Assertions.assertTrue(flexPoint.findAbilitysByCodeAndTags(RouteAbility.class, "mall", "region", "eu").isEmpty());
+        Assertions.assertTrue(flexPoint.findAbilitysByCodeAndTags(RouteAbility.class, "unknown", "region", "cn").isEmpty());
+    }
+
+    @Test
+    public void testIndexFollowsRegistry() {
+        Assertions.assertEquals(1, flexPoint.findAbilitysByCodeAndTags(RouteAbility.class, "mall", "region", "us").size());
+        flexPoint.register(new Route("mall", "web-us", "channel", "web", "region", "us"));
+        Assertions.assertEquals(names("app-us", "web-us"),
+                names(flexPoint.findAbilitysByCodeAndTags(RouteAbility.class, "mall", "region", "us")));
+    }
+
+    private static List<String> names(String... names) {
+        return Arrays.asList(names);
+    }
+
+    private static List<String> names(List<RouteAbility> abilities) {
+        return abilities.stream().map(RouteAbility::name).collect(Collectors.toList());
+    }
+}
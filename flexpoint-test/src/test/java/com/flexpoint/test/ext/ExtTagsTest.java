@@ -0,0 +1,66 @@
+package com.flexpoint.test.ext;
+
+import com.flexpoint.core.ext.ExtTags;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+/**
+ * 扩展点标签测试类
+ * @author xiangganluo
+ */
+public class ExtTagsTest {
+
+    @Test
+    public void testTypedAccess() {
+        ExtTags tags = ExtTags.builder()
+                .set("version", "2.0.0")
+                .set("weight", "30")
+                .set("enabled", "true")
+                .set("regions", "cn, us;eu")
+                .set("priority", 5)
+                .build();
+
+        Assertions.assertEquals(5, tags.size());
+        Assertions.assertEquals("2.0.0", tags.getString("version"));
+        Assertions.assertEquals(30, tags.getInt("weight"));
+        Assertions.assertNull(tags.getInt("version"));
+        Assertions.assertEquals(5, tags.getInt("priority"));
+        Assertions.assertTrue(tags.getBoolean("enabled"));
+        Assertions.assertEquals(new HashSet<>(Arrays.asList("cn", "us", "eu")), tags.getSet("regions"));
+        Assertions.assertEquals(Arrays.asList("cn", "us", "eu"), tags.getList("regions"));
+        Assertions.assertSame(tags.getSet("regions"), tags.getSet("regions"));
+        Assertions.assertTrue(tags.has("priority", 5));
+        Assertions.assertFalse(tags.has("priority", "5"));
+        Assertions.assertEquals("2.0.0", tags.getAll().get("version"));
+    }
+
+    @Test
+    public void testMissingKeys() {
+        ExtTags tags = ExtTags.builder().set("version", "1.0.0").build();
+        Assertions.assertNull(tags.get("never-interned-key"));
+        Assertions.assertEquals("d", tags.getString("never-interned-key", "d"));
+        Assertions.assertTrue(tags.getSet("never-interned-key").isEmpty());
+        Assertions.assertSame(ExtTags.empty(), ExtTags.builder().build());
+        Assertions.assertTrue(ExtTags.empty().isEmpty());
+    }
+
+    @Test
+    public void testSetAllSkipsNullsAndViewsAreReused() {
+        Map<String, Object> source = new HashMap<>();
+        source.put("version", "1.0.0");
+        source.put("region", null);
+        source.put(null, "ignored");
+        ExtTags tags = ExtTags.builder().setAll(source).build();
+
+        Assertions.assertEquals(1, tags.size());
+        Assertions.assertFalse(tags.has("region"));
+        Assertions.assertSame(tags.getAll(), tags.getAll());
+        Assertions.assertEquals(new HashSet<>(Arrays.asList("version")), tags.keySet());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> tags.keySet().add("other"));
+    }
+}
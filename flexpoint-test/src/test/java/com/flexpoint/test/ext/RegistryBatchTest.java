@@ -0,0 +1,90 @@
+package com.flexpoint.test.ext;
+
+import com.flexpoint.core.FlexPoint;
+import com.flexpoint.core.FlexPointBuilder;
+import com.flexpoint.core.config.FlexPointConfig;
+import com.flexpoint.core.event.DefaultEventBus;
+import com.flexpoint.core.event.EventPublisher;
+import com.flexpoint.core.event.EventType;
+import com.flexpoint.core.ext.ExtAbility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 注册中心批量注册测试类
+ * @author xiangganluo
+ */
+public class RegistryBatchTest {
+
+    public interface TenantAbility extends ExtAbility {
+        String tenant();
+    }
+    static class Tenant implements TenantAbility {
+        private final String code;
+        Tenant(String code) { this.code = code; }
+        @Override public String getCode() { return code; }
+        @Override public String tenant() { return code; }
+    }
+
+    @AfterEach
+    public void resetEventBus() {
+        EventPublisher.setEventBus(null);
+    }
+
+    @Test
+    public void testRegisterAllAndReplaceAll() {
+        FlexPoint flexPoint = FlexPointBuilder.create(new FlexPointConfig()).build();
+        List<Tenant> bundle = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            bundle.add(new Tenant("tenant-" + i));
+        }
+        flexPoint.registerAll(bundle);
+        Assertions.assertEquals(100, flexPoint.getAllExt(TenantAbility.class).size());
+        Assertions.assertEquals("tenant-42",
+                flexPoint.findAbilityByCode(TenantAbility.class, "tenant-42").tenant());
+
+        Tenant redeployed = new Tenant("tenant-42");
+        flexPoint.replaceAll(Collections.singletonList(bundle.get(42)), Arrays.asList(redeployed, new Tenant("tenant-100")));
+        List<TenantAbility> all = flexPoint.getAllExt(TenantAbility.class);
+        Assertions.assertEquals(101, all.size());
+        Assertions.assertSame(redeployed, all.get(99));
+        Assertions.assertEquals(1, flexPoint.findAbilitysByCode(TenantAbility.class, "tenant-42").size());
+    }
+
+    @Test
+    public void testBatchPublishesPerInstanceEvents() throws InterruptedException {
+        FlexPoint flexPoint = FlexPointBuilder.create(new FlexPointConfig()).build();
+        DefaultEventBus eventBus = new DefaultEventBus();
+        Map<EventType, Integer> published = new ConcurrentHashMap<>();
+        CountDownLatch done = new CountDownLatch(6);
+        eventBus.subscribe(eventContext -> {
+            if (eventContext.getEventType() == EventType.EXT_REGISTERED
+                    || eventContext.getEventType() == EventType.EXT_UNREGISTERED
+                    || eventContext.getEventType() == EventType.EXT_BATCH_CHANGED) {
+                published.merge(eventContext.getEventType(), 1, Integer::sum);
+                done.countDown();
+            }
+        });
+        EventPublisher.setEventBus(eventBus);
+
+        Tenant first = new Tenant("tenant-a");
+        flexPoint.registerAll(Arrays.asList(first, new Tenant("tenant-b")));
+        flexPoint.replaceAll(Collections.singletonList(first), Collections.singletonList(new Tenant("tenant-c")));
+
+        Assertions.assertTrue(done.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(2, published.get(EventType.EXT_BATCH_CHANGED).intValue());
+        Assertions.assertEquals(3, published.get(EventType.EXT_REGISTERED).intValue());
+        Assertions.assertEquals(1, published.get(EventType.EXT_UNREGISTERED).intValue());
+        eventBus.shutdown();
+    }
+}
@@ -0,0 +1,104 @@
+package com.flexpoint.test.monitor;
+
+import com.flexpoint.common.exception.FlexPointConfigException;
+import com.flexpoint.core.config.FlexPointConfig;
+import com.flexpoint.core.config.FlexPointConfigValidator;
+import com.flexpoint.core.event.OverflowPolicy;
+import com.flexpoint.core.ext.ExtAbility;
+import com.flexpoint.core.monitor.AsyncExtMonitor;
+import com.flexpoint.core.monitor.ExtMetrics;
+import com.flexpoint.core.monitor.handler.MetricsHandler;
+import com.flexpoint.core.monitor.handler.MonitorHandler;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 异步监控测试类
+ * @author xiangganluo
+ */
+public class AsyncExtMonitorTest {
+
+    static class Cart implements ExtAbility {
+        @Override public String getCode() { return "cart"; }
+    }
+
+    @Test
+    public void testConcurrentProducersAreAllRecorded() throws InterruptedException {
+        FlexPointConfig.MonitorConfig config = new FlexPointConfig.MonitorConfig();
+        config.setAsyncQueueSize(1 << 16);
+        config.setAsyncOverflowPolicy(OverflowPolicy.BLOCK);
+        AsyncExtMonitor monitor = new AsyncExtMonitor(config);
+        monitor.addHandler(new MetricsHandler());
+
+        Cart cart = new Cart();
+        Thread[] producers = new Thread[4];
+        for (int t = 0; t < producers.length; t++) {
+            producers[t] = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    monitor.recordInvocationNanos(cart, "add", 1000L, i % 100 != 0);
+                }
+            });
+            producers[t].start();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        monitor.recordException(cart, "add", new IllegalStateException());
+        monitor.shutdown();
+
+        ExtMetrics metrics = monitor.getExtMetrics(cart);
+        Assertions.assertEquals(0, monitor.getDroppedCount());
+        Assertions.assertEquals(40_001, monitor.getProcessedCount());
+        Assertions.assertEquals(40_000, metrics.getTotalInvocations());
+        Assertions.assertEquals(400, metrics.getFailureInvocations());
+        Assertions.assertEquals(1, metrics.getExceptionCount());
+    }
+
+    @Test
+    public void testOverflowDropsWithoutRunningOnCaller() throws InterruptedException {
+        FlexPointConfig.MonitorConfig config = new FlexPointConfig.MonitorConfig();
+        config.setAsyncQueueSize(4);
+        AsyncExtMonitor monitor = new AsyncExtMonitor(config);
+        CountDownLatch release = new CountDownLatch(1);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        monitor.addHandler(new MonitorHandler() {
+            @Override
+            public void handleInvocation(ExtAbility extAbility, long duration, boolean success, ExtMetrics metrics) {
+                threads.add(Thread.currentThread().getName());
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            @Override
+            public void handleException(ExtAbility extAbility, Throwable exception, ExtMetrics metrics) {
+            }
+        });
+
+        Cart cart = new Cart();
+        for (int i = 0; i < 100; i++) {
+            monitor.recordInvocationNanos(cart, "add", 1000L, true);
+        }
+        Assertions.assertTrue(monitor.getDroppedCount() >= 100 - 4 - 1);
+        release.countDown();
+        monitor.shutdown();
+        Assertions.assertEquals(100, monitor.getDroppedCount() + monitor.getProcessedCount());
+        Assertions.assertFalse(threads.contains(Thread.currentThread().getName()));
+    }
+
+    @Test
+    public void testUnsupportedOverflowPolicyIsRejected() {
+        for (OverflowPolicy policy : new OverflowPolicy[]{OverflowPolicy.CALLER_RUNS, OverflowPolicy.SAMPLE, OverflowPolicy.DROP_OLDEST}) {
+            FlexPointConfig config = FlexPointConfig.defaultConfig();
+            config.getMonitor().setAsyncOverflowPolicy(policy);
+            Assertions.assertThrows(FlexPointConfigException.class, () -> FlexPointConfigValidator.validateAndProcess(config));
+            Assertions.assertThrows(FlexPointConfigException.class, () -> new AsyncExtMonitor(config.getMonitor()));
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.flexpoint.test.monitor;
+
+import com.flexpoint.core.FlexPoint;
+import com.flexpoint.core.FlexPointBuilder;
+import com.flexpoint.core.config.FlexPointConfig;
+import com.flexpoint.core.event.DefaultEventBus;
+import com.flexpoint.core.event.EventPublisher;
+import com.flexpoint.core.event.EventType;
+import com.flexpoint.core.ext.ExtAbility;
+import com.flexpoint.core.ext.proxy.ExtInvocationDispatcher;
+import com.flexpoint.core.monitor.DefaultExtMonitor;
+import com.flexpoint.core.monitor.ExtMetrics;
+import com.flexpoint.core.monitor.handler.MetricsHandler;
+import com.flexpoint.core.monitor.sampling.InvocationSampler;
+import com.flexpoint.core.monitor.sampling.SamplingPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 调用事件采样测试类
+ * @author xiangganluo
+ */
+public class InvocationSamplingTest {
+
+    public interface PriceAbility extends ExtAbility {
+        long price();
+    }
+    static class Price implements PriceAbility {
+        @Override public String getCode() { return "price"; }
+        @Override public long price() { return 1L; }
+    }
+
+    @AfterEach
+    public void resetEventBus() {
+        EventPublisher.setEventBus(null);
+    }
+
+    @Test
+    public void testCountersExactWhileEventsSampled() throws Throwable {
+        FlexPointConfig.SamplingConfig sampling = new FlexPointConfig.SamplingConfig();
+        sampling.setEnabled(true);
+        FlexPointConfig.SamplingRule priceRule = new FlexPointConfig.SamplingRule();
+        priceRule.setRate(0);
+        sampling.getTypes().put(PriceAbility.class.getSimpleName(), priceRule);
+
+        DefaultExtMonitor monitor = new DefaultExtMonitor(new FlexPointConfig.MonitorConfig());
+        monitor.addHandler(new MetricsHandler());
+        ExtInvocationDispatcher dispatcher = new ExtInvocationDispatcher(monitor, new InvocationSampler(sampling));
+        Assertions.assertTrue(dispatcher.isRecordingMetrics());
+
+        Map<EventType, Integer> published = new EnumMap<>(EventType.class);
+        DefaultEventBus eventBus = new DefaultEventBus();
+        eventBus.subscribe(eventContext -> published.merge(eventContext.getEventType(), 1, Integer::sum));
+        EventPublisher.setEventBus(eventBus);
+
+        Price price = new Price();
+        for (int i = 0; i < 100; i++) {
+            dispatcher.invoke(price, (target, args) -> ((Price) target).price(), "price", null);
+        }
+        Assertions.assertThrows(IllegalStateException.class, () -> dispatcher.invoke(price, (target, args) -> {
+            throw new IllegalStateException("boom");
+        }, "price", null));
+
+        ExtMetrics metrics = monitor.getExtMetrics(price);
+        Assertions.assertEquals(100, metrics.getTotalInvocations());
+        Assertions.assertEquals(1, metrics.getExceptionCount());
+        Assertions.assertNull(published.get(EventType.INVOKE_BEFORE));
+        Assertions.assertNull(published.get(EventType.INVOKE_SUCCESS));
+        Assertions.assertEquals(1, published.get(EventType.INVOKE_EXCEPTION).intValue());
+        eventBus.shutdown();
+    }
+
+    @Test
+    public void testBuilderEventBusDoesNotDoubleCount() throws Throwable {
+        for (boolean samplingEnabled : new boolean[]{false, true}) {
+            FlexPointConfig config = FlexPointConfig.defaultConfig();
+            config.getMonitor().getSampling().setEnabled(samplingEnabled);
+            DefaultExtMonitor monitor = new DefaultExtMonitor(config.getMonitor());
+            monitor.addHandler(new MetricsHandler());
+            DefaultEventBus eventBus = new DefaultEventBus();
+            FlexPoint flexPoint = FlexPointBuilder.create(config).withMonitor(monitor).withEventBus(eventBus).build();
+            ExtInvocationDispatcher dispatcher = flexPoint.getInvocationDispatcher();
+            Assertions.assertEquals(samplingEnabled, dispatcher.isRecordingMetrics());
+
+            // 未启用采样时由监控事件订阅者记录，启用采样时由分派器直接记录，两者只取其一
+            Price price = new Price();
+            for (int i = 0; i < 10; i++) {
+                dispatcher.invoke(price, (target, args) -> ((Price) target).price(), "price", null);
+            }
+            Assertions.assertEquals(10, monitor.getExtMetrics(price).getTotalInvocations());
+            eventBus.shutdown();
+        }
+    }
+
+    @Test
+    public void testRateLimitedBudget() {
+        FlexPointConfig.SamplingRule rule = new FlexPointConfig.SamplingRule();
+        rule.setMaxEventsPerSecond(10);
+        rule.setSlowThresholdMillis(50);
+        SamplingPolicy policy = new SamplingPolicy(rule);
+
+        int sampled = 0;
+        for (int i = 0; i < 1000; i++) {
+            if (policy.sample()) {
+                sampled++;
+            }
+        }
+        Assertions.assertTrue(sampled >= 10 && sampled <= 20);
+        Assertions.assertTrue(policy.keepResult(50, false));
+        Assertions.assertFalse(policy.keepResult(49, false));
+        Assertions.assertTrue(policy.keepResult(0, true));
+    }
+}
@@ -0,0 +1,61 @@
+package com.flexpoint.test.monitor;
+
+import com.flexpoint.core.monitor.ExtMetricsImpl;
+import com.flexpoint.core.monitor.metrics.HistogramSnapshot;
+import com.flexpoint.core.monitor.metrics.LatencyHistogram;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 延迟直方图测试类
+ * @author xiangganluo
+ */
+public class LatencyHistogramTest {
+
+    @Test
+    public void testPercentilesWithinRelativeError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        // 1..100000微秒均匀分布
+        for (long v = 1; v <= 100_000; v++) {
+            histogram.record(v);
+        }
+        HistogramSnapshot snapshot = histogram.snapshot();
+        Assertions.assertEquals(100_000, snapshot.getCount());
+        Assertions.assertEquals(100_000, snapshot.getMax());
+        assertWithin(50_000, snapshot.getP50());
+        assertWithin(90_000, snapshot.getP90());
+        assertWithin(99_000, snapshot.getP99());
+        assertWithin(99_900, snapshot.getP999());
+        Assertions.assertEquals(50_000.5, snapshot.getMean(), 0.001);
+    }
+
+    @Test
+    public void testSmallAndHugeValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(0);
+        histogram.record(7);
+        histogram.record(Long.MAX_VALUE);
+        HistogramSnapshot snapshot = histogram.snapshot();
+        Assertions.assertEquals(0, snapshot.getValueAtPercentile(0));
+        Assertions.assertEquals(7, snapshot.getP50());
+        Assertions.assertEquals(Long.MAX_VALUE, snapshot.getMax());
+        Assertions.assertTrue(snapshot.getValueAtPercentile(100) > 1L << 36);
+    }
+
+    @Test
+    public void testSubMillisecondInvocationsKeepPrecision() {
+        ExtMetricsImpl metrics = new ExtMetricsImpl();
+        for (int i = 0; i < 100; i++) {
+            metrics.recordInvocationNanos(250_000L, true);
+        }
+        Assertions.assertEquals(100, metrics.getTotalInvocations());
+        Assertions.assertEquals(0.25, metrics.getAverageResponseTime(), 0.0001);
+        Assertions.assertEquals(25_000_000L, metrics.getTotalDurationNanos());
+        assertWithin(250, metrics.getLatencySnapshot().getP50());
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        Assertions.assertTrue(Math.abs(actual - expected) <= expected / 32 + 1,
+            "expected ~" + expected + " but was " + actual);
+    }
+}
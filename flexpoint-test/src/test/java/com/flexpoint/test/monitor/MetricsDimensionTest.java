@@ -0,0 +1,87 @@
+package com.flexpoint.test.monitor;
+
+import com.flexpoint.core.config.FlexPointConfig;
+import com.flexpoint.core.ext.ExtAbility;
+import com.flexpoint.core.monitor.DefaultExtMonitor;
+import com.flexpoint.core.monitor.ExtMetrics;
+import com.flexpoint.core.monitor.handler.MetricsHandler;
+import com.flexpoint.core.monitor.metrics.MetricsDimension;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+/**
+ * 指标维度测试类
+ * @author xiangganluo
+ */
+public class MetricsDimensionTest {
+
+    static class Tenant implements ExtAbility {
+        private final String code;
+        Tenant(String code) { this.code = code; }
+        @Override public String getCode() { return code; }
+    }
+
+    @Test
+    public void testMethodAndCodeDimensionsFoldIntoOther() {
+        FlexPointConfig.DimensionConfig dimension = new FlexPointConfig.DimensionConfig();
+        dimension.setMaxMethodsPerExt(2);
+        dimension.setMaxCodesPerExt(3);
+        DefaultExtMonitor monitor = new DefaultExtMonitor(new FlexPointConfig.MonitorConfig());
+        monitor.addHandler(new MetricsHandler(dimension));
+
+        for (int i = 0; i < 5; i++) {
+            Tenant tenant = new Tenant("tenant-" + i);
+            monitor.recordInvocationNanos(tenant, "method-" + i, 1000L, true);
+            monitor.recordInvocationNanos(tenant, "method-0", 1000L, i != 4);
+        }
+        Tenant tenant = new Tenant("tenant-0");
+        monitor.recordException(tenant, "method-1", new IllegalStateException());
+
+        Assertions.assertEquals(10, monitor.getExtMetrics(tenant).getTotalInvocations());
+
+        Map<String, ExtMetrics> methods = monitor.getDimensionMetrics(tenant, MetricsDimension.METHOD);
+        Assertions.assertEquals(2, methods.size());
+        Assertions.assertEquals(6, methods.get("method-0").getTotalInvocations());
+        Assertions.assertEquals(1, methods.get("method-0").getFailureInvocations());
+        Assertions.assertEquals(1, methods.get("method-1").getExceptionCount());
+        Assertions.assertEquals(3, monitor.getDimensionOverflow(tenant, MetricsDimension.METHOD).getTotalInvocations());
+
+        Map<String, ExtMetrics> codes = monitor.getDimensionMetrics(tenant, MetricsDimension.CODE);
+        Assertions.assertEquals(3, codes.size());
+        Assertions.assertEquals(2, codes.get("tenant-2").getTotalInvocations());
+        Assertions.assertEquals(4, monitor.getDimensionOverflow(tenant, MetricsDimension.CODE).getTotalInvocations());
+    }
+
+    @Test
+    public void testDisabledDimensionIsEmpty() {
+        FlexPointConfig.DimensionConfig dimension = new FlexPointConfig.DimensionConfig();
+        dimension.setCodeEnabled(false);
+        DefaultExtMonitor monitor = new DefaultExtMonitor(new FlexPointConfig.MonitorConfig());
+        monitor.addHandler(new MetricsHandler(dimension));
+
+        Tenant tenant = new Tenant("tenant-0");
+        monitor.recordInvocation(tenant, 1L, true);
+        Assertions.assertEquals(1, monitor.getExtMetrics(tenant).getTotalInvocations());
+        Assertions.assertTrue(monitor.getDimensionMetrics(tenant, MetricsDimension.CODE).isEmpty());
+        Assertions.assertTrue(monitor.getDimensionMetrics(tenant, MetricsDimension.METHOD).isEmpty());
+    }
+
+    @Test
+    public void testRealOtherValueDoesNotCollideWithOverflow() {
+        FlexPointConfig.DimensionConfig dimension = new FlexPointConfig.DimensionConfig();
+        dimension.setMaxCodesPerExt(1);
+        MetricsHandler handler = new MetricsHandler(dimension);
+
+        Tenant other = new Tenant(MetricsDimension.OTHER);
+        handler.handleInvocationNanos(other, "m", 1000L, true, null);
+        handler.handleInvocationNanos(new Tenant("overflowed"), "m", 1000L, false, null);
+
+        Map<String, ExtMetrics> codes = handler.getDimensionMetrics(other, MetricsDimension.CODE);
+        Assertions.assertEquals(1, codes.size());
+        Assertions.assertEquals(1, codes.get(MetricsDimension.OTHER).getSuccessInvocations());
+        Assertions.assertEquals(0, codes.get(MetricsDimension.OTHER).getFailureInvocations());
+        Assertions.assertEquals(1, handler.getDimensionOverflow(other, MetricsDimension.CODE).getFailureInvocations());
+    }
+}
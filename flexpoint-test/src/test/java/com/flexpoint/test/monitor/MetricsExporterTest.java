@@ -0,0 +1,107 @@
+package com.flexpoint.test.monitor;
+
+import com.flexpoint.core.FlexPoint;
+import com.flexpoint.core.FlexPointBuilder;
+import com.flexpoint.core.config.FlexPointConfig;
+import com.flexpoint.core.ext.ExtAbility;
+import com.flexpoint.core.monitor.ExtMetrics;
+import com.flexpoint.core.monitor.enums.CollectorType;
+import com.flexpoint.core.monitor.handler.MetricsHandler;
+import com.flexpoint.core.monitor.metrics.MetricsCollector;
+import com.flexpoint.core.monitor.metrics.MetricsExporter;
+import com.flexpoint.core.monitor.metrics.MetricsSnapshot;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 定时指标导出测试类
+ * @author xiangganluo
+ */
+public class MetricsExporterTest {
+
+    static class Stock implements ExtAbility {
+        @Override public String getCode() { return "stock"; }
+    }
+
+    @Test
+    public void testBatchesCarryDeltasSincePreviousExport() {
+        MetricsHandler handler = new MetricsHandler();
+        List<List<MetricsSnapshot>> batches = new CopyOnWriteArrayList<>();
+        List<CollectorType> types = new CopyOnWriteArrayList<>();
+        MetricsCollector collector = new MetricsCollector() {
+            @Override
+            public void collect(String ext, ExtMetrics metrics, CollectorType collectorType) {
+                Assertions.fail("定时导出应批量采集");
+            }
+            @Override
+            public void collectBatch(List<MetricsSnapshot> snapshots, CollectorType collectorType) {
+                batches.add(new ArrayList<>(snapshots));
+                types.add(collectorType);
+            }
+        };
+        MetricsExporter exporter = new MetricsExporter(handler, Collections.singletonList(collector), 60_000L);
+
+        Stock stock = new Stock();
+        for (int i = 0; i < 10; i++) {
+            handler.handleInvocationNanos(stock, "reserve", 2_000_000L, true, null);
+        }
+        exporter.exportNow();
+        for (int i = 0; i < 5; i++) {
+            handler.handleInvocationNanos(stock, "reserve", 4_000_000L, i != 0, null);
+        }
+        exporter.exportNow();
+
+        Assertions.assertEquals(2, batches.size());
+        Assertions.assertEquals(CollectorType.SCHEDULED, types.get(0));
+        MetricsSnapshot first = batches.get(0).get(0);
+        Assertions.assertEquals(stock.getExtId(), first.getExtId());
+        Assertions.assertEquals(10, first.getDelta().getTotalInvocations());
+
+        MetricsSnapshot second = batches.get(1).get(0);
+        Assertions.assertEquals(15, second.getTotalInvocations());
+        MetricsSnapshot delta = second.getDelta();
+        Assertions.assertEquals(5, delta.getTotalInvocations());
+        Assertions.assertEquals(1, delta.getFailureInvocations());
+        Assertions.assertEquals(4.0, delta.getAverageResponseTime(), 0.0001);
+        Assertions.assertEquals(5, delta.getLatencySnapshot().getCount());
+        Assertions.assertEquals(4, delta.getP50ResponseTime());
+
+        // 快照不随后续调用变化
+        handler.handleInvocationNanos(stock, "reserve", 1_000_000L, true, null);
+        Assertions.assertEquals(15, second.getTotalInvocations());
+        Assertions.assertEquals(16, handler.getAllMetrics().get(stock.getExtId()).getTotalInvocations());
+    }
+
+    @Test
+    public void testBuilderCollectsInRealtimeUnlessExportEnabled() {
+        List<CollectorType> types = new CopyOnWriteArrayList<>();
+        MetricsCollector collector = (ext, metrics, collectorType) -> types.add(collectorType);
+        Stock stock = new Stock();
+
+        FlexPointConfig config = FlexPointConfig.defaultConfig();
+        Assertions.assertFalse(config.getMonitor().getExport().isEnabled());
+        FlexPoint realtime = FlexPointBuilder.create(config).withCollectors(Collections.singletonList(collector)).build();
+        Assertions.assertNull(realtime.getMetricsExporter());
+        realtime.getExtMonitor().recordInvocation(stock, 1L, true);
+        Assertions.assertEquals(Collections.singletonList(CollectorType.REALTIME), types);
+
+        types.clear();
+        FlexPointConfig exportConfig = FlexPointConfig.defaultConfig();
+        exportConfig.getMonitor().getExport().setEnabled(true);
+        exportConfig.getMonitor().getExport().setIntervalMillis(60_000L);
+        FlexPoint scheduled = FlexPointBuilder.create(exportConfig).withCollectors(Collections.singletonList(collector)).build();
+        try {
+            scheduled.getExtMonitor().recordInvocation(stock, 1L, true);
+            Assertions.assertTrue(types.isEmpty());
+            scheduled.getMetricsExporter().exportNow();
+            Assertions.assertEquals(Collections.singletonList(CollectorType.SCHEDULED), types);
+        } finally {
+            scheduled.getMetricsExporter().shutdown();
+        }
+    }
+}
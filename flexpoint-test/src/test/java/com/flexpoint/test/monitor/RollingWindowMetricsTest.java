@@ -0,0 +1,70 @@
+package com.flexpoint.test.monitor;
+
+import com.flexpoint.core.monitor.ExtMetricsImpl;
+import com.flexpoint.core.monitor.metrics.MetricsWindow;
+import com.flexpoint.core.monitor.metrics.RollingWindowMetrics;
+import com.flexpoint.core.monitor.metrics.WindowSnapshot;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 滚动窗口指标测试类
+ * @author xiangganluo
+ */
+public class RollingWindowMetricsTest {
+
+    @Test
+    public void testWindowsOnlyCountCompletedBuckets() {
+        AtomicLong clock = new AtomicLong(TimeUnit.MINUTES.toMillis(1000));
+        RollingWindowMetrics windows = new RollingWindowMetrics(clock::get);
+
+        // 每秒10次调用，持续2分钟，每秒1次失败
+        for (int second = 0; second < 120; second++) {
+            for (int i = 0; i < 10; i++) {
+                windows.record(TimeUnit.MILLISECONDS.toNanos(2), i != 0);
+            }
+            clock.addAndGet(1000);
+        }
+        windows.recordException();
+
+        WindowSnapshot oneSecond = windows.snapshot(MetricsWindow.ONE_SECOND);
+        Assertions.assertEquals(10, oneSecond.getTotalInvocations());
+        Assertions.assertEquals(10.0, oneSecond.getQPS(), 0.001);
+        Assertions.assertEquals(10, oneSecond.getLatencySnapshot().getCount());
+        Assertions.assertEquals(oneSecond.getQPS(), windows.getQPS(MetricsWindow.ONE_SECOND), 0.001);
+
+        WindowSnapshot oneMinute = windows.snapshot(MetricsWindow.ONE_MINUTE);
+        Assertions.assertEquals(600, oneMinute.getTotalInvocations());
+        Assertions.assertEquals(0.1, oneMinute.getErrorRate(), 0.0001);
+        Assertions.assertEquals(2.0, oneMinute.getAverageResponseTime(), 0.0001);
+        Assertions.assertEquals(600, oneMinute.getLatencySnapshot().getCount());
+        Assertions.assertEquals(0, oneMinute.getExceptionCount());
+
+        WindowSnapshot fiveMinutes = windows.snapshot(MetricsWindow.FIVE_MINUTES);
+        Assertions.assertEquals(1200, fiveMinutes.getTotalInvocations());
+        Assertions.assertEquals(4.0, fiveMinutes.getQPS(), 0.001);
+        Assertions.assertEquals(1200, fiveMinutes.getLatencySnapshot().getCount());
+        Assertions.assertEquals(1200, windows.getInvocations(MetricsWindow.FIVE_MINUTES));
+    }
+
+    @Test
+    public void testOldBucketsExpire() {
+        AtomicLong clock = new AtomicLong(TimeUnit.MINUTES.toMillis(1000));
+        ExtMetricsImpl metrics = new ExtMetricsImpl(new RollingWindowMetrics(clock::get));
+        for (int i = 0; i < 60; i++) {
+            metrics.recordInvocationNanos(1000L, true);
+        }
+        clock.addAndGet(1000);
+        Assertions.assertEquals(1.0, metrics.getQPS(), 0.001);
+
+        // 空闲20分钟后窗口清零，累计计数保留
+        clock.addAndGet(TimeUnit.MINUTES.toMillis(20));
+        metrics.recordInvocationNanos(1000L, false);
+        Assertions.assertEquals(0.0, metrics.getQPS(), 0.001);
+        Assertions.assertEquals(0, metrics.getWindowSnapshot(MetricsWindow.FIFTEEN_MINUTES).getTotalInvocations());
+        Assertions.assertEquals(61, metrics.getTotalInvocations());
+    }
+}
@@ -0,0 +1,89 @@
+package com.flexpoint.test.prometheus;
+
+import com.flexpoint.core.ext.ExtAbility;
+import com.flexpoint.core.monitor.handler.MetricsHandler;
+import com.flexpoint.prometheus.PrometheusHttpServer;
+import com.flexpoint.prometheus.PrometheusTextFormatter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Prometheus指标输出测试类
+ * @author xiangganluo
+ */
+public class PrometheusExpositionTest {
+
+    static class Pay implements ExtAbility {
+        @Override public String getCode() { return "wechat\"pay"; }
+    }
+
+    @Test
+    public void testTextFormat() throws IOException {
+        MetricsHandler handler = populatedHandler();
+        StringWriter out = new StringWriter();
+        new PrometheusTextFormatter(handler).write(out);
+        String text = out.toString();
+        String ext = new Pay().getExtId();
+
+        Assertions.assertTrue(text.contains("# TYPE flexpoint_invocations_total counter\n"));
+        Assertions.assertTrue(text.contains("flexpoint_invocations_total{ext=\"" + ext + "\",result=\"success\"} 3\n"));
+        Assertions.assertTrue(text.contains("flexpoint_invocations_total{ext=\"" + ext + "\",result=\"failure\"} 1\n"));
+        Assertions.assertTrue(text.contains("flexpoint_exceptions_total{ext=\"" + ext + "\"} 1\n"));
+        // 1500微秒和3000微秒分别落在 2047 和 4095 微秒边界内
+        Assertions.assertTrue(text.contains("flexpoint_invocation_duration_seconds_bucket{ext=\"" + ext + "\",le=\"0.001023\"} 0\n"));
+        Assertions.assertTrue(text.contains("flexpoint_invocation_duration_seconds_bucket{ext=\"" + ext + "\",le=\"0.002047\"} 3\n"));
+        Assertions.assertTrue(text.contains("flexpoint_invocation_duration_seconds_bucket{ext=\"" + ext + "\",le=\"0.004095\"} 4\n"));
+        Assertions.assertTrue(text.contains("flexpoint_invocation_duration_seconds_bucket{ext=\"" + ext + "\",le=\"+Inf\"} 4\n"));
+        Assertions.assertTrue(text.contains("flexpoint_invocation_duration_seconds_count{ext=\"" + ext + "\"} 4\n"));
+        Assertions.assertTrue(text.contains("flexpoint_invocation_rate{ext=\"" + ext + "\",window=\"1m\"} "));
+        Assertions.assertTrue(text.contains("flexpoint_method_invocations_total{ext=\"" + ext + "\",method=\"pay\",result=\"success\"} 2\n"));
+        Assertions.assertTrue(text.contains("flexpoint_method_exceptions_total{ext=\"" + ext + "\",method=\"refund\"} 1\n"));
+        Assertions.assertTrue(text.contains("flexpoint_code_invocations_total{ext=\"" + ext + "\",code=\"wechat\\\"pay\",result=\"failure\"} 1\n"));
+    }
+
+    @Test
+    public void testHttpServer() throws IOException {
+        PrometheusHttpServer server = new PrometheusHttpServer(populatedHandler(),
+            new InetSocketAddress("127.0.0.1", 0), PrometheusHttpServer.DEFAULT_PATH);
+        server.start();
+        try {
+            URL url = new URL("http://127.0.0.1:" + server.getPort() + PrometheusHttpServer.DEFAULT_PATH);
+            HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+            Assertions.assertEquals(200, connection.getResponseCode());
+            Assertions.assertEquals(PrometheusTextFormatter.CONTENT_TYPE, connection.getContentType());
+            String body;
+            try (InputStream in = connection.getInputStream()) {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                byte[] buffer = new byte[4096];
+                int n;
+                while ((n = in.read(buffer)) > 0) {
+                    bytes.write(buffer, 0, n);
+                }
+                body = new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+            }
+            Assertions.assertTrue(body.contains("flexpoint_invocations_total{ext="));
+        } finally {
+            server.stop();
+        }
+    }
+
+    private static MetricsHandler populatedHandler() {
+        MetricsHandler handler = new MetricsHandler();
+        Pay pay = new Pay();
+        handler.handleInvocationNanos(pay, "pay", 1_500_000L, true, null);
+        handler.handleInvocationNanos(pay, "pay", 1_500_000L, true, null);
+        handler.handleInvocationNanos(pay, "refund", 1_500_000L, true, null);
+        handler.handleInvocationNanos(pay, "refund", 3_000_000L, false, null);
+        handler.handleException(pay, "refund", new IllegalStateException(), null);
+        return handler;
+    }
+}
@@ -0,0 +1,112 @@
+package com.flexpoint.test.proxy;
+
+import com.flexpoint.common.annotations.FpSelector;
+import com.flexpoint.common.exception.ExtNotFoundException;
+import com.flexpoint.core.FlexPoint;
+import com.flexpoint.core.FlexPointBuilder;
+import com.flexpoint.core.config.FlexPointConfig;
+import com.flexpoint.core.event.DefaultEventBus;
+import com.flexpoint.core.event.EventPublisher;
+import com.flexpoint.core.event.EventType;
+import com.flexpoint.core.ext.ExtAbility;
+import com.flexpoint.core.selector.resolves.CodeSelector;
+import com.flexpoint.spring.proxy.ExtAbilityInvocationHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cglib.proxy.Proxy;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Spring注入代理调用处理器测试类
+ * @author xiangganluo
+ */
+public class ExtAbilityInvocationHandlerTest {
+    private FlexPoint flexPoint;
+    private DefaultEventBus eventBus;
+    private String currentCode;
+    private final List<String> events = new CopyOnWriteArrayList<>();
+
+    @FpSelector("handlerCodeSelector")
+    public interface PayAbility extends ExtAbility {
+        String pay(int amount);
+    }
+    static class Pay implements PayAbility {
+        private final String code;
+        Pay(String code) { this.code = code; }
+        @Override public String getCode() { return code; }
+        @Override public String pay(int amount) {
+            if (amount < 0) {
+                throw new IllegalArgumentException("amount");
+            }
+            return code + ":" + amount;
+        }
+    }
+
+    @BeforeEach
+    public void setup() {
+        flexPoint = FlexPointBuilder.create(new FlexPointConfig()).build();
+        flexPoint.registerSelector(new CodeSelector(() -> currentCode) {
+            @Override
+            public String getName() {
+                return "handlerCodeSelector";
+            }
+        });
+        flexPoint.register(new Pay("mall"));
+        flexPoint.register(new Pay("logistics"));
+        eventBus = new DefaultEventBus();
+        // 同步订阅，事件上下文可能被复用，只记录需要的字段
+        eventBus.subscribe(eventContext -> {
+            EventType type = eventContext.getEventType();
+            if (type == EventType.INVOKE_SUCCESS || type == EventType.INVOKE_EXCEPTION) {
+                events.add(type + ":" + eventContext.getExtCode() + ":" + eventContext.getMethodName());
+            }
+        });
+        EventPublisher.setEventBus(eventBus);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        EventPublisher.setEventBus(null);
+        eventBus.shutdown();
+    }
+
+    @SuppressWarnings("unchecked")
+    private PayAbility proxy() {
+        return (PayAbility) Proxy.newProxyInstance(PayAbility.class.getClassLoader(), new Class[]{PayAbility.class},
+            new ExtAbilityInvocationHandler(flexPoint, (Class<ExtAbility>) (Class<?>) PayAbility.class));
+    }
+
+    @Test
+    public void testSelectsPerCallAndPublishesEvents() {
+        PayAbility pay = proxy();
+        currentCode = "mall";
+        Assertions.assertEquals("mall:1", pay.pay(1));
+        currentCode = "logistics";
+        Assertions.assertEquals("logistics:2", pay.pay(2));
+        Assertions.assertEquals(2, events.size());
+        Assertions.assertEquals(EventType.INVOKE_SUCCESS + ":mall:pay", events.get(0));
+        Assertions.assertEquals(EventType.INVOKE_SUCCESS + ":logistics:pay", events.get(1));
+    }
+
+    @Test
+    public void testOriginalExceptionPropagates() {
+        PayAbility pay = proxy();
+        currentCode = "mall";
+        IllegalArgumentException e = Assertions.assertThrows(IllegalArgumentException.class, () -> pay.pay(-1));
+        Assertions.assertEquals("amount", e.getMessage());
+        Assertions.assertEquals(1, events.size());
+        Assertions.assertEquals(EventType.INVOKE_EXCEPTION + ":mall:pay", events.get(0));
+    }
+
+    @Test
+    public void testNoMatchThrowsNotFound() {
+        PayAbility pay = proxy();
+        currentCode = "unknown";
+        Assertions.assertThrows(ExtNotFoundException.class, () -> pay.pay(1));
+        Assertions.assertTrue(events.isEmpty());
+    }
+}
@@ -0,0 +1,107 @@
+package com.flexpoint.test.proxy;
+
+import com.flexpoint.core.ext.ExtAbility;
+import com.flexpoint.core.ext.proxy.ExtProxyCache;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * 扩展点代理缓存测试类
+ * @author xiangganluo
+ */
+public class ExtProxyCacheTest {
+
+    public interface GreetAbility extends ExtAbility {
+        String greet(String name);
+    }
+
+    /**
+     * equals只比较code，用于验证缓存按实例引用匹配
+     */
+    static class GreetImpl implements GreetAbility {
+        private final String prefix;
+        GreetImpl(String prefix) { this.prefix = prefix; }
+        @Override public String getCode() { return "greet"; }
+        @Override public String greet(String name) { return prefix + name; }
+        @Override public boolean equals(Object o) { return o instanceof GreetImpl; }
+        @Override public int hashCode() { return 1; }
+    }
+
+    @Test
+    public void testRegisteredProxyIsReused() {
+        ExtProxyCache cache = new ExtProxyCache();
+        GreetImpl ext = new GreetImpl("hi ");
+        cache.put(ext);
+
+        GreetAbility proxy = cache.getProxy(GreetAbility.class, ext);
+        Assertions.assertSame(proxy, cache.getProxy(GreetAbility.class, ext));
+        Assertions.assertEquals("hi bob", proxy.greet("bob"));
+    }
+
+    @Test
+    public void testEqualInstancesKeepOwnProxy() {
+        ExtProxyCache cache = new ExtProxyCache();
+        GreetImpl first = new GreetImpl("hi ");
+        GreetImpl second = new GreetImpl("hello ");
+        cache.put(first);
+        cache.put(second);
+
+        GreetAbility firstProxy = cache.getProxy(GreetAbility.class, first);
+        GreetAbility secondProxy = cache.getProxy(GreetAbility.class, second);
+        Assertions.assertNotSame(firstProxy, secondProxy);
+        Assertions.assertSame(secondProxy, cache.getProxy(GreetAbility.class, second));
+        Assertions.assertEquals("hi bob", firstProxy.greet("bob"));
+        Assertions.assertEquals("hello bob", secondProxy.greet("bob"));
+    }
+
+    @Test
+    public void testEvictedInstanceIsNotCachedAgain() {
+        ExtProxyCache cache = new ExtProxyCache();
+        GreetImpl ext = new GreetImpl("hi ");
+        cache.put(ext);
+        GreetAbility cached = cache.getProxy(GreetAbility.class, ext);
+
+        cache.evict(ext);
+        Assertions.assertFalse(cache.contains(ext));
+
+        // 注销后的读取只临时创建代理，不会重新写入缓存
+        GreetAbility transientProxy = cache.getProxy(GreetAbility.class, ext);
+        Assertions.assertNotSame(cached, transientProxy);
+        Assertions.assertEquals("hi bob", transientProxy.greet("bob"));
+        Assertions.assertFalse(cache.contains(ext));
+    }
+
+    @Test
+    public void testUnregisteredInstanceIsNotCached() {
+        ExtProxyCache cache = new ExtProxyCache();
+        GreetImpl ext = new GreetImpl("hi ");
+
+        Assertions.assertNotSame(cache.getProxy(GreetAbility.class, ext), cache.getProxy(GreetAbility.class, ext));
+        Assertions.assertFalse(cache.contains(ext));
+    }
+
+    @Test
+    public void testBatchPutAndReplace() {
+        ExtProxyCache cache = new ExtProxyCache();
+        GreetImpl first = new GreetImpl("hi ");
+        GreetImpl second = new GreetImpl("hello ");
+        cache.putAll(Arrays.asList(first, second));
+        Assertions.assertTrue(cache.contains(first));
+        Assertions.assertTrue(cache.contains(second));
+        GreetAbility secondProxy = cache.getProxy(GreetAbility.class, second);
+
+        GreetImpl third = new GreetImpl("hey ");
+        cache.replaceAll(Collections.singletonList(first), Collections.singletonList(third));
+        Assertions.assertFalse(cache.contains(first));
+        Assertions.assertTrue(cache.contains(third));
+        Assertions.assertSame(secondProxy, cache.getProxy(GreetAbility.class, second));
+        Assertions.assertEquals("hey bob", cache.getProxy(GreetAbility.class, third).greet("bob"));
+
+        cache.replaceAll(Arrays.asList(second, third), Collections.emptyList());
+        Assertions.assertFalse(cache.contains(second));
+        Assertions.assertFalse(cache.contains(third));
+    }
+}
@@ -0,0 +1,96 @@
+package com.flexpoint.test.proxy;
+
+import com.flexpoint.core.ext.ExtAbility;
+import com.flexpoint.core.ext.proxy.ExtInvoker;
+import com.flexpoint.core.ext.proxy.ExtInvokerTable;
+import com.flexpoint.core.ext.proxy.InvokerFactory;
+import com.flexpoint.core.ext.proxy.InvokerType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 方法调用器工厂测试类
+ * @author xiangganluo
+ */
+public class InvokerFactoryTest {
+
+    public interface CalcAbility extends ExtAbility {
+        int add(int a, int b);
+        void fail(String message);
+        long sum(long a, int b, short c, byte d);
+        String join(String a, String b, String c);
+    }
+    interface HiddenAbility extends ExtAbility {
+        int twice(int value);
+    }
+    static class CalcImpl implements CalcAbility {
+        @Override public String getCode() { return "calc"; }
+        @Override public int add(int a, int b) { return a + b; }
+        @Override public void fail(String message) { throw new IllegalStateException(message); }
+        @Override public long sum(long a, int b, short c, byte d) { return a + b + c + d; }
+        @Override public String join(String a, String b, String c) { return a + b + c; }
+    }
+    static class HiddenImpl implements HiddenAbility {
+        @Override public String getCode() { return "hidden"; }
+        @Override public int twice(int value) { return value * 2; }
+    }
+
+    private final List<InvokerFactory> factories = Arrays.asList(
+            InvokerFactory.reflective(), InvokerFactory.methodHandle(), InvokerFactory.generated());
+
+    @Test
+    public void testInvokeThroughTable() throws Throwable {
+        CalcImpl target = new CalcImpl();
+        Method add = CalcAbility.class.getMethod("add", int.class, int.class);
+        Method getCode = CalcAbility.class.getMethod("getCode");
+        for (InvokerFactory factory : factories) {
+            ExtInvokerTable table = ExtInvokerTable.build(CalcAbility.class, factory);
+            Assertions.assertEquals(5, table.get(add).invoke(target, new Object[]{2, 3}));
+            Assertions.assertEquals("calc", table.get(getCode).invoke(target, null));
+        }
+    }
+
+    @Test
+    public void testOriginalExceptionIsThrown() throws Throwable {
+        CalcImpl target = new CalcImpl();
+        Method fail = CalcAbility.class.getMethod("fail", String.class);
+        for (InvokerFactory factory : factories) {
+            ExtInvokerTable table = ExtInvokerTable.build(CalcAbility.class, factory);
+            IllegalStateException e = Assertions.assertThrows(IllegalStateException.class,
+                    () -> table.get(fail).invoke(target, new Object[]{"boom"}));
+            Assertions.assertEquals("boom", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testInvokerTypeSelectsFactory() {
+        Assertions.assertSame(InvokerFactory.reflective(), InvokerFactory.of(InvokerType.REFLECTIVE));
+        Assertions.assertSame(InvokerFactory.methodHandle(), InvokerFactory.of(InvokerType.METHOD_HANDLE));
+        Assertions.assertSame(InvokerFactory.generated(), InvokerFactory.of(InvokerType.GENERATED));
+    }
+
+    @Test
+    public void testHandleAndGeneratedInvokersCoverAllSignatures() throws Throwable {
+        CalcImpl target = new CalcImpl();
+        for (InvokerFactory factory : Arrays.asList(InvokerFactory.methodHandle(), InvokerFactory.generated())) {
+            // 超过生成调用器的参数上限时退回方法句柄
+            ExtInvoker sum = factory.create(CalcAbility.class.getMethod("sum", long.class, int.class, short.class, byte.class));
+            Assertions.assertEquals(10L, sum.invoke(target, new Object[]{1L, 2, (short) 3, (byte) 4}));
+            ExtInvoker join = factory.create(CalcAbility.class.getMethod("join", String.class, String.class, String.class));
+            Assertions.assertEquals("abc", join.invoke(target, new Object[]{"a", "b", "c"}));
+            ExtInvoker fail = factory.create(CalcAbility.class.getMethod("fail", String.class));
+            Assertions.assertThrows(IllegalStateException.class, () -> fail.invoke(target, new Object[]{"boom"}));
+            // 非公开接口的方法同样可以调用
+            ExtInvoker twice = factory.create(HiddenAbility.class.getMethod("twice", int.class));
+            Assertions.assertEquals(8, twice.invoke(new HiddenImpl(), new Object[]{4}));
+            ExtInvoker toString = factory.create(Object.class.getMethod("toString"));
+            Assertions.assertEquals("calc-impl", toString.invoke(new Object() {
+                @Override public String toString() { return "calc-impl"; }
+            }, null));
+        }
+    }
+}
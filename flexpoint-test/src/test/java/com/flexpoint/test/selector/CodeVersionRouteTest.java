@@ -0,0 +1,117 @@
+package com.flexpoint.test.selector;
+
+import com.flexpoint.common.annotations.FpSelector;
+import com.flexpoint.common.constants.FlexPointConstants;
+import com.flexpoint.core.FlexPoint;
+import com.flexpoint.core.FlexPointBuilder;
+import com.flexpoint.core.config.FlexPointConfig;
+import com.flexpoint.core.ext.ExtAbility;
+import com.flexpoint.core.ext.ExtTags;
+import com.flexpoint.core.selector.resolves.CodeVersionSelector;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * code+version 路由索引测试类
+ * @author xiangganluo
+ */
+public class CodeVersionRouteTest {
+    private FlexPoint flexPoint;
+    private String currentCode;
+    private String currentVersion;
+
+    @FpSelector(FlexPointConstants.CODE_VERSION_SELECTOR_NAME)
+    public interface PayAbility extends ExtAbility {
+        String pay();
+    }
+    static class VersionedPay implements PayAbility {
+        private final String code;
+        private final String version;
+        VersionedPay(String code, String version) { this.code = code; this.version = version; }
+        @Override public String getCode() { return code; }
+        @Override public ExtTags getTags() {
+            return version == null ? ExtTags.empty() : ExtTags.builder().set("version", version).build();
+        }
+        @Override public String pay() { return code + ":" + (version == null ? "default" : version); }
+    }
+
+    @BeforeEach
+    public void setup() {
+        FlexPointConfig config = new FlexPointConfig();
+        config.setEnabled(true);
+        flexPoint = FlexPointBuilder.create(config).build();
+        flexPoint.registerSelector(new CodeVersionSelector(new CodeVersionSelector.CodeVersionResolver() {
+            @Override
+            public String resolveCode() {
+                return currentCode;
+            }
+            @Override
+            public String resolveVersion() {
+                return currentVersion;
+            }
+        }));
+    }
+
+    @Test
+    public void testRouteByCodeAndVersion() {
+        flexPoint.register(new VersionedPay("mall", null));
+        flexPoint.register(new VersionedPay("mall", "2.0.0"));
+        flexPoint.register(new VersionedPay("logistics", "2.0.0"));
+
+        currentCode = "mall";
+        currentVersion = null;
+        Assertions.assertEquals("mall:default", flexPoint.findAbility(PayAbility.class).pay());
+
+        currentVersion = "2.0.0";
+        Assertions.assertEquals("mall:2.0.0", flexPoint.findAbility(PayAbility.class).pay());
+
+        currentCode = "logistics";
+        currentVersion = FlexPointConstants.DEFAULT_VERSION;
+        Assertions.assertNull(flexPoint.findAbility(PayAbility.class));
+
+        currentCode = "unknown";
+        Assertions.assertNull(flexPoint.findAbility(PayAbility.class));
+    }
+
+    @Test
+    public void testIndexFollowsUnregister() {
+        VersionedPay v2 = new VersionedPay("mall", "2.0.0");
+        flexPoint.register(v2);
+
+        currentCode = "mall";
+        currentVersion = "2.0.0";
+        Assertions.assertNotNull(flexPoint.findAbility(PayAbility.class));
+
+        flexPoint.unregister(v2);
+        Assertions.assertNull(flexPoint.findAbility(PayAbility.class));
+    }
+
+    @Test
+    public void testPlainCandidateListMatchesIndexedRoute() {
+        CodeVersionSelector selector = new CodeVersionSelector(new CodeVersionSelector.CodeVersionResolver() {
+            @Override
+            public String resolveCode() {
+                return currentCode;
+            }
+            @Override
+            public String resolveVersion() {
+                return currentVersion;
+            }
+        });
+        // 未携带路由索引的候选列表走逐个过滤路径，不修改调用方的列表
+        List<PayAbility> candidates = Collections.unmodifiableList(Arrays.asList(
+            new VersionedPay("mall", null), new VersionedPay("mall", "2.0.0"), new VersionedPay("logistics", "2.0.0")));
+        currentCode = "mall";
+        currentVersion = "2.0.0";
+        Assertions.assertEquals("mall:2.0.0", selector.select(candidates).pay());
+        currentVersion = null;
+        Assertions.assertEquals("mall:default", selector.select(candidates).pay());
+        currentCode = "unknown";
+        Assertions.assertNull(selector.select(candidates));
+    }
+}
@@ -0,0 +1,117 @@
+package com.flexpoint.test.selector;
+
+import com.flexpoint.common.annotations.FpSelector;
+import com.flexpoint.core.FlexPoint;
+import com.flexpoint.core.FlexPointBuilder;
+import com.flexpoint.core.config.FlexPointConfig;
+import com.flexpoint.core.ext.ExtAbility;
+import com.flexpoint.core.selector.resolves.CodeSelector;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 选择结果缓存测试类
+ * @author xiangganluo
+ */
+public class SelectionCacheTest {
+    private FlexPoint flexPoint;
+    private String currentCode;
+    private final AtomicInteger selectCount = new AtomicInteger();
+
+    @FpSelector("countingCodeSelector")
+    public interface GreetAbility extends ExtAbility {
+        String greet();
+    }
+    static class Greet implements GreetAbility {
+        private final String code;
+        private final String text;
+        Greet(String code, String text) { this.code = code; this.text = text; }
+        @Override public String getCode() { return code; }
+        @Override public String greet() { return text; }
+    }
+
+    @FpSelector("customCodeSelector")
+    public interface PlainAbility extends ExtAbility {
+    }
+    static class Plain implements PlainAbility {
+        private final String code;
+        Plain(String code) { this.code = code; }
+        @Override public String getCode() { return code; }
+    }
+
+    @BeforeEach
+    public void setup() {
+        FlexPointConfig config = new FlexPointConfig();
+        config.getSelector().setCacheEnabled(true);
+        flexPoint = FlexPointBuilder.create(config).build();
+        flexPoint.registerSelector(new CodeSelector(() -> currentCode) {
+            @Override
+            public <T extends ExtAbility> T select(List<T> candidates) {
+                selectCount.incrementAndGet();
+                return super.select(candidates);
+            }
+            @Override
+            public String getName() {
+                return "countingCodeSelector";
+            }
+            @Override
+            public String routingKey() {
+                // 子类只统计选择次数，结果仍只取决于code，显式启用缓存
+                return codeRoutingKey();
+            }
+        });
+    }
+
+    @Test
+    public void testHitSkipsSelection() {
+        flexPoint.register(new Greet("mall", "hello"));
+        currentCode = "mall";
+
+        Assertions.assertEquals("hello", flexPoint.findAbility(GreetAbility.class).greet());
+        Assertions.assertEquals("hello", flexPoint.findAbility(GreetAbility.class).greet());
+        Assertions.assertEquals(1, selectCount.get());
+
+        currentCode = "unknown";
+        Assertions.assertNull(flexPoint.findAbility(GreetAbility.class));
+        Assertions.assertEquals(2, selectCount.get());
+    }
+
+    @Test
+    public void testRegistryChangeInvalidates() {
+        Greet first = new Greet("mall", "first");
+        flexPoint.register(first);
+        currentCode = "mall";
+        Assertions.assertEquals("first", flexPoint.findAbility(GreetAbility.class).greet());
+
+        flexPoint.unregister(first);
+        flexPoint.register(new Greet("mall", "second"));
+        Assertions.assertEquals("second", flexPoint.findAbility(GreetAbility.class).greet());
+        Assertions.assertEquals(2, selectCount.get());
+    }
+
+    @Test
+    public void testSubclassWithoutRoutingKeyIsNotCached() {
+        AtomicInteger customCount = new AtomicInteger();
+        flexPoint.registerSelector(new CodeSelector(() -> currentCode) {
+            @Override
+            public <T extends ExtAbility> T select(List<T> candidates) {
+                customCount.incrementAndGet();
+                return super.select(candidates);
+            }
+            @Override
+            public String getName() {
+                return "customCodeSelector";
+            }
+        });
+        flexPoint.register(new Plain("mall"));
+        currentCode = "mall";
+
+        Assertions.assertNotNull(flexPoint.findAbility(PlainAbility.class));
+        Assertions.assertNotNull(flexPoint.findAbility(PlainAbility.class));
+        Assertions.assertEquals(2, customCount.get());
+    }
+}